@@ -0,0 +1,175 @@
+package backend.academy.mazeTask.benchmark;
+
+import backend.academy.mazeTask.enums.CellType;
+import backend.academy.mazeTask.maze.Coordinate;
+import backend.academy.mazeTask.maze.Maze;
+import backend.academy.mazeTask.maze.generator.KruskalMazeGenerator;
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+
+/**
+ * Виды лабиринтов, на которых измеряются решатели. Все лабиринты строятся детерминированно по зерну.
+ */
+public enum BenchmarkMazeType {
+
+    /**
+     * Идеальный лабиринт без циклов, построенный алгоритмом Краскала.
+     */
+    PERFECT {
+        @Override
+        Maze create(int size, long seed, int braidPercent) {
+            return new KruskalMazeGenerator().generate(size, size, seed);
+        }
+    },
+
+    /**
+     * Идеальный лабиринт, в котором заданный процент тупиков соединен с соседней ячейкой, что добавляет циклы.
+     */
+    BRAIDED {
+        @Override
+        Maze create(int size, long seed, int braidPercent) {
+            final Maze perfect = PERFECT.create(size, seed, braidPercent);
+            final byte[] cells = perfect.cells();
+            final RandomGenerator random = createRandom(seed);
+
+            for (int x = 1; x < size - 1; x += 2) {
+                for (int y = 1; y < size - 1; y += 2) {
+                    if (isDeadEnd(cells, size, x, y) && random.nextInt(PERCENT) < braidPercent) {
+                        openRandomWall(cells, size, x, y, random);
+                    }
+                }
+            }
+
+            return Maze.ofOwnedCells(size, size, cells);
+        }
+    },
+
+    /**
+     * Комната без внутренних стен со случайными типами проходов. Вход находится в левом верхнем углу,
+     * а выход - на противоположной стороне у правого нижнего угла, поэтому поиск пересекает всю комнату.
+     */
+    OPEN {
+        @Override
+        Maze create(int size, long seed, int braidPercent) {
+            final byte[] cells = new byte[size * size];
+            final RandomGenerator random = createRandom(seed);
+
+            Arrays.fill(cells, CellType.WALL.code());
+
+            for (int x = 1; x < size - 1; x++) {
+                for (int y = 1; y < size - 1; y++) {
+                    cells[x * size + y] = PASSAGE_VIEWS[random.nextInt(PASSAGE_VIEWS.length)].code();
+                }
+            }
+
+            cells[1] = CellType.PASSAGE.code();
+            cells[(size - 2) * size + size - 1] = CellType.PASSAGE.code();
+
+            return Maze.ofOwnedCells(size, size, cells);
+        }
+    };
+
+    private static final int PERCENT = 100;
+    private static final int[] ROW_STEPS = {0, 2, 0, -2};
+    private static final int[] COLUMN_STEPS = {2, 0, -2, 0};
+    private static final CellType[] PASSAGE_VIEWS = Arrays.stream(CellType.values())
+        .filter(cellType -> cellType != CellType.WALL)
+        .toArray(CellType[]::new);
+
+    /**
+     * Строит квадратный лабиринт данного вида.
+     *
+     * @param size высота и ширина лабиринта
+     * @param seed зерно генератора случайных чисел
+     * @param braidPercent процент удаляемых тупиков, используется только для {@link #BRAIDED}
+     *
+     * @return лабиринт
+     */
+    abstract Maze create(int size, long seed, int braidPercent);
+
+    /**
+     * Возвращает вход лабиринта - проход в верхней строке.
+     *
+     * @param maze лабиринт
+     *
+     * @return координата входа
+     */
+    static Coordinate findEntry(Maze maze) {
+        for (int y = 0; y < maze.width(); y++) {
+            if (maze.isPassage(maze.getIndex(0, y))) {
+                return new Coordinate(0, y);
+            }
+        }
+
+        throw new IllegalStateException("Maze has no entry in the top row");
+    }
+
+    /**
+     * Возвращает выход лабиринта - проход на левой, нижней или правой границе.
+     * Генераторы выводят выход в левый столбец, а {@link #OPEN} - в правый.
+     *
+     * @param maze лабиринт
+     *
+     * @return координата выхода
+     */
+    static Coordinate findExit(Maze maze) {
+        final int lastRow = maze.height() - 1;
+        final int lastColumn = maze.width() - 1;
+
+        for (int x = 1; x <= lastRow; x++) {
+            if (maze.isPassage(maze.getIndex(x, 0))) {
+                return new Coordinate(x, 0);
+            }
+
+            if (maze.isPassage(maze.getIndex(x, lastColumn))) {
+                return new Coordinate(x, lastColumn);
+            }
+        }
+
+        for (int y = 1; y < lastColumn; y++) {
+            if (maze.isPassage(maze.getIndex(lastRow, y))) {
+                return new Coordinate(lastRow, y);
+            }
+        }
+
+        throw new IllegalStateException("Maze has no exit on the left, bottom or right border");
+    }
+
+    private static RandomGenerator createRandom(long seed) {
+        return RandomGeneratorFactory.of("L64X128MixRandom").create(seed);
+    }
+
+    private static boolean isDeadEnd(byte[] cells, int size, int x, int y) {
+        int openSides = 0;
+
+        for (int i = 0; i < ROW_STEPS.length; i++) {
+            if (cells[(x + ROW_STEPS[i] / 2) * size + y + COLUMN_STEPS[i] / 2] != CellType.WALL.code()) {
+                openSides++;
+            }
+        }
+
+        return openSides == 1;
+    }
+
+    private static void openRandomWall(byte[] cells, int size, int x, int y, RandomGenerator random) {
+        final int lastCell = (size - 1) / 2 * 2 - 1;
+        int wall = -1;
+        int candidates = 0;
+
+        for (int i = 0; i < ROW_STEPS.length; i++) {
+            final int neighbourX = x + ROW_STEPS[i];
+            final int neighbourY = y + COLUMN_STEPS[i];
+            final int wallIndex = (x + ROW_STEPS[i] / 2) * size + y + COLUMN_STEPS[i] / 2;
+
+            if (neighbourX >= 1 && neighbourX <= lastCell && neighbourY >= 1 && neighbourY <= lastCell
+                && cells[wallIndex] == CellType.WALL.code() && random.nextInt(++candidates) == 0) {
+                wall = wallIndex;
+            }
+        }
+
+        if (wall >= 0) {
+            cells[wall] = PASSAGE_VIEWS[random.nextInt(PASSAGE_VIEWS.length)].code();
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package backend.academy.mazeTask.benchmark;
+
+import backend.academy.mazeTask.maze.Coordinate;
+import backend.academy.mazeTask.maze.Maze;
+import backend.academy.mazeTask.maze.MazeSizeLimits;
+import backend.academy.mazeTask.maze.solver.DijkstraMazeSolver;
+import backend.academy.mazeTask.maze.solver.DistanceField;
+import backend.academy.mazeTask.maze.solver.MazeBitboard;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Сравнивает запросы без учета весов по {@link MazeBitboard} с поиском в ширину по очереди индексов
+ * и с взвешенными решателями, которые до сих пор использовались для тех же вопросов.
+ * Запрос идет из левого верхнего угла лабиринта в правый нижний.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BitboardSearchBenchmark {
+
+    @Param({"PERFECT", "BRAIDED", "OPEN"})
+    private BenchmarkMazeType mazeType;
+
+    @Param({"501", "2001"})
+    private int size;
+
+    @Param({"50"})
+    private int braidPercent;
+
+    private Maze maze;
+    private Coordinate start;
+    private Coordinate finish;
+    private MazeBitboard mazeBitboard;
+    private DijkstraMazeSolver dijkstraMazeSolver;
+
+    @Setup
+    public void setup() {
+        MazeSizeLimits.install(MazeSizeLimits.withMaxSize(size, size));
+
+        maze = mazeType.create(size, SolverFixture.MAZE_SEED, braidPercent);
+        start = new Coordinate(1, 1);
+        finish = new Coordinate(size - 2, size - 2);
+        mazeBitboard = new MazeBitboard(maze);
+        dijkstraMazeSolver = new DijkstraMazeSolver();
+    }
+
+    @Benchmark
+    public int getHopDistanceWithBitboard() {
+        return mazeBitboard.getHopDistance(start, finish);
+    }
+
+    @Benchmark
+    public int getHopDistanceWithQueue() {
+        return getHopDistanceWithQueue(maze, maze.getIndex(start.x(), start.y()),
+            maze.getIndex(finish.x(), finish.y()));
+    }
+
+    @Benchmark
+    public List<Coordinate> getHopPathWithBitboard() {
+        return mazeBitboard.getHopPath(start, finish);
+    }
+
+    @Benchmark
+    public List<Coordinate> solveWithDijkstra() {
+        return dijkstraMazeSolver.solve(maze, start, finish);
+    }
+
+    @Benchmark
+    public boolean isReachableWithBitboard() {
+        return mazeBitboard.isReachable(start, finish);
+    }
+
+    @Benchmark
+    public int countReachableWithBitboard() {
+        return mazeBitboard.countReachable(start);
+    }
+
+    @Benchmark
+    public int getCostWithDistanceField() {
+        return new DistanceField(maze, start).getCost(finish);
+    }
+
+    /**
+     * Обычный поиск в ширину по массиву-очереди индексов ячеек, с которым сравнивается поиск по битовым доскам.
+     */
+    private static int getHopDistanceWithQueue(Maze maze, int startIndex, int finishIndex) {
+        final int width = maze.width();
+        final int[] layers = new int[maze.height() * width];
+        final int[] queue = new int[layers.length];
+        final int[] steps = {1, width, -1, -width};
+        int head = 0;
+        int tail = 0;
+
+        Arrays.fill(layers, -1);
+        layers[startIndex] = 0;
+        queue[tail++] = startIndex;
+
+        while (head < tail) {
+            final int current = queue[head++];
+
+            if (current == finishIndex) {
+                return layers[current];
+            }
+
+            for (int step : steps) {
+                final int neighbour = current + step;
+
+                if (neighbour >= 0 && neighbour < layers.length && layers[neighbour] < 0
+                    && maze.isPassage(neighbour) && Math.abs(neighbour % width - current % width) <= 1) {
+                    layers[neighbour] = layers[current] + 1;
+                    queue[tail++] = neighbour;
+                }
+            }
+        }
+
+        return MazeBitboard.UNREACHABLE;
+    }
+}
@@ -0,0 +1,76 @@
+package backend.academy.mazeTask.benchmark;
+
+import backend.academy.mazeTask.enums.SolverType;
+import backend.academy.mazeTask.maze.Coordinate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Измеряет задержку решателей BFS и DFS, которые перебирают все простые пути до финиша.
+ * Число таких путей растет экспоненциально с числом циклов, поэтому размеры здесь меньше,
+ * чем в {@link MazeSolverBenchmark}, а открытые комнаты измеряются отдельно на самых маленьких размерах.
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ExhaustiveMazeSolverBenchmark {
+
+    @Benchmark
+    public List<Coordinate> solveCorridorMaze(CorridorMazes fixture) {
+        return fixture.solve();
+    }
+
+    @Benchmark
+    public List<Coordinate> solveOpenRoom(OpenRooms fixture) {
+        return fixture.solve();
+    }
+
+    @State(Scope.Benchmark)
+    public static class CorridorMazes extends SolverFixture {
+
+        @Param({"BFS", "DFS"})
+        private SolverType solverType;
+
+        @Param({"PERFECT", "BRAIDED"})
+        private BenchmarkMazeType mazeType;
+
+        @Param({"11", "21"})
+        private int size;
+
+        @Param({"50"})
+        private int braidPercent;
+
+        @Setup
+        public void setup() {
+            init(solverType, mazeType, size, braidPercent);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class OpenRooms extends SolverFixture {
+
+        @Param({"BFS", "DFS"})
+        private SolverType solverType;
+
+        @Param({"5", "7"})
+        private int size;
+
+        @Setup
+        public void setup() {
+            init(solverType, BenchmarkMazeType.OPEN, size, 0);
+        }
+    }
+}
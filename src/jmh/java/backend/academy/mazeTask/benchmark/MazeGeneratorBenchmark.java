@@ -0,0 +1,52 @@
+package backend.academy.mazeTask.benchmark;
+
+import backend.academy.mazeTask.enums.GeneratorType;
+import backend.academy.mazeTask.maze.Maze;
+import backend.academy.mazeTask.maze.MazeSizeLimits;
+import backend.academy.mazeTask.maze.generator.MazeGenerator;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Измеряет пропускную способность генераторов лабиринтов для квадратных лабиринтов разного размера.
+ * Каждый вызов использует новое зерно, чтобы не измерять один и тот же лабиринт.
+ * Скорость выделения памяти выводится профилировщиком gc, который включается в профиле benchmark.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MazeGeneratorBenchmark {
+
+    @Param({"KRUSKAL", "PRIM", "ELLER"})
+    private GeneratorType generatorType;
+
+    @Param({"5", "51", "501", "2001"})
+    private int size;
+
+    private MazeGenerator generator;
+    private long seed;
+
+    @Setup
+    public void setup() {
+        MazeSizeLimits.install(MazeSizeLimits.withMaxSize(size, size));
+        generator = generatorType.create();
+    }
+
+    @Benchmark
+    public Maze generate() {
+        return generator.generate(size, size, seed++);
+    }
+}
@@ -0,0 +1,53 @@
+package backend.academy.mazeTask.benchmark;
+
+import backend.academy.mazeTask.enums.SolverType;
+import backend.academy.mazeTask.maze.Coordinate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Измеряет задержку поиска пути от входа до выхода для решателей с полиномиальной сложностью
+ * на идеальных лабиринтах, лабиринтах с циклами и открытых комнатах.
+ * Режим SampleTime выводит перцентили задержки, профилировщик gc - количество байт на один поиск.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MazeSolverBenchmark extends SolverFixture {
+
+    @Param({"DIJKSTRA", "A_STAR", "DIAL", "JUNCTION_GRAPH", "BIDIRECTIONAL_DIJKSTRA", "DELTA_STEPPING"})
+    private SolverType solverType;
+
+    @Param({"PERFECT", "BRAIDED", "OPEN"})
+    private BenchmarkMazeType mazeType;
+
+    @Param({"51", "501", "2001"})
+    private int size;
+
+    @Param({"50"})
+    private int braidPercent;
+
+    @Setup
+    public void setup() {
+        init(solverType, mazeType, size, braidPercent);
+    }
+
+    @Benchmark
+    public List<Coordinate> solveMaze() {
+        return solve();
+    }
+}
@@ -0,0 +1,116 @@
+package backend.academy.mazeTask.benchmark;
+
+import backend.academy.mazeTask.maze.Coordinate;
+import backend.academy.mazeTask.maze.Maze;
+import backend.academy.mazeTask.maze.MazeSizeLimits;
+import backend.academy.mazeTask.maze.solver.BatchMazeSolver;
+import backend.academy.mazeTask.maze.solver.DijkstraMazeSolver;
+import backend.academy.mazeTask.maze.solver.JunctionGraph;
+import backend.academy.mazeTask.maze.solver.PathQuery;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Сравнивает пакет запросов к одному лабиринту, решаемый по одному запросу алгоритмом Дейкстры,
+ * с {@link BatchMazeSolver}, который выполняет один поиск на каждую общую начальную точку,
+ * и с поиском по {@link JunctionGraph}, построенному один раз для всего пакета.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MultiQuerySolverBenchmark {
+
+    @Param({"PERFECT", "BRAIDED"})
+    private BenchmarkMazeType mazeType;
+
+    @Param({"501"})
+    private int size;
+
+    @Param({"50"})
+    private int braidPercent;
+
+    @Param({"200"})
+    private int queryCount;
+
+    @Param({"4"})
+    private int startCount;
+
+    @Param({"1", "4"})
+    private int parallelism;
+
+    private Maze maze;
+    private List<PathQuery> queries;
+    private DijkstraMazeSolver dijkstraMazeSolver;
+    private BatchMazeSolver batchMazeSolver;
+    private JunctionGraph junctionGraph;
+
+    @Setup
+    public void setup() {
+        final SplittableRandom random = new SplittableRandom(SolverFixture.MAZE_SEED);
+        final List<Coordinate> starts = new ArrayList<>();
+
+        MazeSizeLimits.install(MazeSizeLimits.withMaxSize(size, size));
+
+        maze = mazeType.create(size, SolverFixture.MAZE_SEED, braidPercent);
+        queries = new ArrayList<>();
+
+        for (int i = 0; i < startCount; i++) {
+            starts.add(getRandomCell(random));
+        }
+
+        for (int i = 0; i < queryCount; i++) {
+            queries.add(new PathQuery(starts.get(random.nextInt(startCount)), getRandomCell(random)));
+        }
+
+        dijkstraMazeSolver = new DijkstraMazeSolver();
+        batchMazeSolver = new BatchMazeSolver(parallelism);
+        junctionGraph = new JunctionGraph(maze);
+    }
+
+    @Benchmark
+    public List<List<Coordinate>> solveEachQuery() {
+        final List<List<Coordinate>> paths = new ArrayList<>(queries.size());
+
+        for (PathQuery query : queries) {
+            paths.add(dijkstraMazeSolver.solve(maze, query.start(), query.finish()));
+        }
+
+        return paths;
+    }
+
+    @Benchmark
+    public List<List<Coordinate>> solveAllQueries() {
+        return batchMazeSolver.solveAll(maze, queries);
+    }
+
+    @Benchmark
+    public List<List<Coordinate>> solveWithJunctionGraph() {
+        final List<List<Coordinate>> paths = new ArrayList<>(queries.size());
+
+        for (PathQuery query : queries) {
+            paths.add(junctionGraph.findPath(query.start(), query.finish()));
+        }
+
+        return paths;
+    }
+
+    private Coordinate getRandomCell(SplittableRandom random) {
+        return new Coordinate(random.nextInt(size / 2) * 2 + 1, random.nextInt(size / 2) * 2 + 1);
+    }
+}
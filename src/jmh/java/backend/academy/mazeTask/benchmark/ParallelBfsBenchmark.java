@@ -0,0 +1,71 @@
+package backend.academy.mazeTask.benchmark;
+
+import backend.academy.mazeTask.maze.Coordinate;
+import backend.academy.mazeTask.maze.Maze;
+import backend.academy.mazeTask.maze.MazeSizeLimits;
+import backend.academy.mazeTask.maze.solver.MazeBitboard;
+import backend.academy.mazeTask.maze.solver.ParallelBfsSearch;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Сравнивает {@link ParallelBfsSearch} с разной степенью параллелизма и последовательный поиск
+ * по {@link MazeBitboard} на запросе из центра лабиринта в левый нижний угол.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParallelBfsBenchmark {
+
+    @Param({"PERFECT", "OPEN"})
+    private BenchmarkMazeType mazeType;
+
+    @Param({"2001", "10001"})
+    private int size;
+
+    @Param({"50"})
+    private int braidPercent;
+
+    @Param({"1", "4", "32"})
+    private int parallelism;
+
+    private Maze maze;
+    private Coordinate start;
+    private Coordinate finish;
+    private ParallelBfsSearch parallelBfsSearch;
+    private MazeBitboard mazeBitboard;
+
+    @Setup
+    public void setup() {
+        MazeSizeLimits.install(MazeSizeLimits.withMaxSize(size, size));
+
+        maze = mazeType.create(size, SolverFixture.MAZE_SEED, braidPercent);
+        start = new Coordinate(size / 2 | 1, size / 2 | 1);
+        finish = new Coordinate(size - 2, 1);
+        parallelBfsSearch = new ParallelBfsSearch(parallelism);
+        mazeBitboard = new MazeBitboard(maze);
+    }
+
+    @Benchmark
+    public int getHopDistanceInParallel() {
+        return parallelBfsSearch.getHopDistance(maze, start, finish);
+    }
+
+    @Benchmark
+    public int getHopDistanceWithBitboard() {
+        return mazeBitboard.getHopDistance(start, finish);
+    }
+}
@@ -0,0 +1,35 @@
+package backend.academy.mazeTask.benchmark;
+
+import backend.academy.mazeTask.enums.SolverType;
+import backend.academy.mazeTask.maze.Coordinate;
+import backend.academy.mazeTask.maze.Maze;
+import backend.academy.mazeTask.maze.MazeSizeLimits;
+import backend.academy.mazeTask.maze.solver.MazeSolver;
+import java.util.List;
+
+/**
+ * Лабиринт, точки входа и выхода и решатель, общие для бенчмарков решателей.
+ * Лабиринт строится по фиксированному зерну, поэтому все запуски измеряют одну и ту же задачу.
+ */
+abstract class SolverFixture {
+
+    static final long MAZE_SEED = 42;
+
+    private Maze maze;
+    private Coordinate entry;
+    private Coordinate exit;
+    private MazeSolver solver;
+
+    void init(SolverType solverType, BenchmarkMazeType mazeType, int size, int braidPercent) {
+        MazeSizeLimits.install(MazeSizeLimits.withMaxSize(size, size));
+
+        maze = mazeType.create(size, MAZE_SEED, braidPercent);
+        entry = BenchmarkMazeType.findEntry(maze);
+        exit = BenchmarkMazeType.findExit(maze);
+        solver = solverType.create();
+    }
+
+    List<Coordinate> solve() {
+        return solver.solve(maze, entry, exit);
+    }
+}
@@ -1,11 +1,36 @@
 package backend.academy;
 
+import backend.academy.mazeTask.cli.BatchRunner;
+import backend.academy.mazeTask.exception.IncorrectMazeSizeLimitsException;
+import backend.academy.mazeTask.exception.IncorrectMazeSizePropertyException;
 import backend.academy.mazeTask.maze.MazeMenu;
+import backend.academy.mazeTask.maze.MazeSizeLimits;
+import java.io.PrintStream;
 import lombok.experimental.UtilityClass;
 
 @UtilityClass
 public class Main {
+    private static final String ERROR_FORMAT = "Ошибка: %s%n";
+    private static final PrintStream OUTPUT = System.out;
+
     public static void main(String[] args) {
-        new MazeMenu().start();
+        try {
+            MazeSizeLimits.install(MazeSizeLimits.fromSystemProperties());
+        } catch (IncorrectMazeSizeLimitsException | IncorrectMazeSizePropertyException ex) {
+            OUTPUT.format(ERROR_FORMAT, ex.getMessage());
+            System.exit(BatchRunner.FAILURE);
+        }
+
+        if (args.length == 0) {
+            new MazeMenu().start();
+
+            return;
+        }
+
+        final int exitCode = new BatchRunner(OUTPUT).run(args);
+
+        if (exitCode != BatchRunner.SUCCESS) {
+            System.exit(exitCode);
+        }
     }
 }
@@ -0,0 +1,18 @@
+package backend.academy.mazeTask.cli;
+
+import java.io.PrintStream;
+
+/**
+ * Команда пакетного режима, параметры которой заполняются JCommander.
+ */
+interface BatchCommand {
+
+    /**
+     * Выполняет команду.
+     *
+     * @param output поток, в который команда может выводить изображение лабиринта
+     *
+     * @return краткий отчет о выполнении
+     */
+    String execute(PrintStream output);
+}
@@ -0,0 +1,23 @@
+package backend.academy.mazeTask.cli;
+
+import com.beust.jcommander.Parameter;
+import java.nio.file.Path;
+import lombok.Getter;
+
+/**
+ * Общие параметры пакетного режима, указываемые перед командой.
+ */
+@Getter
+final class BatchOptions {
+
+    @Parameter(names = "--max-size", description = "Максимальный размер генерируемого лабиринта ВЫСОТАxШИРИНА, "
+        + "файлы лабиринтов открываются по размерам из заголовка",
+        converter = MazeSizeConverter.class)
+    private MazeSize maxSize;
+
+    @Parameter(names = "--jobs", description = "Файл заданий: по одной команде в строке, # начинает комментарий")
+    private Path jobs;
+
+    @Parameter(names = "--help", description = "Показать справку", help = true)
+    private boolean help;
+}
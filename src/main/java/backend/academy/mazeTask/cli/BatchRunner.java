@@ -0,0 +1,191 @@
+package backend.academy.mazeTask.cli;
+
+import backend.academy.mazeTask.maze.MazeSizeLimits;
+import com.beust.jcommander.JCommander;
+import com.beust.jcommander.ParameterException;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import static backend.academy.mazeTask.constants.ExceptionTextValues.MISSING_BATCH_COMMAND_EXCEPTION_TEXT;
+import static backend.academy.mazeTask.constants.ExceptionTextValues.NULL_OUTPUT_EXCEPTION_TEXT;
+
+/**
+ * Неинтерактивный режим: выполняет команды generate, corpus, solve и render из аргументов командной строки
+ * и из файла заданий. Все задания выполняются в одной JVM, поэтому запуск и прогрев JIT
+ * оплачиваются один раз на весь пакет. Ошибка в одном задании не прерывает остальные.
+ * <p>
+ * Пример: {@code --max-size 2001x2001 generate --algo prim --size 2001x2001 --seed 42 --out maze.bin}
+ */
+public class BatchRunner {
+
+    /**
+     * Код завершения, если все задания выполнены успешно.
+     */
+    public static final int SUCCESS = 0;
+
+    /**
+     * Код завершения, если параметры некорректны или хотя бы одно задание завершилось ошибкой.
+     */
+    public static final int FAILURE = 1;
+
+    private static final String PROGRAM_NAME = "maze";
+    private static final String COMMENT_PREFIX = "#";
+    private static final Pattern ARGUMENT_SEPARATOR = Pattern.compile("\\s+");
+    private static final String JOB_REPORT_FORMAT = "[%d] %s, %d мс%n";
+    private static final String JOB_ERROR_FORMAT = "[%d] Ошибка: %s%n";
+    private static final String ERROR_FORMAT = "Ошибка: %s%n";
+    private static final String SUMMARY_FORMAT = "Заданий: %d, с ошибками: %d, время: %d мс%n";
+
+    private final PrintStream output;
+
+    /**
+     * Создает пакетный режим, выводящий отчеты в заданный поток.
+     *
+     * @param output поток для отчетов и изображений лабиринтов
+     *
+     * @throws NullPointerException если поток равен null
+     */
+    public BatchRunner(PrintStream output) {
+        if (output == null) {
+            throw new NullPointerException(NULL_OUTPUT_EXCEPTION_TEXT);
+        }
+
+        this.output = output;
+    }
+
+    /**
+     * Выполняет команду из аргументов и задания из файла {@code --jobs}, если он указан.
+     *
+     * @param args аргументы командной строки
+     *
+     * @return {@link #SUCCESS}, если все задания выполнены, иначе {@link #FAILURE}
+     */
+    public int run(String... args) {
+        final BatchOptions options = new BatchOptions();
+        final JCommander commander = createCommander(options);
+
+        try {
+            commander.parse(args);
+
+            if (options.help()) {
+                printUsage(commander);
+
+                return SUCCESS;
+            }
+
+            if (commander.getParsedCommand() == null && options.jobs() == null) {
+                throw new ParameterException(MISSING_BATCH_COMMAND_EXCEPTION_TEXT);
+            }
+
+            if (options.maxSize() != null) {
+                MazeSizeLimits.install(MazeSizeLimits.withMaxSize(options.maxSize().height(),
+                    options.maxSize().width()));
+            }
+        } catch (RuntimeException ex) {
+            output.printf(ERROR_FORMAT, ex.getMessage());
+            printUsage(commander);
+
+            return FAILURE;
+        }
+
+        return runJobs(commander, options.jobs());
+    }
+
+    private int runJobs(JCommander commander, Path jobs) {
+        final long startTime = System.nanoTime();
+        int jobCount = 0;
+        int failedCount = 0;
+
+        if (commander.getParsedCommand() != null) {
+            jobCount++;
+            failedCount += runJob(jobCount, getCommand(commander));
+        }
+
+        if (jobs != null) {
+            try {
+                for (String line : Files.readAllLines(jobs)) {
+                    final String job = line.strip();
+
+                    if (!job.isEmpty() && !job.startsWith(COMMENT_PREFIX)) {
+                        jobCount++;
+                        failedCount += runJob(jobCount, ARGUMENT_SEPARATOR.split(job));
+                    }
+                }
+            } catch (IOException ex) {
+                output.printf(ERROR_FORMAT, ex);
+                failedCount++;
+            }
+        }
+
+        output.printf(SUMMARY_FORMAT, jobCount, failedCount, getElapsedMillis(startTime));
+
+        return failedCount == 0 ? SUCCESS : FAILURE;
+    }
+
+    private int runJob(int number, String[] args) {
+        final JCommander commander = createCommander(null);
+
+        try {
+            commander.parse(args);
+
+            if (commander.getParsedCommand() == null) {
+                throw new ParameterException(MISSING_BATCH_COMMAND_EXCEPTION_TEXT);
+            }
+        } catch (ParameterException ex) {
+            output.printf(JOB_ERROR_FORMAT, number, ex.getMessage());
+
+            return 1;
+        }
+
+        return runJob(number, getCommand(commander));
+    }
+
+    private int runJob(int number, BatchCommand command) {
+        final long startTime = System.nanoTime();
+
+        try {
+            final String report = command.execute(output);
+
+            output.printf(JOB_REPORT_FORMAT, number, report, getElapsedMillis(startTime));
+
+            return 0;
+        } catch (RuntimeException ex) {
+            output.printf(JOB_ERROR_FORMAT, number, ex.getMessage());
+
+            return 1;
+        }
+    }
+
+    private void printUsage(JCommander commander) {
+        final StringBuilder usage = new StringBuilder();
+
+        commander.getUsageFormatter().usage(usage);
+        output.print(usage);
+    }
+
+    private static JCommander createCommander(BatchOptions options) {
+        final JCommander.Builder builder = JCommander.newBuilder()
+            .programName(PROGRAM_NAME)
+            .addCommand(new GenerateCommand())
+            .addCommand(new CorpusCommand())
+            .addCommand(new SolveCommand())
+            .addCommand(new RenderCommand());
+
+        if (options != null) {
+            builder.addObject(options);
+        }
+
+        return builder.build();
+    }
+
+    private static BatchCommand getCommand(JCommander commander) {
+        return (BatchCommand) commander.getCommands().get(commander.getParsedCommand()).getObjects().getFirst();
+    }
+
+    private static long getElapsedMillis(long startTime) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+    }
+}
@@ -0,0 +1,31 @@
+package backend.academy.mazeTask.cli;
+
+import backend.academy.mazeTask.maze.Coordinate;
+import com.beust.jcommander.IStringConverter;
+import com.beust.jcommander.ParameterException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import static backend.academy.mazeTask.constants.ExceptionTextValues.INCORRECT_COORDINATE_FORMAT_EXCEPTION_TEXT;
+
+/**
+ * Преобразует строку вида X,Y, где X - номер строки, а Y - номер столбца, в {@link Coordinate}.
+ */
+public class CoordinateConverter implements IStringConverter<Coordinate> {
+
+    private static final Pattern COORDINATE_PATTERN = Pattern.compile("(\\d+),(\\d+)");
+
+    @Override
+    public Coordinate convert(String value) {
+        final Matcher matcher = COORDINATE_PATTERN.matcher(value);
+
+        if (!matcher.matches()) {
+            throw new ParameterException(INCORRECT_COORDINATE_FORMAT_EXCEPTION_TEXT);
+        }
+
+        try {
+            return new Coordinate(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2)));
+        } catch (NumberFormatException ex) {
+            throw new ParameterException(INCORRECT_COORDINATE_FORMAT_EXCEPTION_TEXT);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package backend.academy.mazeTask.cli;
+
+import backend.academy.mazeTask.enums.GeneratorType;
+import backend.academy.mazeTask.maze.MazeFile;
+import backend.academy.mazeTask.maze.generator.BatchGenerationReport;
+import backend.academy.mazeTask.maze.generator.BatchMazeGenerator;
+import backend.academy.mazeTask.maze.generator.MazeSpec;
+import com.beust.jcommander.Parameter;
+import com.beust.jcommander.Parameters;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Генерирует серию лабиринтов одного размера параллельно и сохраняет каждый в отдельный файл {@link MazeFile}.
+ * Зерна лабиринтов выводятся из базового зерна, поэтому серия воспроизводима при любой степени параллелизма.
+ */
+@Parameters(commandNames = "corpus", commandDescription = "Сгенерировать серию лабиринтов и сохранить их в каталог")
+final class CorpusCommand implements BatchCommand {
+
+    private static final String FILE_NAME_FORMAT = "maze-%06d.bin";
+    private static final String REPORT_FORMAT = "Лабиринтов %dx%d (%s, зерно %d): %d в %s, "
+        + "%.1f лабиринтов/с, %.0f ячеек/с, потоков %d";
+
+    @Parameter(names = "--algo", description = "Алгоритм генерации: kruskal, prim или eller")
+    private GeneratorType generatorType = GeneratorType.KRUSKAL;
+
+    @Parameter(names = "--size", description = "Размер лабиринтов ВЫСОТАxШИРИНА", required = true,
+        converter = MazeSizeConverter.class)
+    private MazeSize size;
+
+    @Parameter(names = "--count", description = "Количество лабиринтов", required = true)
+    private int count;
+
+    @Parameter(names = "--seed", description = "Базовое зерно серии, по умолчанию случайное")
+    private Long seed;
+
+    @Parameter(names = "--parallelism", description = "Наибольшее количество одновременно генерируемых лабиринтов, "
+        + "по умолчанию количество процессоров")
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+
+    @Parameter(names = "--out", description = "Каталог, в который сохраняются лабиринты", required = true)
+    private Path out;
+
+    @Override
+    public String execute(PrintStream output) {
+        final long baseSeed = seed != null ? seed : ThreadLocalRandom.current().nextLong();
+        final BatchMazeGenerator generator = new BatchMazeGenerator(generatorType.create(), parallelism);
+        final List<MazeSpec> specs = MazeSpec.series(count, size.height(), size.width(), baseSeed);
+        final BatchGenerationReport report;
+
+        try {
+            Files.createDirectories(out);
+            report = generator.generateAll(specs, (maze, index) ->
+                MazeFile.write(out.resolve(String.format(FILE_NAME_FORMAT, index)), maze, specs.get(index).seed()));
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+
+            throw new IllegalStateException(ex);
+        }
+
+        return String.format(REPORT_FORMAT, size.height(), size.width(), generatorType, baseSeed,
+            report.mazeCount(), out, report.mazesPerSecond(), report.cellsPerSecond(), report.parallelism());
+    }
+}
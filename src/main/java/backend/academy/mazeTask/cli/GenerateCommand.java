@@ -0,0 +1,49 @@
+package backend.academy.mazeTask.cli;
+
+import backend.academy.mazeTask.enums.GeneratorType;
+import backend.academy.mazeTask.maze.MazeFile;
+import backend.academy.mazeTask.maze.MazeFileWriter;
+import backend.academy.mazeTask.maze.generator.EllerMazeGenerator;
+import com.beust.jcommander.Parameter;
+import com.beust.jcommander.Parameters;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Генерирует лабиринт и сохраняет его в двоичный файл {@link MazeFile}.
+ * Лабиринт Эллера записывается в файл построчно, не создавая сетку в памяти.
+ */
+@Parameters(commandNames = "generate", commandDescription = "Сгенерировать лабиринт и сохранить его в файл")
+final class GenerateCommand implements BatchCommand {
+
+    private static final String REPORT_FORMAT = "Лабиринт %dx%d (%s, зерно %d) сохранен в %s";
+
+    @Parameter(names = "--algo", description = "Алгоритм генерации: kruskal, prim или eller")
+    private GeneratorType generatorType = GeneratorType.KRUSKAL;
+
+    @Parameter(names = "--size", description = "Размер лабиринта ВЫСОТАxШИРИНА", required = true,
+        converter = MazeSizeConverter.class)
+    private MazeSize size;
+
+    @Parameter(names = "--seed", description = "Зерно генератора, по умолчанию случайное")
+    private Long seed;
+
+    @Parameter(names = "--out", description = "Файл, в который сохраняется лабиринт", required = true)
+    private Path out;
+
+    @Override
+    public String execute(PrintStream output) {
+        final long mazeSeed = seed != null ? seed : ThreadLocalRandom.current().nextLong();
+
+        if (generatorType == GeneratorType.ELLER) {
+            try (MazeFileWriter writer = new MazeFileWriter(out, size.height(), size.width(), mazeSeed)) {
+                new EllerMazeGenerator().generateRows(size.height(), size.width(), mazeSeed, writer);
+            }
+        } else {
+            MazeFile.write(out, generatorType.create().generate(size.height(), size.width(), mazeSeed), mazeSeed);
+        }
+
+        return String.format(REPORT_FORMAT, size.height(), size.width(), generatorType, mazeSeed, out);
+    }
+}
@@ -0,0 +1,111 @@
+package backend.academy.mazeTask.cli;
+
+import backend.academy.mazeTask.enums.SolverType;
+import backend.academy.mazeTask.exception.IncorrectMazeFileException;
+import backend.academy.mazeTask.exception.MazeWithoutBorderPassagesException;
+import backend.academy.mazeTask.maze.Coordinate;
+import backend.academy.mazeTask.maze.Maze;
+import backend.academy.mazeTask.maze.MazeFile;
+import com.beust.jcommander.Parameter;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Общие параметры команд, работающих с сохраненным лабиринтом: файл и концы пути.
+ * Если концы пути не заданы, используются вход и выход лабиринта - два прохода на его границе.
+ */
+abstract class MazeFileCommand implements BatchCommand {
+
+    @Parameter(names = "--in", description = "Файл лабиринта", required = true)
+    private Path in;
+
+    @Parameter(names = "--start", description = "Начало пути X,Y, по умолчанию вход лабиринта",
+        converter = CoordinateConverter.class)
+    private Coordinate start;
+
+    @Parameter(names = "--finish", description = "Конец пути X,Y, по умолчанию выход лабиринта",
+        converter = CoordinateConverter.class)
+    private Coordinate finish;
+
+    /**
+     * Открывает файл лабиринта и проверяет его данные. Размеры лабиринта берутся из заголовка файла,
+     * поэтому задавать --max-size для чтения не нужно.
+     *
+     * @return лабиринт, отображенный из файла
+     *
+     * @throws IncorrectMazeFileException если файл поврежден
+     */
+    protected Maze openMaze() {
+        return MazeFile.open(in).maze();
+    }
+
+    /**
+     * Возвращает имя файла лабиринта для отчета.
+     *
+     * @return путь к файлу лабиринта
+     */
+    protected Path in() {
+        return in;
+    }
+
+    /**
+     * Ищет путь между заданными концами или между входом и выходом лабиринта.
+     *
+     * @param maze лабиринт
+     * @param solverType алгоритм поиска пути
+     *
+     * @return найденный путь или пустой список, если пути нет
+     *
+     * @throws MazeWithoutBorderPassagesException если конец пути не задан, а на границе лабиринта нет прохода
+     */
+    protected List<Coordinate> findPath(Maze maze, SolverType solverType) {
+        if (start != null && finish != null) {
+            return solverType.create().solve(maze, start, finish);
+        }
+
+        final List<Coordinate> borderPassages = findBorderPassages(maze);
+
+        if (borderPassages.isEmpty()) {
+            throw new MazeWithoutBorderPassagesException();
+        }
+
+        final Coordinate pathStart = start != null ? start : borderPassages.getFirst();
+        final Coordinate pathFinish = finish != null ? finish : borderPassages.getLast();
+
+        return solverType.create().solve(maze, pathStart, pathFinish);
+    }
+
+    /**
+     * Находит проходы на границе лабиринта: сначала в верхней строке, затем в боковых столбцах
+     * и нижней строке. Для сгенерированных лабиринтов первый из них - вход, второй - выход.
+     */
+    private static List<Coordinate> findBorderPassages(Maze maze) {
+        final List<Coordinate> passages = new ArrayList<>();
+        final int lastRow = maze.height() - 1;
+        final int lastColumn = maze.width() - 1;
+
+        addPassagesInRow(maze, 0, passages);
+
+        for (int x = 1; x < lastRow; x++) {
+            addPassage(maze, x, 0, passages);
+            addPassage(maze, x, lastColumn, passages);
+        }
+
+        addPassagesInRow(maze, lastRow, passages);
+
+        return passages;
+    }
+
+    private static void addPassagesInRow(Maze maze, int x, List<Coordinate> passages) {
+        for (int y = 0; y < maze.width(); y++) {
+            addPassage(maze, x, y, passages);
+        }
+    }
+
+    private static void addPassage(Maze maze, int x, int y, List<Coordinate> passages) {
+        if (maze.isPassage(maze.getIndex(x, y))) {
+            passages.add(new Coordinate(x, y));
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package backend.academy.mazeTask.cli;
+
+/**
+ * Размер лабиринта, заданный в параметрах командной строки.
+ *
+ * @param height высота лабиринта
+ * @param width ширина лабиринта
+ */
+public record MazeSize(int height, int width) {
+}
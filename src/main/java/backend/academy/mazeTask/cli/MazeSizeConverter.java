@@ -0,0 +1,30 @@
+package backend.academy.mazeTask.cli;
+
+import com.beust.jcommander.IStringConverter;
+import com.beust.jcommander.ParameterException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import static backend.academy.mazeTask.constants.ExceptionTextValues.INCORRECT_MAZE_SIZE_FORMAT_EXCEPTION_TEXT;
+
+/**
+ * Преобразует строку вида ВЫСОТАxШИРИНА, например 2001x2001, в {@link MazeSize}.
+ */
+public class MazeSizeConverter implements IStringConverter<MazeSize> {
+
+    private static final Pattern SIZE_PATTERN = Pattern.compile("(\\d+)[xX](\\d+)");
+
+    @Override
+    public MazeSize convert(String value) {
+        final Matcher matcher = SIZE_PATTERN.matcher(value);
+
+        if (!matcher.matches()) {
+            throw new ParameterException(INCORRECT_MAZE_SIZE_FORMAT_EXCEPTION_TEXT);
+        }
+
+        try {
+            return new MazeSize(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2)));
+        } catch (NumberFormatException ex) {
+            throw new ParameterException(INCORRECT_MAZE_SIZE_FORMAT_EXCEPTION_TEXT);
+        }
+    }
+}
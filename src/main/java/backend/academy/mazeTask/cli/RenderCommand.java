@@ -0,0 +1,59 @@
+package backend.academy.mazeTask.cli;
+
+import backend.academy.mazeTask.enums.RenderFormat;
+import backend.academy.mazeTask.enums.SolverType;
+import backend.academy.mazeTask.maze.Coordinate;
+import backend.academy.mazeTask.maze.Maze;
+import backend.academy.mazeTask.maze.renderer.Scene;
+import com.beust.jcommander.Parameter;
+import com.beust.jcommander.Parameters;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Выводит сохраненный лабиринт, при необходимости с кратчайшим путем, в файл или стандартный вывод.
+ * Изображение записывается построчно, поэтому размер лабиринта не ограничен доступной памятью.
+ */
+@Parameters(commandNames = "render", commandDescription = "Вывести сохраненный лабиринт в текстовом виде")
+final class RenderCommand extends MazeFileCommand {
+
+    private static final String REPORT_FORMAT = "Лабиринт %s выведен в %s";
+    private static final String STANDARD_OUTPUT = "стандартный вывод";
+
+    @Parameter(names = "--solver", description = "Алгоритм поиска пути, который нужно отметить",
+        converter = SolverTypeConverter.class)
+    private SolverType solverType;
+
+    @Parameter(names = "--format", description = "Формат изображения: ansi или plain")
+    private RenderFormat format = RenderFormat.ANSI;
+
+    @Parameter(names = "--out", description = "Файл изображения, по умолчанию стандартный вывод")
+    private Path out;
+
+    @Override
+    public String execute(PrintStream output) {
+        final Maze maze = openMaze();
+        final List<Coordinate> path = solverType != null ? findPath(maze, solverType) : List.of();
+        final Scene scene = new Scene(format);
+
+        if (out == null) {
+            scene.writeMaze(maze, path, output);
+
+            return String.format(REPORT_FORMAT, in(), STANDARD_OUTPUT);
+        }
+
+        try (FileChannel channel = FileChannel.open(out, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING)) {
+            scene.writeMaze(maze, path, channel);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+
+        return String.format(REPORT_FORMAT, in(), out);
+    }
+}
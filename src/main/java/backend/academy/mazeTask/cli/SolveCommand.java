@@ -0,0 +1,40 @@
+package backend.academy.mazeTask.cli;
+
+import backend.academy.mazeTask.enums.SolverType;
+import backend.academy.mazeTask.maze.Coordinate;
+import backend.academy.mazeTask.maze.Maze;
+import com.beust.jcommander.Parameter;
+import com.beust.jcommander.Parameters;
+import java.io.PrintStream;
+import java.util.List;
+
+/**
+ * Ищет кратчайший путь в сохраненном лабиринте и сообщает его длину и стоимость.
+ */
+@Parameters(commandNames = "solve", commandDescription = "Найти кратчайший путь в сохраненном лабиринте")
+final class SolveCommand extends MazeFileCommand {
+
+    private static final String REPORT_FORMAT = "Путь в %s (%s): длина %d, стоимость %d";
+    private static final String PATH_NOT_FOUND_FORMAT = "Путь в %s (%s) не найден";
+
+    @Parameter(names = "--solver", description = "Алгоритм поиска: bfs, dfs, dijkstra, astar, dial, junction-graph, "
+        + "bidirectional-dijkstra или delta-stepping",
+        converter = SolverTypeConverter.class)
+    private SolverType solverType = SolverType.A_STAR;
+
+    @Override
+    public String execute(PrintStream output) {
+        final Maze maze = openMaze();
+        final List<Coordinate> path = findPath(maze, solverType);
+
+        if (path.isEmpty()) {
+            return String.format(PATH_NOT_FOUND_FORMAT, in(), solverType);
+        }
+
+        final long cost = path.stream()
+            .mapToLong(coordinate -> maze.getCell(coordinate.x(), coordinate.y()).weight())
+            .sum();
+
+        return String.format(REPORT_FORMAT, in(), solverType, path.size(), cost);
+    }
+}
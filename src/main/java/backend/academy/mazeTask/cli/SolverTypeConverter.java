@@ -0,0 +1,31 @@
+package backend.academy.mazeTask.cli;
+
+import backend.academy.mazeTask.enums.SolverType;
+import com.beust.jcommander.IStringConverter;
+import com.beust.jcommander.ParameterException;
+import java.util.Locale;
+import static backend.academy.mazeTask.constants.ExceptionTextValues.INCORRECT_SOLVER_NAME_EXCEPTION_TEXT;
+
+/**
+ * Преобразует название алгоритма в {@link SolverType} без учета регистра, дефисов и подчеркиваний,
+ * поэтому astar, a-star и A_STAR обозначают один и тот же алгоритм.
+ */
+public class SolverTypeConverter implements IStringConverter<SolverType> {
+
+    @Override
+    public SolverType convert(String value) {
+        final String name = normalize(value);
+
+        for (SolverType solverType : SolverType.values()) {
+            if (normalize(solverType.name()).equals(name)) {
+                return solverType;
+            }
+        }
+
+        throw new ParameterException(INCORRECT_SOLVER_NAME_EXCEPTION_TEXT);
+    }
+
+    private static String normalize(String name) {
+        return name.replace("_", "").replace("-", "").toUpperCase(Locale.ROOT);
+    }
+}
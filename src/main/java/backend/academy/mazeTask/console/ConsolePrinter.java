@@ -16,6 +16,7 @@ public class ConsolePrinter {
 
     private static final String NOT_GENERATED_TEXT = "не сгенерирован";
     private static final String EXIT_TO_MAIN_MENU_TEXT = "Вернуться в главное меню";
+    private static final String MAZE_DESCRIPTION_FORMAT = "%n%s%n%n";
 
     private static final PrintStream OUTPUT = System.out;
     private static final Scene SCENE = new Scene();
@@ -42,9 +43,8 @@ public class ConsolePrinter {
         if (maze == null) {
             OUTPUT.println(NOT_GENERATED_TEXT);
         } else {
-            final String mazeFormat = "%s%n%s%n%n";
-
-            OUTPUT.format(mazeFormat, SCENE.renderMaze(maze), SCENE.renderMazeDescription());
+            SCENE.writeMaze(maze, OUTPUT);
+            OUTPUT.format(MAZE_DESCRIPTION_FORMAT, SCENE.renderMazeDescription());
         }
 
         printMenuOptions(menuOptions);
@@ -59,13 +59,15 @@ public class ConsolePrinter {
             return;
         }
 
-        final String finishMazeGenerationText = "Генерация лабиринта завершена. Сгенерированный лабиринт: %n%s%n%s%n%n";
+        final String finishMazeGenerationText = "Генерация лабиринта завершена. Сгенерированный лабиринт: %n";
         final List<String> menuOptions = List.of(
             EXIT_TO_MAIN_MENU_TEXT,
             "Сгенерировать снова"
         );
 
-        OUTPUT.format(finishMazeGenerationText, SCENE.renderMaze(maze), SCENE.renderMazeDescription());
+        OUTPUT.format(finishMazeGenerationText);
+        SCENE.writeMaze(maze, OUTPUT);
+        OUTPUT.format(MAZE_DESCRIPTION_FORMAT, SCENE.renderMazeDescription());
 
         printMenuOptions(menuOptions);
         printInputYourChoice();
@@ -195,11 +197,12 @@ public class ConsolePrinter {
             return;
         }
 
-        final String shortestPathFormat = "Самый короткий путь согласно алгоритму %s: %n%s%n%s%n%s%n";
+        final String shortestPathFormat = "Самый короткий путь согласно алгоритму %s: %n";
+        final String descriptionFormat = "%n%s%n%s%n";
 
-        OUTPUT.format(shortestPathFormat,
-            algorithmName,
-            SCENE.renderMaze(maze, path),
+        OUTPUT.format(shortestPathFormat, algorithmName);
+        SCENE.writeMaze(maze, path, OUTPUT);
+        OUTPUT.format(descriptionFormat,
             SCENE.renderMazeDescription(),
             SCENE.renderPathDescription(!path.isEmpty())
         );
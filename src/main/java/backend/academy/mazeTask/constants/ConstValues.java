@@ -10,6 +10,11 @@ public class ConstValues {
     public static final int MIN_MAZE_WIDTH = 5;
     public static final int MAX_MAZE_WIDTH = 50;
 
+    public static final String MIN_MAZE_HEIGHT_PROPERTY = "maze.height.min";
+    public static final String MAX_MAZE_HEIGHT_PROPERTY = "maze.height.max";
+    public static final String MIN_MAZE_WIDTH_PROPERTY = "maze.width.min";
+    public static final String MAX_MAZE_WIDTH_PROPERTY = "maze.width.max";
+
     public static final char WALL_SYMBOL = '#';
     public static final char PATH_SYMBOL = 'R';
     public static final char START_PATH_SYMBOL = 'S';
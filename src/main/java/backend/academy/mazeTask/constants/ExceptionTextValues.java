@@ -8,16 +8,40 @@ public class ExceptionTextValues {
     public static final String INCORRECT_MAZE_HEIGHT_EXCEPTION_TEXT = "Высота лабиринта вышла за допустимые пределы";
     public static final String INCORRECT_MAZE_WIDTH_EXCEPTION_TEXT = "Ширина лабиринта вышла за допустимые пределы";
     public static final String INCORRECT_MAZE_GRID_EXCEPTION_TEXT = "Некорректный формат массива ячеек лабиринта";
+    public static final String INCORRECT_MAZE_SIZE_LIMITS_EXCEPTION_TEXT = "Некорректные границы размеров лабиринта";
+    public static final String INCORRECT_MAZE_SIZE_PROPERTY_EXCEPTION_TEXT =
+        "Системные свойства maze.height.* и maze.width.* должны быть целыми числами";
+    public static final String INCORRECT_MAZE_FILE_EXCEPTION_TEXT = "Некорректный формат файла лабиринта";
+    public static final String INCORRECT_MAZE_SIZE_FORMAT_EXCEPTION_TEXT = "Размер задается в виде ВЫСОТАxШИРИНА";
+    public static final String INCORRECT_COORDINATE_FORMAT_EXCEPTION_TEXT = "Координата должна быть задана в виде X,Y";
+    public static final String INCORRECT_SOLVER_NAME_EXCEPTION_TEXT = "Неизвестный алгоритм поиска пути";
+    public static final String INCORRECT_PARALLELISM_EXCEPTION_TEXT = "Степень параллелизма должна быть положительной";
+    public static final String INCORRECT_DELTA_EXCEPTION_TEXT = "Ширина корзины должна быть положительной";
     public static final String INCORRECT_ENTRY_EXIT_IN_MAZE_EXCEPTION_TEXT = "В лабиринте должен быть 1 вход и 1 выход";
 
     public static final String NULL_MAZE_EXCEPTION_TEXT = "Лабиринт не должен быть null";
     public static final String NULL_COORDINATE_EXCEPTION_TEXT = "Координата не должна быть null";
     public static final String NULL_PATH_EXCEPTION_TEXT = "Путь не должен быть null";
+    public static final String NULL_OUTPUT_EXCEPTION_TEXT = "Поток вывода не должен быть null";
+    public static final String NULL_ROW_CONSUMER_EXCEPTION_TEXT = "Обработчик строк лабиринта не должен быть null";
     public static final String NULL_MAZE_GRID_EXCEPTION_TEXT = "Массив ячеек лабиринта не должен быть null";
+    public static final String NULL_MAZE_FILE_PATH_EXCEPTION_TEXT = "Путь к файлу лабиринта не должен быть null";
+    public static final String NULL_RENDER_FORMAT_EXCEPTION_TEXT = "Формат изображения лабиринта не должен быть null";
+    public static final String NULL_MAZE_SIZE_LIMITS_EXCEPTION_TEXT = "Границы размеров лабиринта не должны быть null";
+    public static final String NULL_MAZE_GENERATOR_EXCEPTION_TEXT = "Генератор лабиринтов не должен быть null";
+    public static final String NULL_MAZE_SPECS_EXCEPTION_TEXT = "Параметры лабиринтов не должны быть null";
+    public static final String NULL_MAZE_SOLVER_EXCEPTION_TEXT = "Решатель лабиринтов не должен быть null";
+    public static final String NULL_PATH_QUERIES_EXCEPTION_TEXT = "Запросы путей не должны быть null";
+    public static final String NULL_MAZE_CONSUMER_EXCEPTION_TEXT = "Обработчик лабиринтов не должен быть null";
 
     public static final String COORDINATE_OUT_OF_RANGE_EXCEPTION_TEXT = "Начальная координата вышла за пределы";
     public static final String UNKNOWN_ERROR_EXCEPTION_TEXT = "Неизвестная ошибка";
+    public static final String MISSING_PREVIOUS_PATH_CELL_EXCEPTION_TEXT =
+        "Не найдена предыдущая ячейка кратчайшего пути";
     public static final String MAZE_NOT_GENERATED_EXCEPTION_TEXT = "Лабиринт еще не сгенерирован";
+    public static final String MISSING_BATCH_COMMAND_EXCEPTION_TEXT = "Не указана команда или файл заданий";
+    public static final String MAZE_WITHOUT_BORDER_PASSAGES_EXCEPTION_TEXT =
+        "На границе лабиринта нет прохода, начало и конец пути нужно задать через --start и --finish";
 
     public static final String MAZE_NOT_GENERATED_DECISION = "Чтобы сгенерировать лабиринт, необходимо выбрать "
         + "соответствующий пункт меню, указав высоту и ширину";
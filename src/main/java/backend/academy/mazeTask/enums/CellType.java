@@ -10,6 +10,8 @@ public enum CellType {
     PASSAGE_WITH_SAND("Проход с песком", 3),
     SWAMP("Болото", 4);
 
+    private static final CellType[] CELL_TYPES = values();
+
     private final String value;
     private final int weight;
 
@@ -17,4 +19,35 @@ public enum CellType {
         this.value = value;
         this.weight = weight;
     }
+
+    /**
+     * Возвращает код типа ячейки, в виде которого ячейка хранится в плоском массиве лабиринта.
+     *
+     * @return код типа ячейки
+     */
+    public byte code() {
+        return (byte) ordinal();
+    }
+
+    /**
+     * Проверяет, соответствует ли код какому-либо типу ячейки.
+     *
+     * @param code код типа ячейки
+     *
+     * @return true, если код корректен
+     */
+    public static boolean isValidCode(byte code) {
+        return code >= 0 && code < CELL_TYPES.length;
+    }
+
+    /**
+     * Возвращает тип ячейки по его коду.
+     *
+     * @param code код типа ячейки
+     *
+     * @return тип ячейки
+     */
+    public static CellType fromCode(byte code) {
+        return CELL_TYPES[code];
+    }
 }
@@ -0,0 +1,32 @@
+package backend.academy.mazeTask.enums;
+
+import backend.academy.mazeTask.maze.generator.EllerMazeGenerator;
+import backend.academy.mazeTask.maze.generator.KruskalMazeGenerator;
+import backend.academy.mazeTask.maze.generator.MazeGenerator;
+import backend.academy.mazeTask.maze.generator.PrimMazeGenerator;
+import java.util.function.Supplier;
+
+/**
+ * Перечисление доступных алгоритмов генерации лабиринтов.
+ * Используется там, где алгоритм выбирается по имени: в бенчмарках и параметрах запуска.
+ */
+public enum GeneratorType {
+    KRUSKAL(KruskalMazeGenerator::new),
+    PRIM(PrimMazeGenerator::new),
+    ELLER(EllerMazeGenerator::new);
+
+    private final Supplier<MazeGenerator> factory;
+
+    GeneratorType(Supplier<MazeGenerator> factory) {
+        this.factory = factory;
+    }
+
+    /**
+     * Создает новый генератор лабиринтов.
+     *
+     * @return генератор, реализующий выбранный алгоритм
+     */
+    public MazeGenerator create() {
+        return factory.get();
+    }
+}
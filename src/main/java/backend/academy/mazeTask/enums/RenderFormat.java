@@ -0,0 +1,37 @@
+package backend.academy.mazeTask.enums;
+
+import lombok.Getter;
+import static backend.academy.mazeTask.constants.ConstValues.BLUE_COLOR_CODE;
+import static backend.academy.mazeTask.constants.ConstValues.FINISH_PATH_SYMBOL;
+import static backend.academy.mazeTask.constants.ConstValues.GREEN_COLOR_CODE;
+import static backend.academy.mazeTask.constants.ConstValues.PATH_SYMBOL;
+import static backend.academy.mazeTask.constants.ConstValues.RED_COLOUR_CODE;
+import static backend.academy.mazeTask.constants.ConstValues.RESET_COLOUR_CODE;
+import static backend.academy.mazeTask.constants.ConstValues.START_PATH_SYMBOL;
+
+/**
+ * Перечисление форматов текстового изображения лабиринта, различающихся отображением ячеек пути.
+ */
+@Getter
+public enum RenderFormat {
+    ANSI(
+        RED_COLOUR_CODE + START_PATH_SYMBOL + RESET_COLOUR_CODE,
+        GREEN_COLOR_CODE + FINISH_PATH_SYMBOL + RESET_COLOUR_CODE,
+        BLUE_COLOR_CODE + PATH_SYMBOL + RESET_COLOUR_CODE
+    ),
+    PLAIN(
+        String.valueOf(START_PATH_SYMBOL),
+        String.valueOf(FINISH_PATH_SYMBOL),
+        String.valueOf(PATH_SYMBOL)
+    );
+
+    private final String startPathCell;
+    private final String finishPathCell;
+    private final String pathCell;
+
+    RenderFormat(String startPathCell, String finishPathCell, String pathCell) {
+        this.startPathCell = startPathCell;
+        this.finishPathCell = finishPathCell;
+        this.pathCell = pathCell;
+    }
+}
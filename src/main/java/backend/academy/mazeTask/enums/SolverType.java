@@ -0,0 +1,42 @@
+package backend.academy.mazeTask.enums;
+
+import backend.academy.mazeTask.maze.solver.AStarMazeSolver;
+import backend.academy.mazeTask.maze.solver.BfsMazeSolver;
+import backend.academy.mazeTask.maze.solver.BidirectionalDijkstraMazeSolver;
+import backend.academy.mazeTask.maze.solver.DeltaSteppingMazeSolver;
+import backend.academy.mazeTask.maze.solver.DfsMazeSolver;
+import backend.academy.mazeTask.maze.solver.DialMazeSolver;
+import backend.academy.mazeTask.maze.solver.DijkstraMazeSolver;
+import backend.academy.mazeTask.maze.solver.JunctionGraphMazeSolver;
+import backend.academy.mazeTask.maze.solver.MazeSolver;
+import java.util.function.Supplier;
+
+/**
+ * Перечисление доступных алгоритмов поиска кратчайшего пути.
+ * Используется там, где алгоритм выбирается по имени: в бенчмарках и параметрах запуска.
+ */
+public enum SolverType {
+    BFS(BfsMazeSolver::new),
+    DFS(DfsMazeSolver::new),
+    DIJKSTRA(DijkstraMazeSolver::new),
+    A_STAR(AStarMazeSolver::new),
+    DIAL(DialMazeSolver::new),
+    JUNCTION_GRAPH(JunctionGraphMazeSolver::new),
+    BIDIRECTIONAL_DIJKSTRA(BidirectionalDijkstraMazeSolver::new),
+    DELTA_STEPPING(DeltaSteppingMazeSolver::new);
+
+    private final Supplier<MazeSolver> factory;
+
+    SolverType(Supplier<MazeSolver> factory) {
+        this.factory = factory;
+    }
+
+    /**
+     * Создает новый решатель лабиринтов.
+     *
+     * @return решатель, реализующий выбранный алгоритм
+     */
+    public MazeSolver create() {
+        return factory.get();
+    }
+}
@@ -0,0 +1,9 @@
+package backend.academy.mazeTask.exception;
+
+import static backend.academy.mazeTask.constants.ExceptionTextValues.INCORRECT_DELTA_EXCEPTION_TEXT;
+
+public class IncorrectDeltaException extends RuntimeException {
+    public IncorrectDeltaException() {
+        super(INCORRECT_DELTA_EXCEPTION_TEXT);
+    }
+}
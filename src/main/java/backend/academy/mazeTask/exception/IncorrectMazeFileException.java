@@ -0,0 +1,9 @@
+package backend.academy.mazeTask.exception;
+
+import static backend.academy.mazeTask.constants.ExceptionTextValues.INCORRECT_MAZE_FILE_EXCEPTION_TEXT;
+
+public class IncorrectMazeFileException extends RuntimeException {
+    public IncorrectMazeFileException() {
+        super(INCORRECT_MAZE_FILE_EXCEPTION_TEXT);
+    }
+}
@@ -0,0 +1,9 @@
+package backend.academy.mazeTask.exception;
+
+import static backend.academy.mazeTask.constants.ExceptionTextValues.INCORRECT_MAZE_SIZE_LIMITS_EXCEPTION_TEXT;
+
+public class IncorrectMazeSizeLimitsException extends RuntimeException {
+    public IncorrectMazeSizeLimitsException() {
+        super(INCORRECT_MAZE_SIZE_LIMITS_EXCEPTION_TEXT);
+    }
+}
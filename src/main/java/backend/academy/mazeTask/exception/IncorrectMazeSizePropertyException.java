@@ -0,0 +1,9 @@
+package backend.academy.mazeTask.exception;
+
+import static backend.academy.mazeTask.constants.ExceptionTextValues.INCORRECT_MAZE_SIZE_PROPERTY_EXCEPTION_TEXT;
+
+public class IncorrectMazeSizePropertyException extends RuntimeException {
+    public IncorrectMazeSizePropertyException() {
+        super(INCORRECT_MAZE_SIZE_PROPERTY_EXCEPTION_TEXT);
+    }
+}
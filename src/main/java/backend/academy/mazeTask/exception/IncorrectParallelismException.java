@@ -0,0 +1,9 @@
+package backend.academy.mazeTask.exception;
+
+import static backend.academy.mazeTask.constants.ExceptionTextValues.INCORRECT_PARALLELISM_EXCEPTION_TEXT;
+
+public class IncorrectParallelismException extends RuntimeException {
+    public IncorrectParallelismException() {
+        super(INCORRECT_PARALLELISM_EXCEPTION_TEXT);
+    }
+}
@@ -0,0 +1,9 @@
+package backend.academy.mazeTask.exception;
+
+import static backend.academy.mazeTask.constants.ExceptionTextValues.MAZE_WITHOUT_BORDER_PASSAGES_EXCEPTION_TEXT;
+
+public class MazeWithoutBorderPassagesException extends RuntimeException {
+    public MazeWithoutBorderPassagesException() {
+        super(MAZE_WITHOUT_BORDER_PASSAGES_EXCEPTION_TEXT);
+    }
+}
@@ -2,73 +2,259 @@ package backend.academy.mazeTask.maze;
 
 import backend.academy.mazeTask.enums.CellType;
 import backend.academy.mazeTask.exception.IncorrectMazeGridException;
-import backend.academy.mazeTask.exception.IncorrectMazeHeightException;
-import backend.academy.mazeTask.exception.IncorrectMazeWidthException;
 import backend.academy.mazeTask.exception.MazeWithIncorrectEntryExitException;
-import static backend.academy.mazeTask.constants.ConstValues.MAX_MAZE_HEIGHT;
-import static backend.academy.mazeTask.constants.ConstValues.MAX_MAZE_WIDTH;
-import static backend.academy.mazeTask.constants.ConstValues.MIN_MAZE_HEIGHT;
-import static backend.academy.mazeTask.constants.ConstValues.MIN_MAZE_WIDTH;
+import java.nio.ByteBuffer;
+import lombok.AccessLevel;
+import lombok.Getter;
 import static backend.academy.mazeTask.constants.ExceptionTextValues.NULL_MAZE_GRID_EXCEPTION_TEXT;
 
 /**
  * Представляет лабиринт с заданной высотой, шириной и сеткой ячеек типа {@link CellType}.
- *
- * @param height высота лабиринта, должна быть в пределах от MIN_MAZE_HEIGHT до MAX_MAZE_HEIGHT
- * @param width ширина лабиринта, должна быть в пределах от MIN_MAZE_WIDTH до MAX_MAZE_WIDTH
- * @param grid двумерный массив {@link CellType}, представляющий сетку лабиринта
- *
+ * Сетка хранится построчно в плоском буфере кодов ячеек: ячейка (x, y) находится по индексу x * width + y.
+ * Буфер либо оборачивает массив в куче, либо отображает файл {@link MazeFile} в память без копирования.
  */
-public record Maze(int height, int width, CellType[][] grid) {
-    public Maze {
-        if (height < MIN_MAZE_HEIGHT || height > MAX_MAZE_HEIGHT) {
-            throw new IncorrectMazeHeightException();
+@Getter
+public final class Maze {
+
+    /**
+     * Высота лабиринта. Для лабиринта в куче должна быть в пределах {@link MazeSizeLimits#current()},
+     * для отображенного из файла - в пределах {@link MazeSizeLimits#validateAbsolute(int, int)}.
+     */
+    private final int height;
+
+    /**
+     * Ширина лабиринта, проверяется так же, как высота.
+     */
+    private final int width;
+
+    @Getter(AccessLevel.NONE)
+    private final ByteBuffer cells;
+
+    /**
+     * Создает лабиринт по копии плоского массива кодов ячеек. Изменение переданного массива
+     * после создания не влияет на лабиринт.
+     *
+     * @param height высота лабиринта, должна быть в пределах {@link MazeSizeLimits#current()}
+     * @param width ширина лабиринта, должна быть в пределах {@link MazeSizeLimits#current()}
+     * @param cells плоский массив кодов {@link CellType#code()}, представляющий сетку лабиринта
+     */
+    public Maze(int height, int width, byte[] cells) {
+        this(height, width, wrap(height, width, cells == null ? null : cells.clone()));
+    }
+
+    /**
+     * Создает лабиринт по двумерному массиву ячеек, копируя его в плоское представление.
+     *
+     * @param height высота лабиринта
+     * @param width ширина лабиринта
+     * @param grid двумерный массив {@link CellType}, представляющий сетку лабиринта
+     */
+    public Maze(int height, int width, CellType[][] grid) {
+        this(height, width, wrap(height, width, toCells(height, width, grid)));
+    }
+
+    /**
+     * Создает лабиринт поверх готового буфера кодов ячеек. Ни размеры, ни содержимое буфера не проверяются,
+     * чтобы не читать отображенный в память файл целиком: за корректность отвечает вызывающий код -
+     * публичные конструкторы, {@link #ofOwnedCells(int, int, byte[])} или {@link MazeFile}.
+     *
+     * @param height высота лабиринта
+     * @param width ширина лабиринта
+     * @param cells буфер кодов ячеек, индекс 0 которого соответствует ячейке (0, 0)
+     */
+    Maze(int height, int width, ByteBuffer cells) {
+        if (cells.capacity() != height * width) {
+            throw new IncorrectMazeGridException();
         }
 
-        if (width < MIN_MAZE_WIDTH || width > MAX_MAZE_WIDTH) {
-            throw new IncorrectMazeWidthException();
+        this.height = height;
+        this.width = width;
+        this.cells = cells;
+    }
+
+    /**
+     * Создает лабиринт по плоскому массиву кодов ячеек без копирования массива. Предназначен
+     * для генераторов, которые заполняют собственный массив и больше его не меняют: массив передается
+     * лабиринту, и вызывающий код не должен изменять его после вызова. Проверки те же, что в конструкторе.
+     *
+     * @param height высота лабиринта, должна быть в пределах {@link MazeSizeLimits#current()}
+     * @param width ширина лабиринта, должна быть в пределах {@link MazeSizeLimits#current()}
+     * @param cells плоский массив кодов {@link CellType#code()}, который становится сеткой лабиринта
+     *
+     * @return лабиринт поверх переданного массива
+     */
+    public static Maze ofOwnedCells(int height, int width, byte[] cells) {
+        return new Maze(height, width, wrap(height, width, cells));
+    }
+
+    /**
+     * Возвращает копию плоского массива кодов ячеек. Изменение копии не влияет на лабиринт,
+     * поэтому проверенные при создании коды ячеек и вход с выходом остаются корректными.
+     * Для чтения отдельных ячеек без копирования используются {@link #getRow(int, byte[])},
+     * {@link #getCode(int)} и {@link #isPassage(int)}.
+     *
+     * @return плоский массив кодов {@link CellType#code()}
+     */
+    public byte[] cells() {
+        final byte[] copy = new byte[cells.capacity()];
+
+        cells.get(0, copy);
+
+        return copy;
+    }
+
+    /**
+     * Копирует коды ячеек строки в переданный массив.
+     *
+     * @param x номер строки
+     * @param row массив длиной не меньше ширины лабиринта
+     */
+    public void getRow(int x, byte[] row) {
+        cells.get(x * width, row, 0, width);
+    }
+
+    /**
+     * Возвращает код ячейки по ее индексу в плоском массиве.
+     *
+     * @param index индекс ячейки
+     *
+     * @return код {@link CellType#code()}
+     */
+    public byte getCode(int index) {
+        return cells.get(index);
+    }
+
+    /**
+     * Возвращает индекс ячейки в плоском массиве.
+     *
+     * @param x номер строки
+     * @param y номер столбца
+     *
+     * @return индекс ячейки
+     */
+    public int getIndex(int x, int y) {
+        return x * width + y;
+    }
+
+    /**
+     * Возвращает координату ячейки по ее индексу в плоском массиве.
+     *
+     * @param index индекс ячейки
+     *
+     * @return координата ячейки
+     */
+    public Coordinate getCoordinate(int index) {
+        return new Coordinate(index / width, index % width);
+    }
+
+    /**
+     * Возвращает тип ячейки по ее координатам.
+     *
+     * @param x номер строки
+     * @param y номер столбца
+     *
+     * @return тип ячейки
+     */
+    public CellType getCell(int x, int y) {
+        return getCell(getIndex(x, y));
+    }
+
+    /**
+     * Возвращает тип ячейки по ее индексу в плоском массиве.
+     *
+     * @param index индекс ячейки
+     *
+     * @return тип ячейки
+     */
+    public CellType getCell(int index) {
+        return CellType.fromCode(cells.get(index));
+    }
+
+    /**
+     * Проверяет, является ли ячейка проходом.
+     *
+     * @param index индекс ячейки
+     *
+     * @return true, если ячейка не является стеной
+     */
+    public boolean isPassage(int index) {
+        return cells.get(index) != CellType.WALL.code();
+    }
+
+    private static ByteBuffer wrap(int height, int width, byte[] cells) {
+        MazeSizeLimits.current().validate(height, width);
+
+        if (cells == null) {
+            throw new NullPointerException(NULL_MAZE_GRID_EXCEPTION_TEXT);
         }
 
+        if (cells.length != height * width) {
+            throw new IncorrectMazeGridException();
+        }
+
+        validateCellTypes(cells);
+        validatePassageCount(cells, height, width);
+
+        return ByteBuffer.wrap(cells);
+    }
+
+    private static byte[] toCells(int height, int width, CellType[][] grid) {
+        MazeSizeLimits.current().validate(height, width);
+
         if (grid == null) {
             throw new NullPointerException(NULL_MAZE_GRID_EXCEPTION_TEXT);
         }
 
-        if (height != grid.length || width != grid[0].length) {
+        if (height != grid.length) {
             throw new IncorrectMazeGridException();
         }
 
-        validateCellTypes(grid, height, width);
-        validatePassageCount(grid, height, width);
-    }
+        final byte[] cells = new byte[height * width];
 
-    private void validateCellTypes(CellType[][] grid, int height, int width) {
         for (int i = 0; i < height; i++) {
+            if (grid[i] == null || grid[i].length != width) {
+                throw new IncorrectMazeGridException();
+            }
+
             for (int j = 0; j < width; j++) {
                 if (grid[i][j] == null) {
                     throw new IncorrectMazeGridException();
                 }
+
+                cells[i * width + j] = grid[i][j].code();
             }
         }
+
+        return cells;
     }
 
-    private void validatePassageCount(CellType[][] grid, int height, int width) {
+    private static void validateCellTypes(byte[] cells) {
+        for (byte cell : cells) {
+            if (!CellType.isValidCode(cell)) {
+                throw new IncorrectMazeGridException();
+            }
+        }
+    }
+
+    private static void validatePassageCount(byte[] cells, int height, int width) {
         final int correctPassageCount = 2;
+        final byte wall = CellType.WALL.code();
         int passageCount = 0;
 
         for (int i = 0; i < width; i++) {
-            if (getElementByIndex(grid, 0, i) != CellType.WALL) {
+            if (cells[i] != wall) {
                 passageCount++;
             }
-            if (getElementByIndex(grid, height - 1, i) != CellType.WALL) {
+            if (cells[(height - 1) * width + i] != wall) {
                 passageCount++;
             }
         }
 
         for (int i = 1; i < height - 1; i++) {
-            if (getElementByIndex(grid, i, 0) != CellType.WALL) {
+            if (cells[i * width] != wall) {
                 passageCount++;
             }
-            if (getElementByIndex(grid, i, width - 1) != CellType.WALL) {
+            if (cells[i * width + width - 1] != wall) {
                 passageCount++;
             }
         }
@@ -77,12 +263,4 @@ public record Maze(int height, int width, CellType[][] grid) {
             throw new MazeWithIncorrectEntryExitException();
         }
     }
-
-    private CellType getElementByIndex(CellType[][] grid, int x, int y) {
-        if (x >= 0 && y >= 0 && x < grid.length && y < grid[0].length) {
-            return grid[x][y];
-        }
-
-        return null;
-    }
 }
@@ -0,0 +1,200 @@
+package backend.academy.mazeTask.maze;
+
+import backend.academy.mazeTask.enums.CellType;
+import backend.academy.mazeTask.exception.IncorrectMazeFileException;
+import backend.academy.mazeTask.exception.IncorrectMazeHeightException;
+import backend.academy.mazeTask.exception.IncorrectMazeWidthException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+import static backend.academy.mazeTask.constants.ExceptionTextValues.NULL_MAZE_EXCEPTION_TEXT;
+import static backend.academy.mazeTask.constants.ExceptionTextValues.NULL_MAZE_FILE_PATH_EXCEPTION_TEXT;
+
+/**
+ * Лабиринт, сохраненный в двоичном файле, и метаданные его заголовка.
+ * Формат файла (числа в порядке big-endian):
+ * <pre>
+ * 0   int  сигнатура {@link #MAGIC}
+ * 4   int  версия формата {@link #VERSION}
+ * 8   int  высота
+ * 12  int  ширина
+ * 16  long зерно генерации
+ * 24  long контрольная сумма CRC32C кодов ячеек
+ * 32  byte[height * width] коды {@link CellType#code()} построчно
+ * </pre>
+ * Каждая ячейка занимает ровно один байт, поэтому данные ячеек отображаются в память и используются
+ * лабиринтом напрямую: открытие файла не зависит от его размера, а с диска читаются только затронутые страницы.
+ *
+ * @param version версия формата файла
+ * @param seed зерно, с которым был сгенерирован лабиринт
+ * @param checksum контрольная сумма кодов ячеек из заголовка
+ * @param maze лабиринт, ячейки которого отображены из файла
+ */
+public record MazeFile(int version, long seed, long checksum, Maze maze) {
+
+    /**
+     * Сигнатура файла лабиринта - байты "MAZE".
+     */
+    public static final int MAGIC = 0x4D415A45;
+
+    /**
+     * Текущая версия формата.
+     */
+    public static final int VERSION = 1;
+
+    /**
+     * Размер заголовка в байтах.
+     */
+    public static final int HEADER_SIZE = 32;
+
+    /**
+     * Записывает лабиринт в файл, заменяя существующий.
+     *
+     * @param path путь к файлу
+     * @param maze лабиринт, который нужно сохранить
+     * @param seed зерно, с которым был сгенерирован лабиринт
+     *
+     * @throws NullPointerException если путь или лабиринт равен null
+     * @throws UncheckedIOException если запись завершилась ошибкой ввода-вывода
+     */
+    public static void write(Path path, Maze maze, long seed) {
+        if (maze == null) {
+            throw new NullPointerException(NULL_MAZE_EXCEPTION_TEXT);
+        }
+
+        final byte[] row = new byte[maze.width()];
+
+        try (MazeFileWriter writer = new MazeFileWriter(path, maze.height(), maze.width(), seed)) {
+            for (int x = 0; x < maze.height(); x++) {
+                maze.getRow(x, row);
+                writer.accept(x, row);
+            }
+        }
+    }
+
+    /**
+     * Открывает файл лабиринта, отображая данные ячеек в память без копирования, и проверяет их
+     * методом {@link #verify()}, поэтому возвращенный лабиринт можно сразу передавать решателям.
+     * Размеры лабиринта берутся из заголовка и проверяются по {@link MazeSizeLimits#validateAbsolute(int, int)},
+     * как и при записи, поэтому открывается любой файл, записанный {@link MazeFileWriter},
+     * независимо от {@link MazeSizeLimits#current()}.
+     *
+     * @param path путь к файлу
+     *
+     * @return открытый и проверенный файл лабиринта
+     *
+     * @throws NullPointerException если путь равен null
+     * @throws IncorrectMazeFileException если заголовок, размер файла или данные ячеек некорректны
+     * @throws IncorrectMazeHeightException если высота меньше минимальной или ячеек слишком много
+     * @throws IncorrectMazeWidthException если ширина меньше минимальной
+     * @throws UncheckedIOException если чтение завершилось ошибкой ввода-вывода
+     */
+    public static MazeFile open(Path path) {
+        final MazeFile mazeFile = openUnchecked(path);
+
+        mazeFile.verify();
+
+        return mazeFile;
+    }
+
+    /**
+     * Открывает файл лабиринта, проверяя только заголовок и размер файла, без чтения данных ячеек:
+     * открытие не зависит от размера файла. Коды ячеек такого лабиринта не проверены, и до вызова
+     * {@link #verify()} его нельзя передавать решателям - поврежденный код ячейки приведет к ошибке при поиске.
+     *
+     * @param path путь к файлу
+     *
+     * @return открытый файл лабиринта с непроверенными данными ячеек
+     *
+     * @throws NullPointerException если путь равен null
+     * @throws IncorrectMazeFileException если заголовок или размер файла некорректны
+     * @throws IncorrectMazeHeightException если высота меньше минимальной или ячеек слишком много
+     * @throws IncorrectMazeWidthException если ширина меньше минимальной
+     * @throws UncheckedIOException если чтение завершилось ошибкой ввода-вывода
+     */
+    public static MazeFile openUnchecked(Path path) {
+        if (path == null) {
+            throw new NullPointerException(NULL_MAZE_FILE_PATH_EXCEPTION_TEXT);
+        }
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final ByteBuffer header = readHeader(channel);
+            final int height = header.getInt();
+            final int width = header.getInt();
+            final long seed = header.getLong();
+            final long checksum = header.getLong();
+
+            if (height <= 0 || width <= 0 || (long) height * width + HEADER_SIZE != channel.size()) {
+                throw new IncorrectMazeFileException();
+            }
+
+            MazeSizeLimits.validateAbsolute(height, width);
+
+            final ByteBuffer cells = channel.map(FileChannel.MapMode.READ_ONLY, HEADER_SIZE, (long) height * width);
+
+            return new MazeFile(VERSION, seed, checksum, new Maze(height, width, cells));
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Проверяет данные ячеек целиком: каждый код должен соответствовать типу ячейки,
+     * а контрольная сумма {@link #computeChecksum(Maze)} - совпадать с записанной в заголовке.
+     *
+     * @throws IncorrectMazeFileException если данные ячеек повреждены
+     */
+    public void verify() {
+        final int cellCount = maze.height() * maze.width();
+
+        for (int i = 0; i < cellCount; i++) {
+            if (!CellType.isValidCode(maze.getCode(i))) {
+                throw new IncorrectMazeFileException();
+            }
+        }
+
+        if (computeChecksum(maze) != checksum) {
+            throw new IncorrectMazeFileException();
+        }
+    }
+
+    /**
+     * Вычисляет контрольную сумму CRC32C кодов ячеек лабиринта.
+     *
+     * @param maze лабиринт
+     *
+     * @return контрольная сумма
+     */
+    static long computeChecksum(Maze maze) {
+        final CRC32C crc = new CRC32C();
+        final byte[] row = new byte[maze.width()];
+
+        for (int x = 0; x < maze.height(); x++) {
+            maze.getRow(x, row);
+            crc.update(row);
+        }
+
+        return crc.getValue();
+    }
+
+    private static ByteBuffer readHeader(FileChannel channel) throws IOException {
+        final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        int read = 0;
+
+        while (header.hasRemaining() && read >= 0) {
+            read = channel.read(header);
+        }
+
+        header.flip();
+
+        if (header.remaining() != HEADER_SIZE || header.getInt() != MAGIC || header.getInt() != VERSION) {
+            throw new IncorrectMazeFileException();
+        }
+
+        return header;
+    }
+}
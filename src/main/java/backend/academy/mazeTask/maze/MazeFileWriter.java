@@ -0,0 +1,179 @@
+package backend.academy.mazeTask.maze;
+
+import backend.academy.mazeTask.enums.CellType;
+import backend.academy.mazeTask.exception.IncorrectMazeGridException;
+import backend.academy.mazeTask.exception.IncorrectMazeHeightException;
+import backend.academy.mazeTask.exception.IncorrectMazeWidthException;
+import backend.academy.mazeTask.exception.MazeWithIncorrectEntryExitException;
+import backend.academy.mazeTask.maze.generator.MazeRowConsumer;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+import static backend.academy.mazeTask.constants.ExceptionTextValues.NULL_MAZE_FILE_PATH_EXCEPTION_TEXT;
+
+/**
+ * Построчно записывает лабиринт в файл формата {@link MazeFile}.
+ * Строки копируются в буфер фиксированного размера, а заголовок с контрольной суммой
+ * записывается при закрытии, поэтому лабиринт можно сохранять прямо из
+ * {@link backend.academy.mazeTask.maze.generator.EllerMazeGenerator#generateRows}, не храня сетку целиком.
+ * Каждая строка проверяется так же, как в конструкторе {@link Maze}.
+ */
+public final class MazeFileWriter implements MazeRowConsumer, Closeable {
+
+    private static final int BUFFER_SIZE = 65_536;
+    private static final int CORRECT_PASSAGE_COUNT = 2;
+
+    private final FileChannel channel;
+    private final int height;
+    private final int width;
+    private final long seed;
+    private final ByteBuffer buffer;
+    private final CRC32C checksum = new CRC32C();
+    private int rowCount;
+    private int borderPassageCount;
+
+    /**
+     * Создает файл лабиринта, заменяя существующий.
+     *
+     * @param path путь к файлу
+     * @param height высота лабиринта
+     * @param width ширина лабиринта
+     * @param seed зерно, с которым генерируется лабиринт
+     *
+     * @throws NullPointerException если путь равен null
+     * @throws IncorrectMazeHeightException если высота меньше минимальной или ячеек слишком много
+     * @throws IncorrectMazeWidthException если ширина меньше минимальной
+     * @throws UncheckedIOException если файл не удалось создать
+     */
+    public MazeFileWriter(Path path, int height, int width, long seed) {
+        if (path == null) {
+            throw new NullPointerException(NULL_MAZE_FILE_PATH_EXCEPTION_TEXT);
+        }
+
+        MazeSizeLimits.validateAbsolute(height, width);
+
+        this.height = height;
+        this.width = width;
+        this.seed = seed;
+        this.buffer = ByteBuffer.allocate(Math.max(BUFFER_SIZE, width));
+
+        try {
+            channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+            channel.position(MazeFile.HEADER_SIZE);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Записывает очередную строку лабиринта.
+     *
+     * @param rowIndex номер строки, строки должны передаваться по порядку
+     * @param row коды ячеек строки
+     *
+     * @throws IncorrectMazeGridException если строка передана не по порядку, имеет неверную длину
+     *     или содержит некорректный код ячейки
+     */
+    @Override
+    public void accept(int rowIndex, byte[] row) {
+        if (rowIndex != rowCount || rowIndex >= height || row == null || row.length != width) {
+            throw new IncorrectMazeGridException();
+        }
+
+        for (byte cell : row) {
+            if (!CellType.isValidCode(cell)) {
+                throw new IncorrectMazeGridException();
+            }
+        }
+
+        countBorderPassages(rowIndex, row);
+
+        if (buffer.remaining() < width) {
+            flush();
+        }
+
+        buffer.put(row);
+        checksum.update(row);
+        rowCount++;
+    }
+
+    /**
+     * Дописывает буферизованные строки и заголовок и закрывает файл.
+     *
+     * @throws IncorrectMazeGridException если записаны не все строки лабиринта
+     * @throws MazeWithIncorrectEntryExitException если на границе лабиринта не ровно один вход и один выход
+     * @throws UncheckedIOException если запись завершилась ошибкой ввода-вывода
+     */
+    @Override
+    public void close() {
+        try (channel) {
+            if (rowCount != height) {
+                throw new IncorrectMazeGridException();
+            }
+
+            if (borderPassageCount != CORRECT_PASSAGE_COUNT) {
+                throw new MazeWithIncorrectEntryExitException();
+            }
+
+            flush();
+            writeHeader();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private void countBorderPassages(int rowIndex, byte[] row) {
+        final byte wall = CellType.WALL.code();
+
+        if (rowIndex == 0 || rowIndex == height - 1) {
+            for (byte cell : row) {
+                if (cell != wall) {
+                    borderPassageCount++;
+                }
+            }
+        } else {
+            if (row[0] != wall) {
+                borderPassageCount++;
+            }
+            if (row[width - 1] != wall) {
+                borderPassageCount++;
+            }
+        }
+    }
+
+    private void flush() {
+        buffer.flip();
+
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+
+        buffer.clear();
+    }
+
+    private void writeHeader() throws IOException {
+        final ByteBuffer header = ByteBuffer.allocate(MazeFile.HEADER_SIZE)
+            .putInt(MazeFile.MAGIC)
+            .putInt(MazeFile.VERSION)
+            .putInt(height)
+            .putInt(width)
+            .putLong(seed)
+            .putLong(checksum.getValue())
+            .flip();
+        long position = 0;
+
+        while (header.hasRemaining()) {
+            position += channel.write(header, position);
+        }
+    }
+}
@@ -9,10 +9,6 @@ import backend.academy.mazeTask.maze.generator.PrimMazeGenerator;
 import backend.academy.mazeTask.maze.solver.BfsMazeSolver;
 import backend.academy.mazeTask.maze.solver.DfsMazeSolver;
 import java.util.List;
-import static backend.academy.mazeTask.constants.ConstValues.MAX_MAZE_HEIGHT;
-import static backend.academy.mazeTask.constants.ConstValues.MAX_MAZE_WIDTH;
-import static backend.academy.mazeTask.constants.ConstValues.MIN_MAZE_HEIGHT;
-import static backend.academy.mazeTask.constants.ConstValues.MIN_MAZE_WIDTH;
 import static backend.academy.mazeTask.constants.ExceptionTextValues.MAZE_NOT_GENERATED_DECISION;
 import static backend.academy.mazeTask.constants.ExceptionTextValues.UNKNOWN_ERROR_EXCEPTION_TEXT;
 
@@ -175,10 +171,12 @@ public class MazeMenu {
      *
      */
     private void chooseMazeSize() {
+        final MazeSizeLimits limits = MazeSizeLimits.current();
+
         ConsolePrinter.printChooseMazeHeight();
-        height = ConsoleReader.readPositiveInteger(MIN_MAZE_HEIGHT, MAX_MAZE_HEIGHT);
+        height = ConsoleReader.readPositiveInteger(limits.minHeight(), limits.maxHeight());
         ConsolePrinter.printChooseMazeWidth();
-        width = ConsoleReader.readPositiveInteger(MIN_MAZE_WIDTH, MAX_MAZE_WIDTH);
+        width = ConsoleReader.readPositiveInteger(limits.minWidth(), limits.maxWidth());
     }
 
     /**
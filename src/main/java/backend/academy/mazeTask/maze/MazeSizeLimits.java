@@ -0,0 +1,162 @@
+package backend.academy.mazeTask.maze;
+
+import backend.academy.mazeTask.enums.CellType;
+import backend.academy.mazeTask.exception.IncorrectMazeHeightException;
+import backend.academy.mazeTask.exception.IncorrectMazeSizeLimitsException;
+import backend.academy.mazeTask.exception.IncorrectMazeSizePropertyException;
+import backend.academy.mazeTask.exception.IncorrectMazeWidthException;
+import java.util.Arrays;
+import static backend.academy.mazeTask.constants.ConstValues.MAX_MAZE_HEIGHT;
+import static backend.academy.mazeTask.constants.ConstValues.MAX_MAZE_HEIGHT_PROPERTY;
+import static backend.academy.mazeTask.constants.ConstValues.MAX_MAZE_WIDTH;
+import static backend.academy.mazeTask.constants.ConstValues.MAX_MAZE_WIDTH_PROPERTY;
+import static backend.academy.mazeTask.constants.ConstValues.MIN_MAZE_HEIGHT;
+import static backend.academy.mazeTask.constants.ConstValues.MIN_MAZE_HEIGHT_PROPERTY;
+import static backend.academy.mazeTask.constants.ConstValues.MIN_MAZE_WIDTH;
+import static backend.academy.mazeTask.constants.ConstValues.MIN_MAZE_WIDTH_PROPERTY;
+import static backend.academy.mazeTask.constants.ExceptionTextValues.NULL_MAZE_SIZE_LIMITS_EXCEPTION_TEXT;
+
+/**
+ * Допустимые размеры лабиринта, которые проверяются при создании {@link Maze} и при генерации.
+ * По умолчанию используются значения из {@link backend.academy.mazeTask.constants.ConstValues},
+ * их можно переопределить программно через {@link #install(MazeSizeLimits)}. Системные свойства maze.height.min,
+ * maze.height.max, maze.width.min и maze.width.max читает {@link #fromSystemProperties()}
+ * один раз при запуске приложения, до этого действуют ограничения {@link #DEFAULT}.
+ * Максимальное количество ячеек ограничено так, чтобы индекс ячейки и стоимость любого пути помещались в int.
+ *
+ * @param minHeight минимальная высота, не меньше MIN_MAZE_HEIGHT
+ * @param maxHeight максимальная высота, не меньше minHeight
+ * @param minWidth минимальная ширина, не меньше MIN_MAZE_WIDTH
+ * @param maxWidth максимальная ширина, не меньше minWidth
+ */
+public record MazeSizeLimits(int minHeight, int maxHeight, int minWidth, int maxWidth) {
+
+    /**
+     * Максимальное количество ячеек лабиринта: сумма весов всех ячеек не превышает Integer.MAX_VALUE.
+     */
+    public static final long MAX_CELL_COUNT = Integer.MAX_VALUE / Arrays.stream(CellType.values())
+        .filter(cellType -> cellType != CellType.WALL)
+        .mapToInt(CellType::weight)
+        .max()
+        .orElse(1);
+
+    public static final MazeSizeLimits DEFAULT =
+        new MazeSizeLimits(MIN_MAZE_HEIGHT, MAX_MAZE_HEIGHT, MIN_MAZE_WIDTH, MAX_MAZE_WIDTH);
+
+    private static volatile MazeSizeLimits current = DEFAULT;
+
+    public MazeSizeLimits {
+        if (minHeight < MIN_MAZE_HEIGHT || maxHeight < minHeight
+            || minWidth < MIN_MAZE_WIDTH || maxWidth < minWidth
+            || (long) maxHeight * maxWidth > MAX_CELL_COUNT) {
+            throw new IncorrectMazeSizeLimitsException();
+        }
+    }
+
+    /**
+     * Создает ограничения с минимальными размерами по умолчанию и заданными максимальными размерами.
+     *
+     * @param maxHeight максимальная высота
+     * @param maxWidth максимальная ширина
+     *
+     * @return ограничения размеров
+     */
+    public static MazeSizeLimits withMaxSize(int maxHeight, int maxWidth) {
+        return new MazeSizeLimits(MIN_MAZE_HEIGHT, maxHeight, MIN_MAZE_WIDTH, maxWidth);
+    }
+
+    /**
+     * Читает ограничения из системных свойств. Отсутствующие свойства заменяются значениями по умолчанию.
+     *
+     * @return ограничения размеров
+     *
+     * @throws IncorrectMazeSizePropertyException если значение свойства не является целым числом
+     * @throws IncorrectMazeSizeLimitsException если заданные значения несовместимы
+     */
+    public static MazeSizeLimits fromSystemProperties() {
+        return new MazeSizeLimits(
+            getIntProperty(MIN_MAZE_HEIGHT_PROPERTY, MIN_MAZE_HEIGHT),
+            getIntProperty(MAX_MAZE_HEIGHT_PROPERTY, MAX_MAZE_HEIGHT),
+            getIntProperty(MIN_MAZE_WIDTH_PROPERTY, MIN_MAZE_WIDTH),
+            getIntProperty(MAX_MAZE_WIDTH_PROPERTY, MAX_MAZE_WIDTH)
+        );
+    }
+
+    /**
+     * Возвращает действующие ограничения размеров.
+     *
+     * @return ограничения размеров
+     */
+    public static MazeSizeLimits current() {
+        return current;
+    }
+
+    /**
+     * Устанавливает ограничения размеров для всех последующих проверок.
+     *
+     * @param limits новые ограничения
+     *
+     * @throws NullPointerException если limits равен null
+     */
+    public static void install(MazeSizeLimits limits) {
+        if (limits == null) {
+            throw new NullPointerException(NULL_MAZE_SIZE_LIMITS_EXCEPTION_TEXT);
+        }
+
+        current = limits;
+    }
+
+    /**
+     * Проверяет размеры лабиринта только по абсолютным границам: минимальным размерам
+     * MIN_MAZE_HEIGHT и MIN_MAZE_WIDTH и количеству ячеек {@link #MAX_CELL_COUNT}.
+     * Так проверяются файлы {@link MazeFile}: их размеры записаны в заголовке и не зависят от {@link #current()}.
+     *
+     * @param height высота лабиринта
+     * @param width ширина лабиринта
+     *
+     * @throws IncorrectMazeHeightException если высота меньше минимальной или ячеек слишком много
+     * @throws IncorrectMazeWidthException если ширина меньше минимальной
+     */
+    public static void validateAbsolute(int height, int width) {
+        if (width < MIN_MAZE_WIDTH) {
+            throw new IncorrectMazeWidthException();
+        }
+
+        if (height < MIN_MAZE_HEIGHT || (long) height * width > MAX_CELL_COUNT) {
+            throw new IncorrectMazeHeightException();
+        }
+    }
+
+    /**
+     * Проверяет, что высота и ширина лабиринта лежат в допустимых пределах.
+     *
+     * @param height высота лабиринта
+     * @param width ширина лабиринта
+     *
+     * @throws IncorrectMazeHeightException если высота вышла за допустимые пределы
+     * @throws IncorrectMazeWidthException если ширина вышла за допустимые пределы
+     */
+    public void validate(int height, int width) {
+        if (height < minHeight || height > maxHeight) {
+            throw new IncorrectMazeHeightException();
+        }
+
+        if (width < minWidth || width > maxWidth) {
+            throw new IncorrectMazeWidthException();
+        }
+    }
+
+    private static int getIntProperty(String name, int defaultValue) {
+        final String value = System.getProperty(name);
+
+        if (value == null) {
+            return defaultValue;
+        }
+
+        try {
+            return Integer.parseInt(value.strip());
+        } catch (NumberFormatException ex) {
+            throw new IncorrectMazeSizePropertyException();
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package backend.academy.mazeTask.maze.generator;
+
+import java.time.Duration;
+
+/**
+ * Сводка пакетной генерации: сколько лабиринтов и ячеек построено и за какое время.
+ *
+ * @param mazeCount количество сгенерированных лабиринтов
+ * @param cellCount суммарное количество ячеек
+ * @param elapsed время генерации всего пакета
+ * @param parallelism наибольшее количество одновременно генерируемых лабиринтов
+ */
+public record BatchGenerationReport(int mazeCount, long cellCount, Duration elapsed, int parallelism) {
+
+    private static final double NANOS_PER_SECOND = 1e9;
+
+    /**
+     * Возвращает пропускную способность в лабиринтах в секунду.
+     *
+     * @return количество лабиринтов в секунду
+     */
+    public double mazesPerSecond() {
+        return mazeCount / getSeconds();
+    }
+
+    /**
+     * Возвращает пропускную способность в ячейках в секунду.
+     *
+     * @return количество ячеек в секунду
+     */
+    public double cellsPerSecond() {
+        return cellCount / getSeconds();
+    }
+
+    private double getSeconds() {
+        return Math.max(elapsed.toNanos(), 1) / NANOS_PER_SECOND;
+    }
+}
@@ -0,0 +1,13 @@
+package backend.academy.mazeTask.maze.generator;
+
+import backend.academy.mazeTask.maze.Maze;
+import java.util.List;
+
+/**
+ * Лабиринты, построенные пакетной генерацией, в порядке их параметров и сводка генерации.
+ *
+ * @param mazes сгенерированные лабиринты
+ * @param report сводка пакетной генерации
+ */
+public record BatchGenerationResult(List<Maze> mazes, BatchGenerationReport report) {
+}
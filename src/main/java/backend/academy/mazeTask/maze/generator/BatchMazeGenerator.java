@@ -0,0 +1,143 @@
+package backend.academy.mazeTask.maze.generator;
+
+import backend.academy.mazeTask.exception.IncorrectParallelismException;
+import backend.academy.mazeTask.maze.Maze;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.ObjIntConsumer;
+import lombok.Getter;
+import static backend.academy.mazeTask.constants.ExceptionTextValues.NULL_MAZE_CONSUMER_EXCEPTION_TEXT;
+import static backend.academy.mazeTask.constants.ExceptionTextValues.NULL_MAZE_GENERATOR_EXCEPTION_TEXT;
+import static backend.academy.mazeTask.constants.ExceptionTextValues.NULL_MAZE_SPECS_EXCEPTION_TEXT;
+
+/**
+ * Пакетная генерация лабиринтов. Каждый лабиринт строится в отдельном виртуальном потоке общим
+ * экземпляром {@link MazeGenerator}, а семафор ограничивает количество одновременно строящихся лабиринтов.
+ * Разрешение берется до запуска задания, поэтому в памяти одновременно находится не больше
+ * {@link #parallelism()} незавершенных заданий, даже если пакет содержит десятки тысяч лабиринтов.
+ * Зерно каждого лабиринта задано в его {@link MazeSpec}, поэтому результат совпадает
+ * с последовательной генерацией при любой степени параллелизма.
+ */
+@Getter
+public final class BatchMazeGenerator {
+
+    private final MazeGenerator generator;
+    private final int parallelism;
+
+    /**
+     * Создает пакетный генератор, строящий одновременно столько лабиринтов, сколько доступно процессоров.
+     *
+     * @param generator генератор отдельных лабиринтов
+     *
+     * @throws NullPointerException если генератор равен null
+     */
+    public BatchMazeGenerator(MazeGenerator generator) {
+        this(generator, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Создает пакетный генератор с заданной степенью параллелизма.
+     *
+     * @param generator генератор отдельных лабиринтов
+     * @param parallelism наибольшее количество одновременно генерируемых лабиринтов
+     *
+     * @throws NullPointerException если генератор равен null
+     * @throws IncorrectParallelismException если степень параллелизма меньше 1
+     */
+    public BatchMazeGenerator(MazeGenerator generator, int parallelism) {
+        if (generator == null) {
+            throw new NullPointerException(NULL_MAZE_GENERATOR_EXCEPTION_TEXT);
+        }
+
+        if (parallelism < 1) {
+            throw new IncorrectParallelismException();
+        }
+
+        this.generator = generator;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Генерирует все лабиринты пакета и возвращает их в порядке параметров.
+     *
+     * @param specs параметры лабиринтов
+     *
+     * @return лабиринты и сводка генерации
+     *
+     * @throws NullPointerException если список параметров или один из его элементов равен null
+     * @throws InterruptedException если поток был прерван во время ожидания заданий
+     */
+    public BatchGenerationResult generateAll(List<MazeSpec> specs) throws InterruptedException {
+        final Maze[] mazes = new Maze[validateSpecs(specs).size()];
+        final BatchGenerationReport report = generateAll(specs, (maze, index) -> mazes[index] = maze);
+
+        return new BatchGenerationResult(Arrays.asList(mazes), report);
+    }
+
+    /**
+     * Генерирует все лабиринты пакета и передает каждый обработчику вместе с номером его параметров,
+     * не сохраняя лабиринты. Обработчик вызывается из разных потоков одновременно и должен быть потокобезопасным.
+     * При первой ошибке новые задания не запускаются, а после завершения начатых ошибка пробрасывается дальше.
+     *
+     * @param specs параметры лабиринтов
+     * @param consumer обработчик сгенерированных лабиринтов
+     *
+     * @return сводка генерации
+     *
+     * @throws NullPointerException если список параметров, один из его элементов или обработчик равен null
+     * @throws InterruptedException если поток был прерван во время ожидания заданий
+     */
+    public BatchGenerationReport generateAll(List<MazeSpec> specs, ObjIntConsumer<Maze> consumer)
+        throws InterruptedException {
+        validateSpecs(specs);
+
+        if (consumer == null) {
+            throw new NullPointerException(NULL_MAZE_CONSUMER_EXCEPTION_TEXT);
+        }
+
+        final Semaphore slots = new Semaphore(parallelism);
+        final AtomicReference<RuntimeException> failure = new AtomicReference<>();
+        final long start = System.nanoTime();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < specs.size() && failure.get() == null; i++) {
+                final int index = i;
+                final MazeSpec spec = specs.get(index);
+
+                slots.acquire();
+                executor.execute(() -> {
+                    try {
+                        consumer.accept(generator.generate(spec.height(), spec.width(), spec.seed()), index);
+                    } catch (RuntimeException exception) {
+                        failure.compareAndSet(null, exception);
+                    } finally {
+                        slots.release();
+                    }
+                });
+            }
+        }
+
+        if (failure.get() != null) {
+            throw failure.get();
+        }
+
+        final long cellCount = specs.stream().mapToLong(MazeSpec::cellCount).sum();
+
+        return new BatchGenerationReport(specs.size(), cellCount, Duration.ofNanos(System.nanoTime() - start),
+            parallelism);
+    }
+
+    private List<MazeSpec> validateSpecs(List<MazeSpec> specs) {
+        if (specs == null || specs.stream().anyMatch(Objects::isNull)) {
+            throw new NullPointerException(NULL_MAZE_SPECS_EXCEPTION_TEXT);
+        }
+
+        return specs;
+    }
+}
@@ -0,0 +1,63 @@
+package backend.academy.mazeTask.maze.generator;
+
+import java.util.BitSet;
+import java.util.random.RandomGenerator;
+
+/**
+ * Граница растущего лабиринта для алгоритма Прима: множество индексов ячеек без повторов.
+ * Элементы хранятся в массиве int, а признак присутствия - в {@link BitSet},
+ * поэтому добавление и извлечение случайного элемента выполняются за O(1) без выделения памяти.
+ */
+final class CellFrontier {
+
+    private final int[] items;
+    private final BitSet added;
+    private int size;
+
+    /**
+     * Создает пустую границу для ячеек с индексами от 0 до capacity - 1.
+     *
+     * @param capacity количество возможных ячеек
+     */
+    CellFrontier(int capacity) {
+        items = new int[capacity];
+        added = new BitSet(capacity);
+    }
+
+    /**
+     * Проверяет, пуста ли граница.
+     *
+     * @return true, если в границе нет ячеек
+     */
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Добавляет ячейку, если она еще ни разу не добавлялась.
+     *
+     * @param cell индекс ячейки
+     */
+    void add(int cell) {
+        if (!added.get(cell)) {
+            added.set(cell);
+            items[size++] = cell;
+        }
+    }
+
+    /**
+     * Извлекает случайную ячейку, заменяя ее последним элементом массива.
+     *
+     * @param random генератор случайных чисел
+     *
+     * @return индекс извлеченной ячейки
+     */
+    int removeRandom(RandomGenerator random) {
+        final int index = random.nextInt(size);
+        final int cell = items[index];
+
+        items[index] = items[--size];
+
+        return cell;
+    }
+}
@@ -0,0 +1,78 @@
+package backend.academy.mazeTask.maze.generator;
+
+/**
+ * Система непересекающихся множеств на примитивных массивах
+ * с объединением по рангу и сжатием путей.
+ */
+final class DisjointSet {
+
+    private final int[] parents;
+    private final byte[] ranks;
+
+    /**
+     * Создает систему из заданного количества одноэлементных множеств.
+     *
+     * @param size количество элементов
+     */
+    DisjointSet(int size) {
+        parents = new int[size];
+        ranks = new byte[size];
+
+        for (int i = 0; i < size; i++) {
+            parents[i] = i;
+        }
+    }
+
+    /**
+     * Находит представителя множества, которому принадлежит элемент.
+     *
+     * @param element индекс элемента
+     *
+     * @return индекс представителя множества
+     */
+    int find(int element) {
+        int root = element;
+
+        while (parents[root] != root) {
+            root = parents[root];
+        }
+
+        int current = element;
+
+        while (parents[current] != root) {
+            final int next = parents[current];
+            parents[current] = root;
+            current = next;
+        }
+
+        return root;
+    }
+
+    /**
+     * Объединяет множества, которым принадлежат элементы.
+     *
+     * @param first индекс первого элемента
+     * @param second индекс второго элемента
+     *
+     * @return true, если элементы находились в разных множествах и были объединены
+     */
+    boolean union(int first, int second) {
+        final int firstRoot = find(first);
+        final int secondRoot = find(second);
+
+        if (firstRoot == secondRoot) {
+            return false;
+        }
+
+        if (ranks[firstRoot] < ranks[secondRoot]) {
+            parents[firstRoot] = secondRoot;
+        } else if (ranks[firstRoot] > ranks[secondRoot]) {
+            parents[secondRoot] = firstRoot;
+        } else {
+            parents[secondRoot] = firstRoot;
+            ranks[firstRoot]++;
+        }
+
+        return true;
+    }
+}
@@ -0,0 +1,145 @@
+package backend.academy.mazeTask.maze.generator;
+
+import backend.academy.mazeTask.enums.CellType;
+import backend.academy.mazeTask.exception.IncorrectMazeHeightException;
+import backend.academy.mazeTask.exception.IncorrectMazeWidthException;
+import backend.academy.mazeTask.maze.Maze;
+import backend.academy.mazeTask.maze.MazeSizeLimits;
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+import static backend.academy.mazeTask.constants.ConstValues.MIN_MAZE_HEIGHT;
+import static backend.academy.mazeTask.constants.ExceptionTextValues.NULL_ROW_CONSUMER_EXCEPTION_TEXT;
+
+/**
+ * Используется для генерации лабиринтов с использованием алгоритма Эллера.
+ * Лабиринт строится строка за строкой: хранятся только множества ячеек текущей строки
+ * и буфер одной строки, поэтому {@link #generateRows(int, int, long, MazeRowConsumer)} требует O(width) памяти
+ * и может выдавать лабиринты с миллионами строк сразу в рендерер или файл.
+ */
+public class EllerMazeGenerator extends MazeGenerator {
+
+    /**
+     * Генерирует лабиринт заданной высоты и ширины с использованием алгоритма Эллера.
+     *
+     * @param height высота лабиринта, который нужно сгенерировать
+     * @param width ширина лабиринта, который нужно сгенерировать
+     * @param seed зерно генератора случайных чисел
+     *
+     * @return сгенерированный лабиринт в виде объекта класса {@link Maze}
+     *
+     * @throws IncorrectMazeHeightException если высота лабиринта вышла за допустимые пределы.
+     * @throws IncorrectMazeWidthException если ширина лабиринта вышла за допустимые пределы.
+     */
+    @Override
+    public Maze generate(int height, int width, long seed) {
+        super.validateData(height, width);
+
+        final byte[] cells = new byte[height * width];
+
+        generateRowsProcess(height, width, createRandom(seed),
+            (rowIndex, row) -> System.arraycopy(row, 0, cells, rowIndex * width, width));
+
+        return Maze.ofOwnedCells(height, width, cells);
+    }
+
+    /**
+     * Генерирует лабиринт построчно и передает каждую строку обработчику, не сохраняя сетку целиком.
+     * Для одинаковых размеров и зерна строки совпадают со строками лабиринта,
+     * возвращаемого {@link #generate(int, int, long)}. Высота ограничена только снизу,
+     * ширина должна лежать в пределах {@link MazeSizeLimits#current()}.
+     *
+     * @param height высота лабиринта, который нужно сгенерировать
+     * @param width ширина лабиринта, который нужно сгенерировать
+     * @param seed зерно генератора случайных чисел
+     * @param consumer обработчик строк
+     *
+     * @throws IncorrectMazeHeightException если высота лабиринта меньше минимальной.
+     * @throws IncorrectMazeWidthException если ширина лабиринта вышла за допустимые пределы.
+     * @throws NullPointerException если обработчик строк равен null
+     */
+    public void generateRows(int height, int width, long seed, MazeRowConsumer consumer) {
+        final MazeSizeLimits limits = MazeSizeLimits.current();
+
+        if (height < MIN_MAZE_HEIGHT) {
+            throw new IncorrectMazeHeightException();
+        }
+
+        if (width < limits.minWidth() || width > limits.maxWidth()) {
+            throw new IncorrectMazeWidthException();
+        }
+
+        if (consumer == null) {
+            throw new NullPointerException(NULL_ROW_CONSUMER_EXCEPTION_TEXT);
+        }
+
+        generateRowsProcess(height, width, createRandom(seed), consumer);
+    }
+
+    private void generateRowsProcess(int height, int width, RandomGenerator random, MazeRowConsumer consumer) {
+        final int rows = (height - 1) / 2;
+        final int columns = (width - 1) / 2;
+        final int entryY = random.nextInt((width - 2) / 2) * 2 + 1;
+        final int exitX = random.nextInt((height - 2) / 2) * 2 + 1;
+        final byte[] row = new byte[width];
+        final boolean[] down = new boolean[columns];
+        final EllerRowSets sets = new EllerRowSets(columns);
+
+        Arrays.fill(row, CellType.WALL.code());
+        row[entryY] = CellType.PASSAGE.code();
+        consumer.accept(0, row);
+
+        for (int i = 0; i < rows; i++) {
+            final int x = i * 2 + 1;
+            final boolean lastRow = i == rows - 1;
+
+            fillCellRow(row, sets, lastRow, random);
+
+            if (x == exitX) {
+                row[0] = CellType.PASSAGE.code();
+            }
+
+            consumer.accept(x, row);
+
+            if (!lastRow) {
+                sets.chooseDown(random, down);
+                fillPassagesDown(row, down, random);
+                consumer.accept(x + 1, row);
+                sets.moveToNextRow(down);
+            }
+        }
+
+        Arrays.fill(row, CellType.WALL.code());
+
+        for (int x = rows * 2; x < height; x++) {
+            consumer.accept(x, row);
+        }
+    }
+
+    /**
+     * Заполняет строку ячеек и случайно соединяет соседние ячейки из разных множеств.
+     * В последней строке соединяются все такие ячейки, чтобы лабиринт стал связным.
+     */
+    private void fillCellRow(byte[] row, EllerRowSets sets, boolean lastRow, RandomGenerator random) {
+        Arrays.fill(row, CellType.WALL.code());
+        row[1] = getRandomPassageView(random).code();
+
+        for (int y = 1; y < sets.columns(); y++) {
+            row[y * 2 + 1] = getRandomPassageView(random).code();
+
+            if (!sets.isSameSet(y - 1, y) && (lastRow || random.nextBoolean())) {
+                sets.merge(y - 1, y);
+                row[y * 2] = getRandomPassageView(random).code();
+            }
+        }
+    }
+
+    private void fillPassagesDown(byte[] row, boolean[] down, RandomGenerator random) {
+        Arrays.fill(row, CellType.WALL.code());
+
+        for (int y = 0; y < down.length; y++) {
+            if (down[y]) {
+                row[y * 2 + 1] = getRandomPassageView(random).code();
+            }
+        }
+    }
+}
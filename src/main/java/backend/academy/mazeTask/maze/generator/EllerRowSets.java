@@ -0,0 +1,149 @@
+package backend.academy.mazeTask.maze.generator;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Множества ячеек текущей строки для алгоритма Эллера.
+ * Метка каждой ячейки - номер множества от 0 до columns - 1, а объединения внутри строки
+ * выполняются через массив родителей с сокращением путей. Все массивы имеют длину columns
+ * и переиспользуются от строки к строке, поэтому память не зависит от высоты лабиринта.
+ */
+final class EllerRowSets {
+
+    private final int[] labels;
+    private final int[] parents;
+    private final int[] memberCounts;
+    private final int[] forcedCells;
+    private final boolean[] labelsWithDown;
+    private final boolean[] usedLabels;
+    private final int[] freeLabels;
+
+    /**
+     * Создает строку, в которой каждая ячейка находится в отдельном множестве.
+     *
+     * @param columns количество ячеек в строке
+     */
+    EllerRowSets(int columns) {
+        labels = new int[columns];
+        parents = new int[columns];
+        memberCounts = new int[columns];
+        forcedCells = new int[columns];
+        labelsWithDown = new boolean[columns];
+        usedLabels = new boolean[columns];
+        freeLabels = new int[columns];
+
+        for (int i = 0; i < columns; i++) {
+            labels[i] = i;
+            parents[i] = i;
+        }
+    }
+
+    /**
+     * Возвращает количество ячеек в строке.
+     *
+     * @return количество ячеек
+     */
+    int columns() {
+        return labels.length;
+    }
+
+    /**
+     * Проверяет, находятся ли ячейки в одном множестве.
+     *
+     * @param first номер первой ячейки в строке
+     * @param second номер второй ячейки в строке
+     *
+     * @return true, если ячейки уже соединены
+     */
+    boolean isSameSet(int first, int second) {
+        return find(labels[first]) == find(labels[second]);
+    }
+
+    /**
+     * Объединяет множества, которым принадлежат ячейки.
+     *
+     * @param first номер первой ячейки в строке
+     * @param second номер второй ячейки в строке
+     */
+    void merge(int first, int second) {
+        parents[find(labels[first])] = find(labels[second]);
+    }
+
+    /**
+     * Случайно выбирает ячейки, соединяемые со следующей строкой. Из каждого множества
+     * вниз уходит хотя бы одна ячейка, иначе множество оказалось бы отрезано от остального лабиринта.
+     *
+     * @param random генератор случайных чисел
+     * @param down массив, в который записывается выбор для каждой ячейки
+     */
+    void chooseDown(RandomGenerator random, boolean[] down) {
+        for (int i = 0; i < labels.length; i++) {
+            labels[i] = find(labels[i]);
+            memberCounts[labels[i]] = 0;
+            labelsWithDown[labels[i]] = false;
+        }
+
+        for (int i = 0; i < labels.length; i++) {
+            final int label = labels[i];
+
+            memberCounts[label]++;
+
+            if (random.nextInt(memberCounts[label]) == 0) {
+                forcedCells[label] = i;
+            }
+
+            down[i] = random.nextBoolean();
+            labelsWithDown[label] |= down[i];
+        }
+
+        for (int i = 0; i < labels.length; i++) {
+            if (!labelsWithDown[labels[i]] && forcedCells[labels[i]] == i) {
+                down[i] = true;
+            }
+        }
+    }
+
+    /**
+     * Переходит к следующей строке: ячейки, соединенные с текущей строкой, сохраняют свое множество,
+     * остальные получают свободные метки и становятся отдельными множествами.
+     *
+     * @param down выбор ячеек, соединенных с текущей строкой
+     */
+    void moveToNextRow(boolean[] down) {
+        int freeCount = 0;
+
+        for (int i = 0; i < labels.length; i++) {
+            usedLabels[i] = false;
+            parents[i] = i;
+        }
+
+        for (int i = 0; i < labels.length; i++) {
+            if (down[i]) {
+                usedLabels[labels[i]] = true;
+            }
+        }
+
+        for (int i = 0; i < labels.length; i++) {
+            if (!usedLabels[i]) {
+                freeLabels[freeCount++] = i;
+            }
+        }
+
+        for (int i = 0; i < labels.length; i++) {
+            if (!down[i]) {
+                labels[i] = freeLabels[--freeCount];
+            }
+        }
+    }
+
+    private int find(int label) {
+        int current = label;
+
+        while (parents[current] != current) {
+            parents[current] = parents[parents[current]];
+            current = parents[current];
+        }
+
+        return current;
+    }
+}
@@ -0,0 +1,87 @@
+package backend.academy.mazeTask.maze.generator;
+
+import backend.academy.mazeTask.enums.CellType;
+import backend.academy.mazeTask.maze.Maze;
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+/**
+ * Состояние одного вызова генерации: размеры, сетка ячеек и генератор случайных чисел.
+ * Контекст создается заново при каждом вызове и не разделяется между потоками,
+ * поэтому сами генераторы не хранят состояния и могут использоваться одновременно из нескольких потоков.
+ */
+@Getter
+final class GenerationContext {
+
+    private final int height;
+    private final int width;
+    private final RandomGenerator random;
+    @Getter(AccessLevel.NONE)
+    private final byte[] cells;
+
+    /**
+     * Создает контекст с сеткой, целиком заполненной стенами.
+     *
+     * @param height высота лабиринта
+     * @param width ширина лабиринта
+     * @param random генератор случайных чисел этого вызова
+     */
+    GenerationContext(int height, int width, RandomGenerator random) {
+        this.height = height;
+        this.width = width;
+        this.random = random;
+        this.cells = new byte[height * width];
+
+        Arrays.fill(cells, CellType.WALL.code());
+    }
+
+    /**
+     * Устанавливает тип ячейки, если координаты лежат в пределах сетки.
+     *
+     * @param x номер строки
+     * @param y номер столбца
+     * @param value тип ячейки
+     */
+    void setCellType(int x, int y, CellType value) {
+        if (x >= 0 && x < height && y >= 0 && y < width) {
+            cells[x * width + y] = value.code();
+        }
+    }
+
+    /**
+     * Открывает вход в верхней строке и выход в левом столбце напротив случайных проходов.
+     */
+    void setEntryExit() {
+        final int minValue = 1;
+
+        int y;
+        int x;
+
+        do {
+            y = random.nextInt(minValue, width - 2);
+        } while (isWall(minValue, y));
+
+        setCellType(0, y, CellType.PASSAGE);
+
+        do {
+            x = random.nextInt(minValue, height - 2);
+        } while (isWall(x, minValue));
+
+        setCellType(x, 0, CellType.PASSAGE);
+    }
+
+    /**
+     * Создает лабиринт по заполненной сетке.
+     *
+     * @return сгенерированный лабиринт
+     */
+    Maze toMaze() {
+        return Maze.ofOwnedCells(height, width, cells);
+    }
+
+    private boolean isWall(int x, int y) {
+        return cells[x * width + y] == CellType.WALL.code();
+    }
+}
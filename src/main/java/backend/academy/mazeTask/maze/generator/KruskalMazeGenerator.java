@@ -1,25 +1,27 @@
 package backend.academy.mazeTask.maze.generator;
 
-import backend.academy.mazeTask.enums.CellType;
 import backend.academy.mazeTask.exception.IncorrectMazeHeightException;
 import backend.academy.mazeTask.exception.IncorrectMazeWidthException;
-import backend.academy.mazeTask.maze.Coordinate;
 import backend.academy.mazeTask.maze.Maze;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
-import java.util.stream.Stream;
+import java.util.random.RandomGenerator;
 
 /**
  * Используется для генерации лабиринтов с использованием алгоритма Краскала.
+ * Множества ячеек хранятся в системе непересекающихся множеств {@link DisjointSet},
+ * а стены между ячейками - в перемешанном массиве int, поэтому генерация выполняется почти за линейное время.
  */
 public class KruskalMazeGenerator extends MazeGenerator {
 
+    private static final int RIGHT_EDGE = 0;
+    private static final int DOWN_EDGE = 1;
+    private static final int EDGE_DIRECTION_BITS = 1;
+
     /**
      * Генерирует лабиринт заданной высоты и ширины с использованием алгоритма Краскала.
      *
      * @param height высота лабиринта, который нужно сгенерировать
-     * @param width высота лабиринта, который нужно сгенерировать
+     * @param width ширина лабиринта, который нужно сгенерировать
+     * @param seed зерно генератора случайных чисел
      *
      * @return сгенерированный лабиринт в виде объекта класса {@link Maze}
      *
@@ -27,123 +29,70 @@ public class KruskalMazeGenerator extends MazeGenerator {
      * @throws IncorrectMazeWidthException если ширина лабиринта вышла за допустимые пределы.
      */
     @Override
-    public Maze generate(int height, int width) {
+    public Maze generate(int height, int width, long seed) {
         super.validateData(height, width);
 
-        super.height = height;
-        super.width = width;
-
-        return generateProcess();
-    }
-
-    private Maze generateProcess() {
-        final List<List<Coordinate>> maze = new ArrayList<>();
-        final List<List<Coordinate>> cells = getCells();
-        final int minSize = 1;
-
-        Collections.shuffle(cells);
-
-        while (cells.size() > minSize) {
-            final List<Coordinate> first = cells.getFirst();
-            boolean connected = false;
-
-            for (List<Coordinate> second : cells.subList(minSize, cells.size())) {
-                for (Coordinate cell : first) {
-                    final List<Coordinate> neighbours = getValidNeighbours(cell, second);
-
-                    for (Coordinate neighbour : neighbours) {
-                        maze.add(List.of(cell, neighbour));
-                        cells.remove(first);
-                        cells.remove(second);
-                        cells.add(Stream.concat(first.stream(), second.stream()).toList());
-                        connected = true;
-                        break;
-                    }
-                    if (connected) {
-                        break;
-                    }
-                }
-                if (connected) {
-                    break;
-                }
-            }
-        }
-
-        return new Maze(height, width, getGrid(maze));
+        return generateProcess(createContext(height, width, seed));
     }
 
-    private List<List<Coordinate>> getCells() {
-        final List<List<Coordinate>> cells = new ArrayList<>();
+    private Maze generateProcess(GenerationContext context) {
+        final RandomGenerator random = context.random();
+        final int rows = (context.height() - 1) / 2;
+        final int columns = (context.width() - 1) / 2;
+        final int[] edges = getShuffledEdges(rows, columns, random);
+        final DisjointSet sets = new DisjointSet(rows * columns);
 
-        for (int x = 0; x < height / 2; x++) {
-            for (int y = 0; y < width / 2; y++) {
-                cells.add(Collections.singletonList(new Coordinate(x, y)));
+        for (int x = 0; x < rows; x++) {
+            for (int y = 0; y < columns; y++) {
+                context.setCellType(x * 2 + 1, y * 2 + 1, getRandomPassageView(random));
             }
         }
 
-        return cells;
-    }
+        int remainingConnections = rows * columns - 1;
+
+        for (int i = 0; i < edges.length && remainingConnections > 0; i++) {
+            final int cell = edges[i] >>> EDGE_DIRECTION_BITS;
+            final int neighbour = (edges[i] & DOWN_EDGE) == DOWN_EDGE ? cell + columns : cell + 1;
 
-    private CellType[][] getGrid(List<List<Coordinate>> maze) {
-        final CellType[][] grid = new CellType[height][width];
+            if (sets.union(cell, neighbour)) {
+                final int wallX = cell / columns + neighbour / columns + 1;
+                final int wallY = cell % columns + neighbour % columns + 1;
 
-        for (List<Coordinate> path : maze) {
-            if (path.isEmpty()) {
-                continue;
+                context.setCellType(wallX, wallY, getRandomPassageView(random));
+                remainingConnections--;
             }
+        }
 
-            final Coordinate first = new Coordinate(path.getFirst().x() * 2 + 1, path.getFirst().y() * 2 + 1);
-            final Coordinate second = new Coordinate(path.getLast().x() * 2 + 1, path.getLast().y() * 2 + 1);
-            final Coordinate midPoint = new Coordinate((first.x() + second.x()) / 2, (first.y() + second.y()) / 2);
+        context.setEntryExit();
 
-            setCellType(grid, first.x(), first.y(), getRandomPassageView());
-            setCellType(grid, second.x(), second.y(), getRandomPassageView());
-            setCellType(grid, midPoint.x(), midPoint.y(), getRandomPassageView());
-        }
+        return context.toMaze();
+    }
 
-        for (int y = 0; y < width; y++) {
-            setCellType(grid, 0, y, CellType.WALL);
-            setCellType(grid, height - 1, y, CellType.WALL);
-        }
+    private int[] getShuffledEdges(int rows, int columns, RandomGenerator random) {
+        final int[] edges = new int[rows * (columns - 1) + (rows - 1) * columns];
+        int edgeCount = 0;
 
-        for (int x = 0; x < height; x++) {
-            setCellType(grid, x, 0, CellType.WALL);
-            setCellType(grid, x, width - 1, CellType.WALL);
-        }
+        for (int x = 0; x < rows; x++) {
+            for (int y = 0; y < columns; y++) {
+                final int cell = x * columns + y;
 
-        for (int i = 0; i < height; i++) {
-            for (int j = 0; j < width; j++) {
-                if (grid[i][j] == null) {
-                    grid[i][j] = CellType.WALL;
+                if (y + 1 < columns) {
+                    edges[edgeCount++] = cell << EDGE_DIRECTION_BITS | RIGHT_EDGE;
+                }
+                if (x + 1 < rows) {
+                    edges[edgeCount++] = cell << EDGE_DIRECTION_BITS | DOWN_EDGE;
                 }
             }
         }
 
-        setEntryExit(grid);
+        for (int i = edges.length - 1; i > 0; i--) {
+            final int j = random.nextInt(i + 1);
+            final int edge = edges[i];
 
-        return grid;
-    }
-
-    private List<Coordinate> getValidNeighbours(Coordinate cell, List<Coordinate> coordinates) {
-        final int x = cell.x();
-        final int y = cell.y();
-        final int neighboursCount = 4;
-        final List<Coordinate> neighbours = new ArrayList<>(neighboursCount);
-
-        if (x + 1 < height / 2 && coordinates.contains(new Coordinate(x + 1, y))) {
-            neighbours.add(new Coordinate(x + 1, y));
-        }
-        if (x - 1 >= 0 && coordinates.contains(new Coordinate(x - 1, y))) {
-            neighbours.add(new Coordinate(x - 1, y));
-        }
-        if (y + 1 < width / 2 && coordinates.contains(new Coordinate(x, y + 1))) {
-            neighbours.add(new Coordinate(x, y + 1));
-        }
-        if (y - 1 >= 0 && coordinates.contains(new Coordinate(x, y - 1))) {
-            neighbours.add(new Coordinate(x, y - 1));
+            edges[i] = edges[j];
+            edges[j] = edge;
         }
 
-        Collections.shuffle(neighbours);
-        return neighbours;
+        return edges;
     }
 }
@@ -1,72 +1,74 @@
 package backend.academy.mazeTask.maze.generator;
 
 import backend.academy.mazeTask.enums.CellType;
-import backend.academy.mazeTask.exception.IncorrectMazeHeightException;
-import backend.academy.mazeTask.exception.IncorrectMazeWidthException;
 import backend.academy.mazeTask.maze.Maze;
-import java.security.SecureRandom;
+import backend.academy.mazeTask.maze.MazeSizeLimits;
 import java.util.Arrays;
-import static backend.academy.mazeTask.constants.ConstValues.MAX_MAZE_HEIGHT;
-import static backend.academy.mazeTask.constants.ConstValues.MAX_MAZE_WIDTH;
-import static backend.academy.mazeTask.constants.ConstValues.MIN_MAZE_HEIGHT;
-import static backend.academy.mazeTask.constants.ConstValues.MIN_MAZE_WIDTH;
-
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+
+/**
+ * Базовый класс генераторов лабиринтов. Все случайные решения принимаются генератором
+ * {@link RandomGenerator}, созданным по зерну, поэтому одно и то же зерно всегда дает один и тот же лабиринт.
+ * Генераторы не хранят состояния между вызовами: размеры, сетка и генератор случайных чисел находятся
+ * в {@link GenerationContext}, создаваемом для каждого вызова, поэтому один экземпляр генератора
+ * потокобезопасен и может обслуживать несколько запросов одновременно.
+ */
 public abstract class MazeGenerator {
 
-    protected final SecureRandom secureRandom = new SecureRandom();
-    protected int width;
-    protected int height;
+    private static final RandomGeneratorFactory<RandomGenerator> RANDOM_FACTORY =
+        RandomGeneratorFactory.of("L64X128MixRandom");
+    private static final CellType[] PASSAGE_VIEWS = Arrays.stream(CellType.values())
+        .filter(cellType -> cellType != CellType.WALL)
+        .toArray(CellType[]::new);
 
     protected void validateData(int height, int width) {
-        if (height < MIN_MAZE_HEIGHT || height > MAX_MAZE_HEIGHT) {
-            throw new IncorrectMazeHeightException();
-        }
-
-        if (width < MIN_MAZE_WIDTH || width > MAX_MAZE_WIDTH) {
-            throw new IncorrectMazeWidthException();
-        }
+        MazeSizeLimits.current().validate(height, width);
     }
 
-    protected void setCellType(CellType[][] grid, int x, int y, CellType value) {
-        if (x >= 0 && x < grid.length && y >= 0 && y < grid[0].length) {
-            grid[x][y] = value;
-        }
+    protected RandomGenerator createRandom(long seed) {
+        return RANDOM_FACTORY.create(seed);
     }
 
-    protected CellType getRandomPassageView() {
-        return Arrays.stream(CellType.values())
-            .filter(cellType -> cellType != CellType.WALL)
-            .skip(secureRandom.nextInt(CellType.values().length - 1))
-            .findFirst()
-            .orElse(CellType.PASSAGE);
+    GenerationContext createContext(int height, int width, long seed) {
+        return new GenerationContext(height, width, createRandom(seed));
     }
 
-    protected void setEntryExit(CellType[][] grid) {
-        final int minValue = 1;
-
-        int y;
-        int x;
-
-        do {
-            y = secureRandom.nextInt(minValue, width - 2);
-        } while (getElementByIndex(grid, minValue, y) == CellType.WALL);
-
-        grid[0][y] = CellType.PASSAGE;
-
-        do {
-            x = secureRandom.nextInt(minValue, grid.length - 2);
-        } while (getElementByIndex(grid, x, minValue) == CellType.WALL);
-
-        grid[x][0] = CellType.PASSAGE;
+    protected CellType getRandomPassageView(RandomGenerator random) {
+        return PASSAGE_VIEWS[random.nextInt(PASSAGE_VIEWS.length)];
     }
 
-    private CellType getElementByIndex(CellType[][] grid, int x, int y) {
-        if (x >= 0 && y >= 0 && x < grid.length && y < grid[0].length) {
-            return grid[x][y];
-        }
-
-        return null;
+    /**
+     * Генерирует лабиринт заданной высоты и ширины со случайным зерном.
+     *
+     * @param height высота лабиринта, который нужно сгенерировать
+     * @param width ширина лабиринта, который нужно сгенерировать
+     *
+     * @return сгенерированный лабиринт в виде объекта класса {@link Maze}
+     *
+     * @throws backend.academy.mazeTask.exception.IncorrectMazeHeightException если высота лабиринта
+     * вышла за допустимые пределы.
+     * @throws backend.academy.mazeTask.exception.IncorrectMazeWidthException если ширина лабиринта
+     * вышла за допустимые пределы.
+     */
+    public Maze generate(int height, int width) {
+        return generate(height, width, ThreadLocalRandom.current().nextLong());
     }
 
-    public abstract Maze generate(int height, int width);
+    /**
+     * Генерирует лабиринт заданной высоты и ширины. Одинаковые размеры и зерно дают одинаковый лабиринт.
+     *
+     * @param height высота лабиринта, который нужно сгенерировать
+     * @param width ширина лабиринта, который нужно сгенерировать
+     * @param seed зерно генератора случайных чисел
+     *
+     * @return сгенерированный лабиринт в виде объекта класса {@link Maze}
+     *
+     * @throws backend.academy.mazeTask.exception.IncorrectMazeHeightException если высота лабиринта
+     * вышла за допустимые пределы.
+     * @throws backend.academy.mazeTask.exception.IncorrectMazeWidthException если ширина лабиринта
+     * вышла за допустимые пределы.
+     */
+    public abstract Maze generate(int height, int width, long seed);
 }
@@ -0,0 +1,17 @@
+package backend.academy.mazeTask.maze.generator;
+
+/**
+ * Получает строки лабиринта по одной, сверху вниз.
+ */
+@FunctionalInterface
+public interface MazeRowConsumer {
+
+    /**
+     * Обрабатывает очередную строку лабиринта. Массив переиспользуется генератором,
+     * поэтому его содержимое нужно скопировать, если оно требуется после возврата из метода.
+     *
+     * @param rowIndex номер строки
+     * @param row коды ячеек {@link backend.academy.mazeTask.enums.CellType#code()} строки
+     */
+    void accept(int rowIndex, byte[] row);
+}
@@ -0,0 +1,44 @@
+package backend.academy.mazeTask.maze.generator;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+/**
+ * Параметры одного лабиринта в пакетной генерации. Зерно задается для каждого лабиринта отдельно,
+ * поэтому результат не зависит от порядка, в котором потоки выполняют задания.
+ *
+ * @param height высота лабиринта
+ * @param width ширина лабиринта
+ * @param seed зерно генератора случайных чисел
+ */
+public record MazeSpec(int height, int width, long seed) {
+
+    /**
+     * Создает серию лабиринтов одного размера, зерна которых выводятся из базового зерна.
+     * Одинаковые аргументы всегда дают одинаковую серию.
+     *
+     * @param count количество лабиринтов
+     * @param height высота лабиринтов
+     * @param width ширина лабиринтов
+     * @param baseSeed базовое зерно серии
+     *
+     * @return параметры лабиринтов серии
+     */
+    public static List<MazeSpec> series(int count, int height, int width, long baseSeed) {
+        final SplittableRandom seeds = new SplittableRandom(baseSeed);
+
+        return IntStream.range(0, count)
+            .mapToObj(index -> new MazeSpec(height, width, seeds.nextLong()))
+            .toList();
+    }
+
+    /**
+     * Возвращает количество ячеек лабиринта.
+     *
+     * @return произведение высоты на ширину
+     */
+    public long cellCount() {
+        return (long) height * width;
+    }
+}
@@ -1,24 +1,28 @@
 package backend.academy.mazeTask.maze.generator;
 
-import backend.academy.mazeTask.enums.CellType;
 import backend.academy.mazeTask.exception.IncorrectMazeHeightException;
 import backend.academy.mazeTask.exception.IncorrectMazeWidthException;
-import backend.academy.mazeTask.maze.Coordinate;
 import backend.academy.mazeTask.maze.Maze;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.function.Predicate;
+import java.util.BitSet;
+import java.util.random.RandomGenerator;
 
 /**
  * Используется для генерации лабиринтов с использованием алгоритма Прима.
+ * Граница лабиринта хранится в {@link CellFrontier}, а ячейки, уже вошедшие в лабиринт, - в {@link BitSet},
+ * поэтому каждый шаг выполняется за O(1) без выделения памяти, а результат является деревом без циклов.
  */
 public class PrimMazeGenerator extends MazeGenerator {
 
+    private static final int NO_NEIGHBOUR = -1;
+    private static final int[] ROW_STEPS = {0, 1, 0, -1};
+    private static final int[] COLUMN_STEPS = {1, 0, -1, 0};
+
     /**
      * Генерирует лабиринт заданной высоты и ширины с использованием алгоритма Прима.
      *
      * @param height высота лабиринта, который нужно сгенерировать
      * @param width ширина лабиринта, который нужно сгенерировать
+     * @param seed зерно генератора случайных чисел
      *
      * @return сгенерированный лабиринт в виде объекта класса {@link Maze}
      *
@@ -26,85 +30,78 @@ public class PrimMazeGenerator extends MazeGenerator {
      * @throws IncorrectMazeWidthException если ширина лабиринта вышла за допустимые пределы.
      */
     @Override
-    public Maze generate(int height, int width) {
+    public Maze generate(int height, int width, long seed) {
         super.validateData(height, width);
 
-        super.height = height;
-        super.width = width;
-
-        return generateProcess();
+        return generateProcess(createContext(height, width, seed));
     }
 
-    private Maze generateProcess() {
-        final CellType[][] grid = initGrid();
-        final int startX = secureRandom.nextInt((height - 1) / 2) * 2 + 1;
-        final int startY = secureRandom.nextInt((width - 1) / 2) * 2 + 1;
+    private Maze generateProcess(GenerationContext context) {
+        final RandomGenerator random = context.random();
+        final int rows = (context.height() - 1) / 2;
+        final int columns = (context.width() - 1) / 2;
+        final BitSet visited = new BitSet(rows * columns);
+        final CellFrontier frontier = new CellFrontier(rows * columns);
+        final int start = random.nextInt(rows * columns);
+
+        context.setCellType(start / columns * 2 + 1, start % columns * 2 + 1, getRandomPassageView(random));
+        visited.set(start);
+        addNeighbours(frontier, visited, start, rows, columns);
+
+        while (!frontier.isEmpty()) {
+            final int cell = frontier.removeRandom(random);
+            final int neighbour = getRandomVisitedNeighbour(visited, cell, rows, columns, random);
+            final int wallX = cell / columns + neighbour / columns + 1;
+            final int wallY = cell % columns + neighbour % columns + 1;
+
+            context.setCellType(cell / columns * 2 + 1, cell % columns * 2 + 1, getRandomPassageView(random));
+            context.setCellType(wallX, wallY, getRandomPassageView(random));
+            visited.set(cell);
+            addNeighbours(frontier, visited, cell, rows, columns);
+        }
 
-        grid[startX][startY] = getRandomPassageView();
+        context.setEntryExit();
 
-        final List<Coordinate> coordinates = getNeighbours(grid, startX, startY, cell -> cell == CellType.WALL);
+        return context.toMaze();
+    }
 
-        while (!coordinates.isEmpty()) {
-            final Coordinate coordinate = coordinates
-                .remove(secureRandom.nextInt(coordinates.size()));
-            final List<Coordinate> neighbours = getNeighbours(
-                grid, coordinate.x(), coordinate.y(), cell -> cell != CellType.WALL
-            );
+    private void addNeighbours(CellFrontier frontier, BitSet visited, int cell, int rows, int columns) {
+        for (int i = 0; i < ROW_STEPS.length; i++) {
+            final int neighbour = getNeighbour(cell, i, rows, columns);
 
-            if (!neighbours.isEmpty()) {
-                Coordinate neighbour = neighbours.get(secureRandom.nextInt(neighbours.size()));
-                grid[coordinate.x()][coordinate.y()] = getRandomPassageView();
-                connectCells(grid, coordinate, neighbour);
-                coordinates.addAll(getNeighbours(grid, coordinate.x(), coordinate.y(), cell -> cell == CellType.WALL));
+            if (neighbour != NO_NEIGHBOUR && !visited.get(neighbour)) {
+                frontier.add(neighbour);
             }
         }
-
-        setEntryExit(grid);
-
-        return new Maze(height, width, grid);
     }
 
-    private void connectCells(CellType[][] grid, Coordinate first, Coordinate second) {
-        final int wallX = (first.x() + second.x()) / 2;
-        final int wallY = (first.y() + second.y()) / 2;
+    /**
+     * Выбирает случайного соседа, уже входящего в лабиринт, за один проход по направлениям.
+     * Каждая ячейка границы добавляется как сосед ячейки лабиринта, поэтому такой сосед всегда существует.
+     */
+    private int getRandomVisitedNeighbour(BitSet visited, int cell, int rows, int columns, RandomGenerator random) {
+        int result = NO_NEIGHBOUR;
+        int count = 0;
 
-        setCellType(grid, wallX, wallY, getRandomPassageView());
-    }
+        for (int i = 0; i < ROW_STEPS.length; i++) {
+            final int neighbour = getNeighbour(cell, i, rows, columns);
 
-    private List<Coordinate> getNeighbours(CellType[][] grid, int x, int y, Predicate<CellType> condition) {
-        final List<Coordinate> neighbours = new ArrayList<>();
-        final Coordinate[] directions = {
-            new Coordinate(0, 2),
-            new Coordinate(2, 0),
-            new Coordinate(0, -2),
-            new Coordinate(-2, 0),
-        };
-
-        for (Coordinate coordinate : directions) {
-            final int newX = x + coordinate.x();
-            final int newY = y + coordinate.y();
-            if (isInBounds(newX, newY) && condition.test(grid[newX][newY])) {
-                neighbours.add(new Coordinate(newX, newY));
+            if (neighbour != NO_NEIGHBOUR && visited.get(neighbour) && random.nextInt(++count) == 0) {
+                result = neighbour;
             }
-
         }
 
-        return neighbours;
+        return result;
     }
 
-    private boolean isInBounds(int x, int y) {
-        return x > 0 && x < height - 1 && y > 0 && y < width - 1;
-    }
-
-    private CellType[][] initGrid() {
-        final CellType[][] grid = new CellType[height][width];
+    private int getNeighbour(int cell, int direction, int rows, int columns) {
+        final int x = cell / columns + ROW_STEPS[direction];
+        final int y = cell % columns + COLUMN_STEPS[direction];
 
-        for (int i = 0; i < height; i++) {
-            for (int j = 0; j < width; j++) {
-                grid[i][j] = CellType.WALL;
-            }
+        if (x < 0 || x >= rows || y < 0 || y >= columns) {
+            return NO_NEIGHBOUR;
         }
 
-        return grid;
+        return x * columns + y;
     }
 }
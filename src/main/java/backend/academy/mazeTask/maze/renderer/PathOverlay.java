@@ -0,0 +1,110 @@
+package backend.academy.mazeTask.maze.renderer;
+
+import backend.academy.mazeTask.enums.RenderFormat;
+import backend.academy.mazeTask.maze.Coordinate;
+import backend.academy.mazeTask.maze.Maze;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Отметки пути, наложенные на лабиринт. Ячейки пути хранятся в {@link BitSet} по индексам плоского массива,
+ * поэтому проверка принадлежности ячейки пути выполняется за O(1), а построение - за O(длины пути).
+ */
+final class PathOverlay {
+
+    static final int MAX_PATH_CELL_LENGTH = Arrays.stream(RenderFormat.values())
+        .mapToInt(format -> Math.max(format.pathCell().length(),
+            Math.max(format.startPathCell().length(), format.finishPathCell().length())))
+        .max()
+        .orElseThrow();
+
+    /**
+     * Пустые отметки, используемые при отрисовке лабиринта без пути.
+     */
+    static final PathOverlay EMPTY = new PathOverlay();
+
+    private static final int NO_INDEX = -1;
+
+    private final BitSet pathCells;
+    private final int startIndex;
+    private final int finishIndex;
+    private final int length;
+
+    private PathOverlay() {
+        pathCells = new BitSet();
+        startIndex = NO_INDEX;
+        finishIndex = NO_INDEX;
+        length = 0;
+    }
+
+    /**
+     * Отмечает ячейки пути. Путь должен быть проверен: координаты не null и лежат в пределах лабиринта.
+     *
+     * @param maze лабиринт
+     * @param path непустой путь
+     */
+    PathOverlay(Maze maze, List<Coordinate> path) {
+        pathCells = new BitSet(maze.height() * maze.width());
+
+        for (Coordinate coordinate : path) {
+            pathCells.set(maze.getIndex(coordinate.x(), coordinate.y()));
+        }
+
+        startIndex = maze.getIndex(path.getFirst().x(), path.getFirst().y());
+        finishIndex = maze.getIndex(path.getLast().x(), path.getLast().y());
+        length = path.size();
+    }
+
+    /**
+     * Создает отметки пути или возвращает пустые отметки, если путь не задан.
+     *
+     * @param maze лабиринт
+     * @param path путь или null
+     *
+     * @return отметки пути
+     */
+    static PathOverlay of(Maze maze, List<Coordinate> path) {
+        return path == null || path.isEmpty() ? EMPTY : new PathOverlay(maze, path);
+    }
+
+    /**
+     * Возвращает длину пути, по которой можно оценить размер результата.
+     *
+     * @return количество координат пути
+     */
+    int length() {
+        return length;
+    }
+
+    /**
+     * Проверяет, лежит ли ячейка на пути.
+     *
+     * @param index индекс ячейки
+     *
+     * @return true, если ячейка принадлежит пути
+     */
+    boolean contains(int index) {
+        return pathCells.get(index);
+    }
+
+    /**
+     * Возвращает изображение ячейки пути: начало, конец или промежуточная ячейка.
+     *
+     * @param index индекс ячейки, лежащей на пути
+     * @param format формат изображения
+     *
+     * @return строка с символом ячейки пути в заданном формате
+     */
+    String getPathCell(int index, RenderFormat format) {
+        if (index == startIndex) {
+            return format.startPathCell();
+        }
+
+        if (index == finishIndex) {
+            return format.finishPathCell();
+        }
+
+        return format.pathCell();
+    }
+}
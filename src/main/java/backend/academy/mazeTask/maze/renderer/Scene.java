@@ -1,31 +1,67 @@
 package backend.academy.mazeTask.maze.renderer;
 
 import backend.academy.mazeTask.enums.CellType;
+import backend.academy.mazeTask.enums.RenderFormat;
 import backend.academy.mazeTask.exception.CoordinateOutOfRangeException;
 import backend.academy.mazeTask.maze.Coordinate;
 import backend.academy.mazeTask.maze.Maze;
+import backend.academy.mazeTask.maze.generator.MazeRowConsumer;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import static backend.academy.mazeTask.constants.ConstValues.BLUE_COLOR_CODE;
 import static backend.academy.mazeTask.constants.ConstValues.DESCRIPTION_SEPARATE;
 import static backend.academy.mazeTask.constants.ConstValues.FINISH_PATH_SYMBOL;
 import static backend.academy.mazeTask.constants.ConstValues.FINISH_PATH_TEXT;
-import static backend.academy.mazeTask.constants.ConstValues.GREEN_COLOR_CODE;
 import static backend.academy.mazeTask.constants.ConstValues.PATH_NOT_FOUND_TEXT;
 import static backend.academy.mazeTask.constants.ConstValues.PATH_SYMBOL;
 import static backend.academy.mazeTask.constants.ConstValues.PATH_TEXT;
-import static backend.academy.mazeTask.constants.ConstValues.RED_COLOUR_CODE;
-import static backend.academy.mazeTask.constants.ConstValues.RESET_COLOUR_CODE;
 import static backend.academy.mazeTask.constants.ConstValues.START_PATH_SYMBOL;
 import static backend.academy.mazeTask.constants.ConstValues.START_PATH_TEXT;
 import static backend.academy.mazeTask.constants.ConstValues.WALL_SYMBOL;
 import static backend.academy.mazeTask.constants.ExceptionTextValues.NULL_COORDINATE_EXCEPTION_TEXT;
 import static backend.academy.mazeTask.constants.ExceptionTextValues.NULL_MAZE_EXCEPTION_TEXT;
+import static backend.academy.mazeTask.constants.ExceptionTextValues.NULL_OUTPUT_EXCEPTION_TEXT;
 import static backend.academy.mazeTask.constants.ExceptionTextValues.NULL_PATH_EXCEPTION_TEXT;
+import static backend.academy.mazeTask.constants.ExceptionTextValues.NULL_RENDER_FORMAT_EXCEPTION_TEXT;
 
+/**
+ * Формирует текстовое представление лабиринта, найденного пути и их описаний.
+ * Путь предварительно отмечается в {@link PathOverlay}, поэтому отрисовка линейна по размеру лабиринта.
+ * Помимо строки, лабиринт можно выводить построчно в {@link Appendable} или {@link WritableByteChannel}:
+ * используется один переиспользуемый буфер строки, поэтому дополнительная память не зависит от высоты лабиринта.
+ */
 public class Scene {
 
+    private static final char[] CELL_SYMBOLS = createCellSymbols();
+
+    private final RenderFormat format;
+
+    /**
+     * Создает сцену, выделяющую путь цветом с помощью ANSI-последовательностей.
+     */
+    public Scene() {
+        this(RenderFormat.ANSI);
+    }
+
+    /**
+     * Создает сцену с заданным форматом изображения пути.
+     *
+     * @param format формат изображения, например {@link RenderFormat#PLAIN} для записи в файл
+     *
+     * @throws NullPointerException если формат равен null
+     */
+    public Scene(RenderFormat format) {
+        if (format == null) {
+            throw new NullPointerException(NULL_RENDER_FORMAT_EXCEPTION_TEXT);
+        }
+
+        this.format = format;
+    }
+
     /**
      * Визуализирует лабиринт без указания пути.
      *
@@ -59,6 +95,83 @@ public class Scene {
         return render(maze, path);
     }
 
+    /**
+     * Выводит лабиринт без указания пути построчно, например в {@link java.io.Writer} или {@link java.io.PrintStream}.
+     *
+     * @param maze лабиринт, который нужно отобразить
+     * @param output приемник, в который записываются строки лабиринта
+     *
+     * @throws NullPointerException если лабиринт или приемник равны null
+     * @throws UncheckedIOException если запись в приемник завершилась ошибкой
+     */
+    public void writeMaze(Maze maze, Appendable output) {
+        validateMaze(maze);
+        validateOutput(output);
+
+        write(maze, PathOverlay.EMPTY, output);
+    }
+
+    /**
+     * Выводит лабиринт с указанием пути построчно, например в {@link java.io.Writer} или {@link java.io.PrintStream}.
+     *
+     * @param maze лабиринт, который нужно отобразить
+     * @param path список координат, представляющий путь в лабиринте
+     * @param output приемник, в который записываются строки лабиринта
+     *
+     * @throws NullPointerException если лабиринт, путь или приемник равны null
+     * @throws CoordinateOutOfRangeException если координаты вышлы за пределы лабиринта
+     * @throws UncheckedIOException если запись в приемник завершилась ошибкой
+     */
+    public void writeMaze(Maze maze, List<Coordinate> path, Appendable output) {
+        validateMaze(maze);
+        validatePath(maze, path);
+        validateOutput(output);
+
+        write(maze, PathOverlay.of(maze, path), output);
+    }
+
+    /**
+     * Выводит лабиринт с указанием пути построчно в канал, например в файл или стандартный вывод.
+     * Все символы изображения входят в ASCII, поэтому каждый символ записывается одним байтом.
+     *
+     * @param maze лабиринт, который нужно отобразить
+     * @param path список координат, представляющий путь в лабиринте
+     * @param channel канал, в который записываются строки лабиринта
+     *
+     * @throws NullPointerException если лабиринт, путь или канал равны null
+     * @throws CoordinateOutOfRangeException если координаты вышлы за пределы лабиринта
+     * @throws UncheckedIOException если запись в канал завершилась ошибкой
+     */
+    public void writeMaze(Maze maze, List<Coordinate> path, WritableByteChannel channel) {
+        validateMaze(maze);
+        validatePath(maze, path);
+        validateOutput(channel);
+
+        write(maze, PathOverlay.of(maze, path), channel);
+    }
+
+    /**
+     * Создает обработчик строк, который выводит строки лабиринта по мере их генерации,
+     * например из {@link backend.academy.mazeTask.maze.generator.EllerMazeGenerator}.
+     *
+     * @param output приемник, в который записываются строки лабиринта
+     *
+     * @return обработчик строк
+     *
+     * @throws NullPointerException если приемник равен null
+     */
+    public MazeRowConsumer createRowRenderer(Appendable output) {
+        validateOutput(output);
+
+        final StringBuilder row = new StringBuilder();
+
+        return (rowIndex, cells) -> {
+            row.setLength(0);
+            appendRow(row, cells, 0, PathOverlay.EMPTY);
+            append(output, row);
+        };
+    }
+
     /**
      * Визуализирует описание к лабиринту
      *
@@ -133,51 +246,105 @@ public class Scene {
         }
     }
 
+    private void validateOutput(Object output) {
+        if (output == null) {
+            throw new NullPointerException(NULL_OUTPUT_EXCEPTION_TEXT);
+        }
+    }
+
     private boolean isInvalidRange(Coordinate coordinate, Maze maze) {
         return coordinate.x() < 0 || coordinate.x() >= maze.height()
             || coordinate.y() < 0 || coordinate.y() >= maze.width();
     }
 
     private String render(Maze maze, List<Coordinate> path) {
-        final StringBuilder result = new StringBuilder();
-        final CellType[][] grid = maze.grid();
+        final PathOverlay overlay = PathOverlay.of(maze, path);
+        final StringBuilder result = new StringBuilder(
+            maze.height() * (maze.width() + 1) + overlay.length() * (PathOverlay.MAX_PATH_CELL_LENGTH - 1)
+        );
+        final byte[] cells = new byte[maze.width()];
 
         for (int x = 0; x < maze.height(); x++) {
-            for (int y = 0; y < maze.width(); y++) {
-                if (grid[x][y] == CellType.WALL) {
-                    result.append(WALL_SYMBOL);
-                } else {
-                    final int finalX = x;
-                    final int finalY = y;
-
-                    Coordinate coordinate = null;
-
-                    if (path != null) {
-                        coordinate = path
-                            .stream()
-                            .filter(coord -> coord.x() == finalX && coord.y() == finalY)
-                            .findFirst()
-                            .orElse(null);
-                    }
-
-                    if (coordinate != null) {
-                        if (coordinate.equals(path.getFirst())) {
-                            result.append(RED_COLOUR_CODE + START_PATH_SYMBOL);
-                        } else if (coordinate.equals(path.getLast())) {
-                            result.append(GREEN_COLOR_CODE + FINISH_PATH_SYMBOL);
-                        } else {
-                            result.append(BLUE_COLOR_CODE + PATH_SYMBOL);
-                        }
-
-                        result.append(RESET_COLOUR_CODE);
-                    } else {
-                        result.append((char) (grid[x][y].weight() + '0'));
-                    }
+            maze.getRow(x, cells);
+            appendRow(result, cells, x * maze.width(), overlay);
+        }
+
+        return result.toString();
+    }
+
+    private void write(Maze maze, PathOverlay overlay, Appendable output) {
+        final StringBuilder row = new StringBuilder(getRowCapacity(maze.width()));
+        final byte[] cells = new byte[maze.width()];
+
+        for (int x = 0; x < maze.height(); x++) {
+            row.setLength(0);
+            maze.getRow(x, cells);
+            appendRow(row, cells, x * maze.width(), overlay);
+            append(output, row);
+        }
+    }
+
+    private void write(Maze maze, PathOverlay overlay, WritableByteChannel channel) {
+        final StringBuilder row = new StringBuilder(getRowCapacity(maze.width()));
+        final ByteBuffer buffer = ByteBuffer.allocate(getRowCapacity(maze.width()));
+        final byte[] cells = new byte[maze.width()];
+
+        try {
+            for (int x = 0; x < maze.height(); x++) {
+                row.setLength(0);
+                maze.getRow(x, cells);
+                appendRow(row, cells, x * maze.width(), overlay);
+                buffer.clear();
+
+                for (int i = 0; i < row.length(); i++) {
+                    buffer.put((byte) row.charAt(i));
+                }
+
+                buffer.flip();
+
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
                 }
             }
-            result.append('\n');
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
         }
+    }
 
-        return result.toString();
+    private void append(Appendable output, CharSequence row) {
+        try {
+            output.append(row);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private void appendRow(StringBuilder result, byte[] cells, int rowStart, PathOverlay overlay) {
+        for (int y = 0; y < cells.length; y++) {
+            if (cells[y] != CellType.WALL.code() && overlay.contains(rowStart + y)) {
+                result.append(overlay.getPathCell(rowStart + y, format));
+            } else {
+                result.append(CELL_SYMBOLS[cells[y]]);
+            }
+        }
+
+        result.append('\n');
+    }
+
+    private static int getRowCapacity(int width) {
+        return width * PathOverlay.MAX_PATH_CELL_LENGTH + 1;
+    }
+
+    private static char[] createCellSymbols() {
+        final CellType[] cellTypes = CellType.values();
+        final char[] symbols = new char[cellTypes.length];
+
+        for (CellType cellType : cellTypes) {
+            symbols[cellType.code()] = cellType == CellType.WALL
+                ? WALL_SYMBOL
+                : (char) (cellType.weight() + '0');
+        }
+
+        return symbols;
     }
 }
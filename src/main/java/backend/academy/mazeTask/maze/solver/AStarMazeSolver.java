@@ -0,0 +1,133 @@
+package backend.academy.mazeTask.maze.solver;
+
+import backend.academy.mazeTask.enums.CellType;
+import backend.academy.mazeTask.exception.CoordinateOutOfRangeException;
+import backend.academy.mazeTask.maze.Coordinate;
+import backend.academy.mazeTask.maze.Maze;
+import backend.academy.mazeTask.maze.solver.dto.SearchResult;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Реализует алгоритм поиска кратчайшего пути в лабиринте с использованием алгоритма A*.
+ * В качестве эвристики используется манхэттенское расстояние до финиша, умноженное
+ * на минимальный вес прохода, поэтому эвристика допустима и найденный путь совпадает по стоимости
+ * с путем, найденным алгоритмом Дейкстры. При равной оценке первой раскрывается ячейка
+ * с большей стоимостью пройденного пути, то есть более близкая к финишу.
+ */
+public class AStarMazeSolver extends MazeSolver {
+
+    private static final int MIN_PASSAGE_WEIGHT = Arrays.stream(CellType.values())
+        .filter(cellType -> cellType != CellType.WALL)
+        .mapToInt(CellType::weight)
+        .min()
+        .orElse(1);
+    private static final int PRIORITY_SHIFT = Integer.SIZE;
+
+    /**
+     * Решает задачу поиска кратчайшего пути от точки старта до точки финиша в лабиринте,
+     * используя алгоритм A*.
+     *
+     * @param maze лабиринт, представленный объектом {@link Maze}, в котором необходимо найти путь
+     * @param start начальная координата пути
+     * @param finish конечная координата пути
+     *
+     * @return список координат, представляющий кратчайший путь от начальной точки до конечной.
+     * Если путь не найден, возвращается пустой список.
+     * Если начальная и конечная точки совпадают, возвращается список с одной точкой.
+     *
+     * @throws NullPointerException если входные данные являются null
+     * @throws CoordinateOutOfRangeException если координата начала или конца вышла за пределы лабиринта
+     */
+    @Override
+    public List<Coordinate> solve(Maze maze, Coordinate start, Coordinate finish) {
+        return solveWithStatistics(maze, start, finish).path();
+    }
+
+    /**
+     * Решает задачу поиска кратчайшего пути так же, как {@link #solve(Maze, Coordinate, Coordinate)},
+     * и дополнительно возвращает количество раскрытых ячеек.
+     *
+     * @param maze лабиринт, представленный объектом {@link Maze}, в котором необходимо найти путь
+     * @param start начальная координата пути
+     * @param finish конечная координата пути
+     *
+     * @return результат поиска, содержащий путь и количество ячеек, извлеченных из очереди
+     *
+     * @throws NullPointerException если входные данные являются null
+     * @throws CoordinateOutOfRangeException если координата начала или конца вышла за пределы лабиринта
+     */
+    public SearchResult solveWithStatistics(Maze maze, Coordinate start, Coordinate finish) {
+        super.validateData(maze, start, finish);
+
+        return solveProcess(maze, start, finish);
+    }
+
+    private SearchResult solveProcess(Maze maze, Coordinate start, Coordinate finish) {
+        if (!isValidMove(start.x(), start.y(), maze) || !isValidMove(finish.x(), finish.y(), maze)) {
+            return new SearchResult(new ArrayList<>(), 0);
+        }
+
+        if (start.equals(finish)) {
+            return new SearchResult(List.of(start), 0);
+        }
+
+        final int cellCount = maze.height() * maze.width();
+        final int startIndex = maze.getIndex(start.x(), start.y());
+        final int finishIndex = maze.getIndex(finish.x(), finish.y());
+        final int[] distances = new int[cellCount];
+        final int[] parents = new int[cellCount];
+        final IndexedMinHeap heap = new IndexedMinHeap(cellCount);
+
+        Arrays.fill(distances, Integer.MAX_VALUE);
+        Arrays.fill(parents, NO_PARENT);
+
+        distances[startIndex] = getWeight(maze, startIndex);
+        heap.insertOrDecrease(startIndex, getPriority(distances[startIndex], start.x(), start.y(), finish));
+
+        int expandedNodes = 0;
+
+        while (!heap.isEmpty()) {
+            final int current = heap.poll();
+
+            expandedNodes++;
+
+            if (current == finishIndex) {
+                return new SearchResult(buildPath(maze, parents, finishIndex), expandedNodes);
+            }
+
+            final int x = current / maze.width();
+            final int y = current % maze.width();
+
+            for (Coordinate direction : DIRECTIONS) {
+                final int newX = x + direction.x();
+                final int newY = y + direction.y();
+
+                if (isWithinBounds(newX, newY, maze) && isValidMove(newX, newY, maze)) {
+                    final int neighbour = maze.getIndex(newX, newY);
+                    final int newDistance = distances[current] + getWeight(maze, neighbour);
+
+                    if (newDistance < distances[neighbour]) {
+                        distances[neighbour] = newDistance;
+                        parents[neighbour] = current;
+                        heap.insertOrDecrease(neighbour, getPriority(newDistance, newX, newY, finish));
+                    }
+                }
+            }
+        }
+
+        return new SearchResult(new ArrayList<>(), expandedNodes);
+    }
+
+    /**
+     * Вычисляет приоритет ячейки: старшие 32 бита содержат оценку f = g + h,
+     * младшие - величину, убывающую с ростом g, чтобы при равной оценке раньше извлекалась
+     * ячейка с большей стоимостью пройденного пути.
+     */
+    private long getPriority(int distance, int x, int y, Coordinate finish) {
+        final long heuristic = (long) MIN_PASSAGE_WEIGHT * (Math.abs(finish.x() - x) + Math.abs(finish.y() - y));
+
+        return (distance + heuristic) << PRIORITY_SHIFT | (Integer.MAX_VALUE - distance);
+    }
+}
@@ -0,0 +1,251 @@
+package backend.academy.mazeTask.maze.solver;
+
+import backend.academy.mazeTask.exception.CoordinateOutOfRangeException;
+import backend.academy.mazeTask.exception.IncorrectParallelismException;
+import backend.academy.mazeTask.maze.Coordinate;
+import backend.academy.mazeTask.maze.Maze;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.Getter;
+import static backend.academy.mazeTask.constants.ExceptionTextValues.NULL_MAZE_EXCEPTION_TEXT;
+import static backend.academy.mazeTask.constants.ExceptionTextValues.NULL_PATH_QUERIES_EXCEPTION_TEXT;
+
+/**
+ * Отвечает на множество запросов кратчайшего пути в одном лабиринте.
+ * Запросы с общей начальной координатой объединяются в группу, и для группы выполняется один поиск
+ * алгоритмом Дейкстры, который останавливается, когда извлечены все конечные ячейки группы.
+ * Группы распределяются между {@link #parallelism()} потоками, у каждого из которых свой
+ * {@link MultiTargetSearchContext}, поэтому рабочие массивы выделяются один раз на поток, а не на запрос.
+ * Пути совпадают с путями {@link DijkstraMazeSolver}: до извлечения цели оба поиска выполняют одни и те же
+ * операции с кучей.
+ */
+@Getter
+public class BatchMazeSolver extends MazeSolver {
+
+    private final int parallelism;
+
+    /**
+     * Создает решатель, обрабатывающий группы запросов в стольких потоках, сколько доступно процессоров.
+     */
+    public BatchMazeSolver() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Создает решатель с заданной степенью параллелизма.
+     *
+     * @param parallelism наибольшее количество одновременно обрабатываемых групп запросов
+     *
+     * @throws IncorrectParallelismException если степень параллелизма меньше 1
+     */
+    public BatchMazeSolver(int parallelism) {
+        if (parallelism < 1) {
+            throw new IncorrectParallelismException();
+        }
+
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Решает задачу поиска кратчайшего пути от точки старта до точки финиша в лабиринте
+     * как пакет из одного запроса.
+     *
+     * @param maze лабиринт, представленный объектом {@link Maze}, в котором необходимо найти путь
+     * @param start начальная координата пути
+     * @param finish конечная координата пути
+     *
+     * @return список координат, представляющий кратчайший путь от начальной точки до конечной.
+     * Если путь не найден, возвращается пустой список.
+     * Если начальная и конечная точки совпадают, возвращается список с одной точкой.
+     *
+     * @throws NullPointerException если входные данные являются null
+     * @throws CoordinateOutOfRangeException если координата начала или конца вышла за пределы лабиринта
+     */
+    @Override
+    public List<Coordinate> solve(Maze maze, Coordinate start, Coordinate finish) {
+        super.validateData(maze, start, finish);
+
+        return solveAll(maze, List.of(new PathQuery(start, finish))).getFirst();
+    }
+
+    /**
+     * Находит кратчайшие пути для всех запросов. Лабиринт и координаты проверяются один раз до начала поиска.
+     *
+     * @param maze лабиринт, в котором необходимо найти пути
+     * @param queries запросы путей
+     *
+     * @return пути в порядке запросов; для каждого запроса действуют те же правила,
+     * что и для {@link #solve(Maze, Coordinate, Coordinate)}
+     *
+     * @throws NullPointerException если лабиринт, список запросов, запрос или его координата равны null
+     * @throws CoordinateOutOfRangeException если координата одного из запросов вышла за пределы лабиринта
+     */
+    public List<List<Coordinate>> solveAll(Maze maze, List<PathQuery> queries) {
+        validateQueries(maze, queries);
+
+        final List<List<Coordinate>> paths = new ArrayList<>(Collections.nCopies(queries.size(), null));
+        final List<List<Integer>> groups = groupByStart(maze, queries);
+        final int workerCount = Math.min(parallelism, groups.size());
+
+        if (workerCount <= 1) {
+            solveGroups(maze, queries, groups, new AtomicInteger(), paths);
+
+            return paths;
+        }
+
+        final AtomicInteger nextGroup = new AtomicInteger();
+        final AtomicReference<RuntimeException> failure = new AtomicReference<>();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < workerCount; i++) {
+                executor.execute(() -> {
+                    try {
+                        solveGroups(maze, queries, groups, nextGroup, paths);
+                    } catch (RuntimeException exception) {
+                        failure.compareAndSet(null, exception);
+                    }
+                });
+            }
+        }
+
+        if (failure.get() != null) {
+            throw failure.get();
+        }
+
+        return paths;
+    }
+
+    private void validateQueries(Maze maze, List<PathQuery> queries) {
+        if (maze == null) {
+            throw new NullPointerException(NULL_MAZE_EXCEPTION_TEXT);
+        }
+
+        if (queries == null) {
+            throw new NullPointerException(NULL_PATH_QUERIES_EXCEPTION_TEXT);
+        }
+
+        for (PathQuery query : queries) {
+            if (query == null) {
+                throw new NullPointerException(NULL_PATH_QUERIES_EXCEPTION_TEXT);
+            }
+
+            validateCoordinate(query.start(), maze);
+            validateCoordinate(query.finish(), maze);
+        }
+    }
+
+    private List<List<Integer>> groupByStart(Maze maze, List<PathQuery> queries) {
+        final Map<Integer, List<Integer>> groups = new LinkedHashMap<>();
+
+        for (int i = 0; i < queries.size(); i++) {
+            final Coordinate start = queries.get(i).start();
+
+            groups.computeIfAbsent(maze.getIndex(start.x(), start.y()), index -> new ArrayList<>()).add(i);
+        }
+
+        return new ArrayList<>(groups.values());
+    }
+
+    /**
+     * Забирает группы из общего счетчика, пока они не закончатся. Пути записываются в разные элементы
+     * списка без изменения его размера, а завершение потоков публикует их вызывающему потоку.
+     */
+    private void solveGroups(Maze maze, List<PathQuery> queries, List<List<Integer>> groups,
+        AtomicInteger nextGroup, List<List<Coordinate>> paths) {
+        final MultiTargetSearchContext context = new MultiTargetSearchContext(maze.height() * maze.width());
+
+        for (int group = nextGroup.getAndIncrement(); group < groups.size(); group = nextGroup.getAndIncrement()) {
+            solveGroup(maze, queries, groups.get(group), context, paths);
+        }
+    }
+
+    private void solveGroup(Maze maze, List<PathQuery> queries, List<Integer> group,
+        MultiTargetSearchContext context, List<List<Coordinate>> paths) {
+        final Coordinate start = queries.get(group.getFirst()).start();
+        final int startIndex = maze.getIndex(start.x(), start.y());
+        final boolean startIsPassage = maze.isPassage(startIndex);
+
+        context.startRound();
+
+        for (int queryIndex : group) {
+            final Coordinate finish = queries.get(queryIndex).finish();
+            final int finishIndex = maze.getIndex(finish.x(), finish.y());
+
+            if (startIsPassage && finishIndex != startIndex && maze.isPassage(finishIndex)) {
+                context.addTarget(finishIndex);
+            }
+        }
+
+        if (context.remainingTargets() > 0) {
+            search(maze, startIndex, context);
+        }
+
+        for (int queryIndex : group) {
+            paths.set(queryIndex, getPath(maze, queries.get(queryIndex), context));
+        }
+    }
+
+    private void search(Maze maze, int startIndex, MultiTargetSearchContext context) {
+        final IndexedMinHeap heap = context.heap();
+
+        context.setDistance(startIndex, getWeight(maze, startIndex), NO_PARENT);
+        heap.insertOrDecrease(startIndex, context.getDistance(startIndex));
+
+        while (!heap.isEmpty()) {
+            final int current = heap.poll();
+
+            context.settle(current);
+
+            if (context.remainingTargets() == 0) {
+                return;
+            }
+
+            final int x = current / maze.width();
+            final int y = current % maze.width();
+            final int currentDistance = context.getDistance(current);
+
+            for (Coordinate direction : DIRECTIONS) {
+                final int newX = x + direction.x();
+                final int newY = y + direction.y();
+
+                if (isWithinBounds(newX, newY, maze) && isValidMove(newX, newY, maze)) {
+                    final int neighbour = maze.getIndex(newX, newY);
+                    final int newDistance = currentDistance + getWeight(maze, neighbour);
+
+                    if (newDistance < context.getDistance(neighbour)) {
+                        context.setDistance(neighbour, newDistance, current);
+                        heap.insertOrDecrease(neighbour, newDistance);
+                    }
+                }
+            }
+        }
+    }
+
+    private List<Coordinate> getPath(Maze maze, PathQuery query, MultiTargetSearchContext context) {
+        final Coordinate start = query.start();
+        final Coordinate finish = query.finish();
+
+        if (!isValidMove(start.x(), start.y(), maze) || !isValidMove(finish.x(), finish.y(), maze)) {
+            return new ArrayList<>();
+        }
+
+        if (start.equals(finish)) {
+            return List.of(start);
+        }
+
+        final int finishIndex = maze.getIndex(finish.x(), finish.y());
+
+        if (context.getDistance(finishIndex) == Integer.MAX_VALUE) {
+            return new ArrayList<>();
+        }
+
+        return buildPath(maze, context.parents(), finishIndex);
+    }
+}
@@ -1,6 +1,5 @@
 package backend.academy.mazeTask.maze.solver;
 
-import backend.academy.mazeTask.enums.CellType;
 import backend.academy.mazeTask.exception.CoordinateOutOfRangeException;
 import backend.academy.mazeTask.maze.Coordinate;
 import backend.academy.mazeTask.maze.Maze;
@@ -39,9 +38,7 @@ public class BfsMazeSolver extends MazeSolver {
     }
 
     private List<Coordinate> solveProcess(Maze maze, Coordinate start, Coordinate finish) {
-        final CellType[][] grid = maze.grid();
-
-        if (grid[start.x()][start.y()] == CellType.WALL || grid[finish.x()][finish.y()] == CellType.WALL) {
+        if (!isValidMove(start.x(), start.y(), maze) || !isValidMove(finish.x(), finish.y(), maze)) {
             return new ArrayList<>();
         }
 
@@ -49,7 +46,7 @@ public class BfsMazeSolver extends MazeSolver {
             return List.of(start);
         }
 
-        final Cell startCell = new Cell(start, grid[start.x()][start.y()]);
+        final Cell startCell = new Cell(start, maze.getCell(start.x(), start.y()));
         final Queue<Node> queue = new LinkedList<>();
 
         List<Cell> shortestPath = new ArrayList<>();
@@ -70,12 +67,12 @@ public class BfsMazeSolver extends MazeSolver {
                     final int newY = current.y() + direction.y();
                     final Coordinate newCoordinate = new Coordinate(newX, newY);
 
-                    if (isWithinBounds(newX, newY, grid)
-                        && isValidMove(newX, newY, grid)
+                    if (isWithinBounds(newX, newY, maze)
+                        && isValidMove(newX, newY, maze)
                         && node.path().stream().noneMatch(el -> el.coordinate().equals(newCoordinate))) {
 
                         final List<Cell> newPath = new ArrayList<>(node.path());
-                        final Cell newCell = new Cell(newCoordinate, grid[newX][newY]);
+                        final Cell newCell = new Cell(newCoordinate, maze.getCell(newX, newY));
 
                         newPath.add(newCell);
                         queue.add(new Node(newCell, newPath));
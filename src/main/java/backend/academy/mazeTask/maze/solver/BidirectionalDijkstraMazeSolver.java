@@ -0,0 +1,144 @@
+package backend.academy.mazeTask.maze.solver;
+
+import backend.academy.mazeTask.exception.CoordinateOutOfRangeException;
+import backend.academy.mazeTask.maze.Coordinate;
+import backend.academy.mazeTask.maze.Maze;
+import backend.academy.mazeTask.maze.solver.dto.SearchResult;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Реализует двунаправленный алгоритм Дейкстры: поиск идет одновременно от начальной ячейки
+ * и от конечной, и на каждом шаге раскрывается направление с меньшим минимальным ключом.
+ * Прямое расстояние ячейки включает ее вес, обратное - нет, поэтому стоимость пути через ячейку v
+ * равна df(v) + db(v). Каждый раз, когда ячейка получает метку в одном направлении и уже имеет метку
+ * в другом, обновляется лучшая найденная стоимость mu. Поиск останавливается, когда сумма минимальных
+ * ключей обеих очередей не меньше mu: любой еще не найденный путь не дешевле. Вход и выход лабиринта
+ * лежат на противоположных сторонах, и два встречных фронта раскрывают заметно меньше ячеек, чем один.
+ */
+public class BidirectionalDijkstraMazeSolver extends MazeSolver {
+
+    /**
+     * Решает задачу поиска кратчайшего пути от точки старта до точки финиша в лабиринте,
+     * используя двунаправленный алгоритм Дейкстры.
+     *
+     * @param maze лабиринт, представленный объектом {@link Maze}, в котором необходимо найти путь
+     * @param start начальная координата пути
+     * @param finish конечная координата пути
+     *
+     * @return список координат, представляющий кратчайший путь от начальной точки до конечной.
+     * Если путь не найден, возвращается пустой список.
+     * Если начальная и конечная точки совпадают, возвращается список с одной точкой.
+     *
+     * @throws NullPointerException если входные данные являются null
+     * @throws CoordinateOutOfRangeException если координата начала или конца вышла за пределы лабиринта
+     */
+    @Override
+    public List<Coordinate> solve(Maze maze, Coordinate start, Coordinate finish) {
+        return solveWithStatistics(maze, start, finish).path();
+    }
+
+    /**
+     * Решает задачу поиска кратчайшего пути так же, как {@link #solve(Maze, Coordinate, Coordinate)},
+     * и дополнительно возвращает количество раскрытых ячеек в обоих направлениях.
+     *
+     * @param maze лабиринт, представленный объектом {@link Maze}, в котором необходимо найти путь
+     * @param start начальная координата пути
+     * @param finish конечная координата пути
+     *
+     * @return результат поиска, содержащий путь и количество ячеек, извлеченных из обеих очередей
+     *
+     * @throws NullPointerException если входные данные являются null
+     * @throws CoordinateOutOfRangeException если координата начала или конца вышла за пределы лабиринта
+     */
+    public SearchResult solveWithStatistics(Maze maze, Coordinate start, Coordinate finish) {
+        super.validateData(maze, start, finish);
+
+        return solveProcess(maze, start, finish);
+    }
+
+    private SearchResult solveProcess(Maze maze, Coordinate start, Coordinate finish) {
+        if (!isValidMove(start.x(), start.y(), maze) || !isValidMove(finish.x(), finish.y(), maze)) {
+            return new SearchResult(new ArrayList<>(), 0);
+        }
+
+        if (start.equals(finish)) {
+            return new SearchResult(List.of(start), 0);
+        }
+
+        final int cellCount = maze.height() * maze.width();
+        final int startIndex = maze.getIndex(start.x(), start.y());
+        final SearchFrontier forward = new SearchFrontier(cellCount);
+        final SearchFrontier backward = new SearchFrontier(cellCount);
+        int meeting = NO_PARENT;
+        int expandedNodes = 0;
+
+        forward.relax(startIndex, getWeight(maze, startIndex), NO_PARENT);
+        backward.relax(maze.getIndex(finish.x(), finish.y()), 0, NO_PARENT);
+
+        while (!forward.isEmpty() && !backward.isEmpty()
+            && forward.peekKey() + backward.peekKey() < getMeetingCost(forward, backward, meeting)) {
+            final boolean isForward = forward.peekKey() <= backward.peekKey();
+
+            meeting = isForward
+                ? expand(maze, forward, backward, true, meeting)
+                : expand(maze, backward, forward, false, meeting);
+            expandedNodes++;
+        }
+
+        if (meeting == NO_PARENT) {
+            return new SearchResult(new ArrayList<>(), expandedNodes);
+        }
+
+        final List<Coordinate> path = buildPath(maze, forward.getParents(), meeting);
+
+        for (int index = backward.getParent(meeting); index != NO_PARENT; index = backward.getParent(index)) {
+            path.add(maze.getCoordinate(index));
+        }
+
+        return new SearchResult(path, expandedNodes);
+    }
+
+    /**
+     * Извлекает ячейку из очереди активного направления и релаксирует ее соседей.
+     * В прямом направлении ребро стоит вес соседа, в обратном - вес самой ячейки.
+     *
+     * @return ячейка встречи с наименьшей известной стоимостью пути
+     */
+    private int expand(Maze maze, SearchFrontier active, SearchFrontier other, boolean isForward, int meeting) {
+        final int current = active.poll();
+        final int x = current / maze.width();
+        final int y = current % maze.width();
+        int bestMeeting = meeting;
+
+        for (Coordinate direction : DIRECTIONS) {
+            final int newX = x + direction.x();
+            final int newY = y + direction.y();
+
+            if (isWithinBounds(newX, newY, maze) && isValidMove(newX, newY, maze)) {
+                final int neighbour = maze.getIndex(newX, newY);
+                final int newDistance = active.getDistance(current) + getWeight(maze, isForward ? neighbour : current);
+
+                if (active.relax(neighbour, newDistance, current)
+                    && getMeetingCost(active, other, neighbour) < getMeetingCost(active, other, bestMeeting)) {
+                    bestMeeting = neighbour;
+                }
+            }
+        }
+
+        return bestMeeting;
+    }
+
+    /**
+     * Возвращает стоимость пути через ячейку встречи или {@link Long#MAX_VALUE},
+     * если ячейка еще не достигнута одним из направлений.
+     */
+    private static long getMeetingCost(SearchFrontier first, SearchFrontier second, int cell) {
+        if (cell == NO_PARENT || first.getDistance(cell) == Integer.MAX_VALUE
+            || second.getDistance(cell) == Integer.MAX_VALUE) {
+            return Long.MAX_VALUE;
+        }
+
+        return (long) first.getDistance(cell) + second.getDistance(cell);
+    }
+}
@@ -0,0 +1,171 @@
+package backend.academy.mazeTask.maze.solver;
+
+/**
+ * Заливка компоненты связности по битовым доскам {@link MazeBitboard} без подсчета расстояний.
+ * Строки обходятся сверху вниз и снизу вверх, пока заливка меняется. В каждой строке к посещенным
+ * ячейкам добавляются проходы под посещенными ячейками соседних строк, а затем каждый отрезок проходов,
+ * в котором есть посещенная ячейка, заполняется целиком одним сложением на слово:
+ * перенос при сложении пробегает по отрезку единичных бит до его конца.
+ * Строка пересчитывается, только если она или соседняя строка изменились после ее прошлого пересчета.
+ */
+final class BitboardFloodFill {
+
+    private final long[] passable;
+    private final int height;
+    private final int words;
+    private final long[] visited;
+    private final long[] row;
+    private final int[] changedSteps;
+    private final int[] filledSteps;
+    private int step;
+
+    /**
+     * Создает пустую заливку.
+     *
+     * @param passable битовые доски проходов лабиринта
+     * @param height высота лабиринта
+     * @param words количество long в одной строке
+     */
+    BitboardFloodFill(long[] passable, int height, int words) {
+        this.passable = passable;
+        this.height = height;
+        this.words = words;
+        this.visited = new long[passable.length];
+        this.row = new long[words];
+        this.changedSteps = new int[height];
+        this.filledSteps = new int[height];
+    }
+
+    void start(int word, long bit) {
+        visited[word] |= bit;
+        changedSteps[word / words] = ++step;
+    }
+
+    boolean isVisited(int word, long bit) {
+        return (visited[word] & bit) != 0;
+    }
+
+    /**
+     * Заливает компоненту, пока в нее не попадет заданная ячейка или пока заливка не перестанет меняться.
+     *
+     * @param targetWord номер слова заданной ячейки
+     * @param targetBit бит заданной ячейки в слове или 0, чтобы залить компоненту целиком
+     */
+    void fill(int targetWord, long targetBit) {
+        boolean changed = true;
+
+        while (changed && (targetBit == 0 || !isVisited(targetWord, targetBit))) {
+            changed = false;
+
+            for (int x = 0; x < height; x++) {
+                changed |= fillRow(x);
+            }
+
+            for (int x = height - 1; x >= 0; x--) {
+                changed |= fillRow(x);
+            }
+        }
+    }
+
+    /**
+     * Возвращает количество залитых ячеек.
+     *
+     * @return количество ячеек компоненты
+     */
+    int countVisited() {
+        int count = 0;
+
+        for (long word : visited) {
+            count += Long.bitCount(word);
+        }
+
+        return count;
+    }
+
+    /**
+     * Обновляет одну строку заливки.
+     *
+     * @return true, если в строке появились новые ячейки
+     */
+    private boolean fillRow(int x) {
+        if (!isDirty(x)) {
+            return false;
+        }
+
+        final int base = x * words;
+        boolean hasSeeds = false;
+
+        filledSteps[x] = ++step;
+
+        for (int i = 0; i < words; i++) {
+            long seeds = visited[base + i];
+
+            if (x > 0) {
+                seeds |= visited[base - words + i];
+            }
+
+            if (x < height - 1) {
+                seeds |= visited[base + words + i];
+            }
+
+            row[i] = seeds & passable[base + i];
+            hasSeeds |= row[i] != 0;
+        }
+
+        if (!hasSeeds) {
+            return false;
+        }
+
+        fillRuns(base);
+
+        boolean changed = false;
+
+        for (int i = 0; i < words; i++) {
+            changed |= row[i] != visited[base + i];
+            visited[base + i] = row[i];
+        }
+
+        if (changed) {
+            changedSteps[x] = step;
+        }
+
+        return changed;
+    }
+
+    private boolean isDirty(int x) {
+        return changedSteps[x] > filledSteps[x]
+            || x > 0 && changedSteps[x - 1] > filledSteps[x]
+            || x < height - 1 && changedSteps[x + 1] > filledSteps[x];
+    }
+
+    /**
+     * Заполняет отрезки проходов строки, содержащие ячейки из {@link #row}: сначала в сторону
+     * старших бит, затем в сторону младших. Для одного слова p и семян s, входящих в p,
+     * выражение ((p + s) ^ p) & p | s дает все биты отрезков p от каждого семени до конца отрезка.
+     * Отрезок, дошедший до края слова, продолжается в соседнем слове через перенос.
+     */
+    private void fillRuns(int base) {
+        long carry = 0;
+
+        for (int i = 0; i < words; i++) {
+            final long runs = passable[base + i];
+
+            row[i] = fillRun(runs, row[i] | (carry & runs));
+            carry = row[i] >>> MazeBitboard.WORD_MASK;
+        }
+
+        carry = 0;
+
+        for (int i = words - 1; i >= 0; i--) {
+            final long runs = Long.reverse(passable[base + i]);
+            final long filled = fillRun(runs, Long.reverse(row[i]) | (carry & runs));
+
+            row[i] = Long.reverse(filled);
+            carry = filled >>> MazeBitboard.WORD_MASK;
+        }
+    }
+
+    private static long fillRun(long runs, long seeds) {
+        return ((runs + seeds) ^ runs) & runs | seeds;
+    }
+}
@@ -0,0 +1,191 @@
+package backend.academy.mazeTask.maze.solver;
+
+/**
+ * Состояние одного поиска в ширину по битовым доскам {@link MazeBitboard}.
+ * Посещенные ячейки и текущий фронт хранятся так же, как проходы: по строкам, 64 ячейки в одном long.
+ * Фронт запоминается как список непустых слов, и шаг поиска пересчитывает только эти слова и соседние с ними:
+ * следующий фронт слова получается сдвигами и масками сразу для 64 ячеек. Номер слоя каждой ячейки
+ * записывается только если нужен путь, иначе шаг не обходит ячейки по одной.
+ */
+final class BitboardFrontier {
+
+    private final long[] passable;
+    private final int height;
+    private final int width;
+    private final int words;
+    private final long[] visited;
+    private final int[] wordMarks;
+    private final int[] layers;
+    private long[] current;
+    private long[] next;
+    private int[] currentWords;
+    private int[] nextWords;
+    private int currentCount;
+    private int nextCount;
+    private int layer;
+
+    /**
+     * Создает пустой поиск.
+     *
+     * @param passable битовые доски проходов лабиринта
+     * @param height высота лабиринта
+     * @param width ширина лабиринта
+     * @param words количество long в одной строке
+     * @param recordLayers true, если нужно запоминать номер слоя каждой ячейки для восстановления пути
+     */
+    BitboardFrontier(long[] passable, int height, int width, int words, boolean recordLayers) {
+        this.passable = passable;
+        this.height = height;
+        this.width = width;
+        this.words = words;
+        this.visited = new long[passable.length];
+        this.current = new long[passable.length];
+        this.next = new long[passable.length];
+        this.currentWords = new int[passable.length];
+        this.nextWords = new int[passable.length];
+        this.wordMarks = new int[passable.length];
+        this.layers = recordLayers ? new int[height * width] : null;
+    }
+
+    /**
+     * Помещает начальную ячейку в фронт нулевого слоя.
+     *
+     * @param cell индекс начальной ячейки
+     */
+    void start(int cell) {
+        final int word = MazeBitboard.getWord(cell, width, words);
+        final long bit = MazeBitboard.getBit(cell, width);
+
+        visited[word] |= bit;
+        current[word] |= bit;
+        currentWords[currentCount++] = word;
+
+        if (layers != null) {
+            layers[cell] = 0;
+        }
+    }
+
+    int layer() {
+        return layer;
+    }
+
+    boolean isVisited(int cell) {
+        return (visited[MazeBitboard.getWord(cell, width, words)] & MazeBitboard.getBit(cell, width)) != 0;
+    }
+
+    /**
+     * Возвращает номер слоя посещенной ячейки, то есть количество шагов от начальной ячейки.
+     * Доступно только если поиск создан с записью слоев.
+     *
+     * @param cell индекс посещенной ячейки
+     *
+     * @return номер слоя
+     */
+    int getLayer(int cell) {
+        return layers[cell];
+    }
+
+    /**
+     * Строит следующий слой поиска. Пересчитываются только слова текущего фронта
+     * и соседние с ними слова слева, справа, сверху и снизу.
+     *
+     * @return true, если в новом слое есть хотя бы одна ячейка
+     */
+    boolean expand() {
+        layer++;
+        nextCount = 0;
+
+        for (int i = 0; i < currentCount; i++) {
+            final int word = currentWords[i];
+            final int column = word % words;
+
+            expandWordOnce(word);
+
+            if (column > 0) {
+                expandWordOnce(word - 1);
+            }
+
+            if (column < words - 1) {
+                expandWordOnce(word + 1);
+            }
+
+            if (word >= words) {
+                expandWordOnce(word - words);
+            }
+
+            if (word < (height - 1) * words) {
+                expandWordOnce(word + words);
+            }
+        }
+
+        for (int i = 0; i < currentCount; i++) {
+            current[currentWords[i]] = 0L;
+        }
+
+        final long[] cells = current;
+        final int[] activeWords = currentWords;
+
+        current = next;
+        next = cells;
+        currentWords = nextWords;
+        nextWords = activeWords;
+        currentCount = nextCount;
+
+        return currentCount > 0;
+    }
+
+    private void expandWordOnce(int word) {
+        if (wordMarks[word] != layer) {
+            wordMarks[word] = layer;
+            expandWord(word);
+        }
+    }
+
+    /**
+     * Вычисляет фронт следующего слоя в слове: ячейка попадает в него, если она проход, еще не посещена
+     * и ее сосед слева, справа, сверху или снизу принадлежит текущему фронту. Соседи слева и справа
+     * получаются сдвигом слова на один бит с переносом крайнего бита из соседнего слова той же строки.
+     */
+    private void expandWord(int word) {
+        final int column = word % words;
+        final long bits = current[word];
+        long spread = bits | bits << 1 | bits >>> 1;
+
+        if (column > 0) {
+            spread |= current[word - 1] >>> MazeBitboard.WORD_MASK;
+        }
+
+        if (column < words - 1) {
+            spread |= current[word + 1] << MazeBitboard.WORD_MASK;
+        }
+
+        if (word >= words) {
+            spread |= current[word - words];
+        }
+
+        if (word < (height - 1) * words) {
+            spread |= current[word + words];
+        }
+
+        final long reached = spread & passable[word] & ~visited[word];
+
+        if (reached != 0) {
+            next[word] = reached;
+            visited[word] |= reached;
+            nextWords[nextCount++] = word;
+            recordLayer(word, reached);
+        }
+    }
+
+    private void recordLayer(int word, long reached) {
+        if (layers == null) {
+            return;
+        }
+
+        final int firstCell = word / words * width + (word % words << MazeBitboard.WORD_SHIFT);
+
+        for (long bits = reached; bits != 0; bits &= bits - 1) {
+            layers[firstCell + Long.numberOfTrailingZeros(bits)] = layer;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package backend.academy.mazeTask.maze.solver;
+
+import java.util.Arrays;
+
+/**
+ * Циклическая очередь корзин для алгоритма Дейкстры с небольшими целыми весами (алгоритм Дайала).
+ * Каждая корзина - двусвязный список на массивах int, поэтому добавление, перенос элемента в другую корзину
+ * и извлечение выполняются за O(1) без выделения памяти. Если веса не превышают maxWeight,
+ * то все расстояния в очереди лежат в окне из maxWeight + 1 значений и корзины не пересекаются.
+ */
+final class BucketQueue {
+
+    private static final int NONE = -1;
+
+    private final int[] heads;
+    private final int[] next;
+    private final int[] previous;
+    private final int[] buckets;
+    private int currentBucket;
+    private int size;
+
+    /**
+     * Создает пустую очередь.
+     *
+     * @param capacity количество возможных элементов
+     * @param maxWeight максимальный вес ребра
+     */
+    BucketQueue(int capacity, int maxWeight) {
+        heads = new int[maxWeight + 1];
+        next = new int[capacity];
+        previous = new int[capacity];
+        buckets = new int[capacity];
+
+        Arrays.fill(heads, NONE);
+        Arrays.fill(buckets, NONE);
+    }
+
+    /**
+     * Проверяет, пуста ли очередь.
+     *
+     * @return true, если в очереди нет элементов
+     */
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Добавляет элемент в корзину, соответствующую расстоянию, или переносит его туда,
+     * если элемент уже находится в очереди.
+     *
+     * @param element индекс элемента
+     * @param distance новое расстояние до элемента
+     */
+    void insertOrMove(int element, int distance) {
+        if (buckets[element] != NONE) {
+            unlink(element);
+        }
+
+        final int bucket = distance % heads.length;
+
+        previous[element] = NONE;
+        next[element] = heads[bucket];
+
+        if (heads[bucket] != NONE) {
+            previous[heads[bucket]] = element;
+        }
+
+        heads[bucket] = element;
+        buckets[element] = bucket;
+        size++;
+    }
+
+    /**
+     * Извлекает элемент с минимальным расстоянием. Очередь не должна быть пустой.
+     *
+     * @return индекс извлеченного элемента
+     */
+    int poll() {
+        while (heads[currentBucket] == NONE) {
+            currentBucket = (currentBucket + 1) % heads.length;
+        }
+
+        final int element = heads[currentBucket];
+
+        unlink(element);
+
+        return element;
+    }
+
+    private void unlink(int element) {
+        final int bucket = buckets[element];
+
+        if (previous[element] == NONE) {
+            heads[bucket] = next[element];
+        } else {
+            next[previous[element]] = next[element];
+        }
+
+        if (next[element] != NONE) {
+            previous[next[element]] = previous[element];
+        }
+
+        buckets[element] = NONE;
+        size--;
+    }
+}
@@ -0,0 +1,121 @@
+package backend.academy.mazeTask.maze.solver;
+
+import backend.academy.mazeTask.enums.CellType;
+import backend.academy.mazeTask.exception.CoordinateOutOfRangeException;
+import backend.academy.mazeTask.exception.IncorrectDeltaException;
+import backend.academy.mazeTask.exception.IncorrectParallelismException;
+import backend.academy.mazeTask.maze.Coordinate;
+import backend.academy.mazeTask.maze.Maze;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import lombok.Getter;
+
+/**
+ * Реализует параллельный поиск кратчайшего пути алгоритмом delta-stepping. Ячейки распределяются
+ * по корзинам шириной delta по стоимости пути до них, и все ячейки одной корзины раскрываются вместе,
+ * частями в {@link ForkJoinPool}. Ребро в ячейку с весом {@link CellType#weight()} не больше delta считается
+ * легким и может вернуть ячейку в текущую корзину, остальные ребра - тяжелыми, они релаксируются один раз
+ * после того, как корзина опустела. Стоимость найденного пути всегда совпадает со стоимостью пути
+ * {@link DijkstraMazeSolver}, но при равной стоимости сам путь может отличаться и зависеть от порядка потоков.
+ * Пул создается на время одного вызова, и один экземпляр может обслуживать несколько запросов одновременно.
+ */
+@Getter
+public class DeltaSteppingMazeSolver extends MazeSolver {
+
+    private static final int MAX_PASSAGE_WEIGHT = Arrays.stream(CellType.values())
+        .filter(cellType -> cellType != CellType.WALL)
+        .mapToInt(CellType::weight)
+        .max()
+        .orElse(1);
+
+    /**
+     * Ширина корзины по умолчанию - половина наибольшего веса прохода. Для весов 1..4 легкими
+     * становятся хорошее покрытие и обычный проход, тяжелыми - песок и болото: при delta = 1 корзин
+     * и синхронизаций больше всего, а при delta = 4 ячейки многократно возвращаются в текущую корзину.
+     */
+    public static final int DEFAULT_DELTA = Math.max(1, MAX_PASSAGE_WEIGHT / 2);
+
+    private final int parallelism;
+    private final int delta;
+
+    /**
+     * Создает решатель, использующий столько потоков, сколько доступно процессоров,
+     * и ширину корзины {@link #DEFAULT_DELTA}.
+     */
+    public DeltaSteppingMazeSolver() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Создает решатель с заданной степенью параллелизма и шириной корзины {@link #DEFAULT_DELTA}.
+     *
+     * @param parallelism количество потоков, раскрывающих корзину
+     *
+     * @throws IncorrectParallelismException если степень параллелизма меньше 1
+     */
+    public DeltaSteppingMazeSolver(int parallelism) {
+        this(parallelism, DEFAULT_DELTA);
+    }
+
+    /**
+     * Создает решатель с заданной степенью параллелизма и шириной корзины.
+     *
+     * @param parallelism количество потоков, раскрывающих корзину
+     * @param delta ширина корзины
+     *
+     * @throws IncorrectParallelismException если степень параллелизма меньше 1
+     * @throws IncorrectDeltaException если ширина корзины меньше 1
+     */
+    public DeltaSteppingMazeSolver(int parallelism, int delta) {
+        if (parallelism < 1) {
+            throw new IncorrectParallelismException();
+        }
+
+        if (delta < 1) {
+            throw new IncorrectDeltaException();
+        }
+
+        this.parallelism = parallelism;
+        this.delta = delta;
+    }
+
+    /**
+     * Решает задачу поиска кратчайшего пути от точки старта до точки финиша в лабиринте,
+     * используя алгоритм delta-stepping.
+     *
+     * @param maze лабиринт, представленный объектом {@link Maze}, в котором необходимо найти путь
+     * @param start начальная координата пути
+     * @param finish конечная координата пути
+     *
+     * @return список координат, представляющий кратчайший путь от начальной точки до конечной.
+     * Если путь не найден, возвращается пустой список.
+     * Если начальная и конечная точки совпадают, возвращается список с одной точкой.
+     *
+     * @throws NullPointerException если входные данные являются null
+     * @throws CoordinateOutOfRangeException если координата начала или конца вышла за пределы лабиринта
+     */
+    @Override
+    public List<Coordinate> solve(Maze maze, Coordinate start, Coordinate finish) {
+        super.validateData(maze, start, finish);
+
+        return solveProcess(maze, start, finish);
+    }
+
+    private List<Coordinate> solveProcess(Maze maze, Coordinate start, Coordinate finish) {
+        if (!isValidMove(start.x(), start.y(), maze) || !isValidMove(finish.x(), finish.y(), maze)) {
+            return new ArrayList<>();
+        }
+
+        if (start.equals(finish)) {
+            return List.of(start);
+        }
+
+        final DeltaSteppingSearch search = new DeltaSteppingSearch(maze, delta, MAX_PASSAGE_WEIGHT);
+
+        try (ForkJoinPool pool = new ForkJoinPool(parallelism)) {
+            return search.solve(maze.getIndex(start.x(), start.y()), maze.getIndex(finish.x(), finish.y()), pool);
+        }
+    }
+}
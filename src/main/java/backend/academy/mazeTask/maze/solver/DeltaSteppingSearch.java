@@ -0,0 +1,275 @@
+package backend.academy.mazeTask.maze.solver;
+
+import backend.academy.mazeTask.maze.Coordinate;
+import backend.academy.mazeTask.maze.Maze;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Состояние одного поиска {@link DeltaSteppingMazeSolver}. Ячейки с предварительной стоимостью d лежат
+ * в корзине d / delta. Корзины хранятся в кольце: из корзины i ребро веса не больше maxWeight ведет
+ * не дальше корзины i + maxWeight / delta, поэтому одновременно заняты только несколько соседних корзин.
+ * Метка ячейки - стоимость и родитель, упакованные в один long, поэтому параллельная релаксация
+ * меняет их одной операцией compareAndSet, и родитель всегда соответствует стоимости. Стоимость любого пути
+ * не меньше 1, поэтому нулевая метка, с которой создается массив, означает еще не достигнутую ячейку.
+ * Ячейки, стоимость которых уменьшилась, каждая часть фронта пишет в собственный буфер,
+ * а по корзинам они раскладываются в вызывающем потоке после завершения фазы.
+ */
+final class DeltaSteppingSearch {
+
+    private static final long NO_LABEL = 0;
+    private static final long PARENT_MASK = (1L << Integer.SIZE) - 1;
+    private static final int NEIGHBOUR_COUNT = 4;
+
+    private final Maze maze;
+    private final int delta;
+    private final AtomicLongArray labels;
+    private final int[][] buckets;
+    private final int[] bucketSizes;
+    private final int[] requestMarks;
+    private final int[] removedMarks;
+    private int queuedCount;
+    private int requestMark;
+    private int[] requests;
+    private int requestSize;
+    private int[] removed;
+    private int removedSize;
+    private int[][] chunkBuffers;
+    private int[] chunkSizes;
+    private boolean lightPhase;
+
+    /**
+     * Создает поиск.
+     *
+     * @param maze лабиринт
+     * @param delta ширина корзины
+     * @param maxWeight наибольший вес прохода
+     */
+    DeltaSteppingSearch(Maze maze, int delta, int maxWeight) {
+        final int cellCount = maze.height() * maze.width();
+
+        this.maze = maze;
+        this.delta = delta;
+        this.labels = new AtomicLongArray(cellCount);
+        this.buckets = new int[maxWeight / delta + 2][LevelSynchronousBfs.CHUNK_SIZE];
+        this.bucketSizes = new int[buckets.length];
+        this.requestMarks = new int[cellCount];
+        this.removedMarks = new int[cellCount];
+        this.requests = new int[LevelSynchronousBfs.CHUNK_SIZE];
+        this.removed = new int[LevelSynchronousBfs.CHUNK_SIZE];
+        this.chunkBuffers = new int[0][];
+        this.chunkSizes = new int[0];
+    }
+
+    /**
+     * Ищет кратчайший путь. Корзины обрабатываются по возрастанию: сначала, пока корзина не опустеет,
+     * параллельно релаксируются легкие ребра (вес не больше delta) ее ячеек, которые могут вернуть ячейки
+     * в ту же корзину. После этого стоимости всех ячеек корзины окончательны, и один раз релаксируются
+     * тяжелые ребра, ведущие только в следующие корзины. Поиск останавливается, как только окончательной
+     * становится стоимость конечной ячейки.
+     *
+     * @param startIndex индекс начальной ячейки
+     * @param finishIndex индекс конечной ячейки
+     * @param pool пул, в котором обрабатываются части большого фронта
+     *
+     * @return путь или пустой список, если конечная ячейка недостижима
+     */
+    List<Coordinate> solve(int startIndex, int finishIndex, ForkJoinPool pool) {
+        relax(startIndex, maze.getCell(startIndex).weight(), MazeSolver.NO_PARENT);
+        addToBucket(startIndex);
+
+        for (int bucket = 0; queuedCount > 0; bucket++) {
+            removedSize = 0;
+
+            while (bucketSizes[bucket % buckets.length] > 0) {
+                takeBucket(bucket);
+                relaxRequests(pool, true);
+            }
+
+            if (getDistance(finishIndex) < (long) (bucket + 1) * delta) {
+                return buildPath(finishIndex);
+            }
+
+            swapRequestsWithRemoved();
+            relaxRequests(pool, false);
+        }
+
+        return new ArrayList<>();
+    }
+
+    /**
+     * Релаксирует легкие или тяжелые ребра одной части запросов и запоминает в буфере части ячейки,
+     * стоимость которых уменьшилась. Вызывается одновременно из нескольких потоков для разных частей.
+     *
+     * @param chunk номер части запросов
+     */
+    void relaxChunk(int chunk) {
+        final int[] buffer = chunkBuffers[chunk];
+        final int from = chunk * LevelSynchronousBfs.CHUNK_SIZE;
+        final int to = Math.min(requestSize, from + LevelSynchronousBfs.CHUNK_SIZE);
+        int size = 0;
+
+        for (int i = from; i < to; i++) {
+            final int current = requests[i];
+            final int distance = getDistance(current);
+            final int x = current / maze.width();
+            final int y = current % maze.width();
+
+            for (Coordinate direction : MazeSolver.DIRECTIONS) {
+                final int newX = x + direction.x();
+                final int newY = y + direction.y();
+
+                if (MazeSolver.isWithinBounds(newX, newY, maze)) {
+                    final int neighbour = maze.getIndex(newX, newY);
+                    final int weight = maze.getCell(neighbour).weight();
+
+                    if (maze.isPassage(neighbour) && (weight <= delta) == lightPhase
+                        && relax(neighbour, distance + weight, current)) {
+                        buffer[size++] = neighbour;
+                    }
+                }
+            }
+        }
+
+        chunkSizes[chunk] = size;
+    }
+
+    /**
+     * Переносит актуальные ячейки корзины в запросы. Ячейки, стоимость которых с момента добавления
+     * уменьшилась и увела их в корзину с меньшим номером, и повторы пропускаются.
+     * Каждая ячейка также один раз запоминается среди удаленных из корзины для фазы тяжелых ребер.
+     */
+    private void takeBucket(int bucket) {
+        final int slot = bucket % buckets.length;
+        final int[] cells = buckets[slot];
+        final int size = bucketSizes[slot];
+
+        bucketSizes[slot] = 0;
+        queuedCount -= size;
+        requestMark++;
+        requestSize = 0;
+        requests = ensureCapacity(requests, size);
+        removed = ensureCapacity(removed, removedSize + size);
+
+        for (int i = 0; i < size; i++) {
+            final int cell = cells[i];
+
+            if (getDistance(cell) / delta == bucket && requestMarks[cell] != requestMark) {
+                requestMarks[cell] = requestMark;
+                requests[requestSize++] = cell;
+
+                if (removedMarks[cell] != bucket + 1) {
+                    removedMarks[cell] = bucket + 1;
+                    removed[removedSize++] = cell;
+                }
+            }
+        }
+    }
+
+    private void swapRequestsWithRemoved() {
+        final int[] cells = requests;
+
+        requests = removed;
+        requestSize = removedSize;
+        removed = cells;
+        removedSize = 0;
+    }
+
+    private void relaxRequests(ForkJoinPool pool, boolean light) {
+        final int chunkCount = (requestSize + LevelSynchronousBfs.CHUNK_SIZE - 1) / LevelSynchronousBfs.CHUNK_SIZE;
+
+        if (chunkCount == 0) {
+            return;
+        }
+
+        lightPhase = light;
+        ensureChunkBuffers(chunkCount);
+
+        if (chunkCount == 1) {
+            relaxChunk(0);
+        } else {
+            pool.invoke(new FrontierChunkTask(this::relaxChunk, 0, chunkCount));
+        }
+
+        for (int i = 0; i < chunkCount; i++) {
+            for (int j = 0; j < chunkSizes[i]; j++) {
+                addToBucket(chunkBuffers[i][j]);
+            }
+        }
+    }
+
+    private void addToBucket(int cell) {
+        final int slot = getDistance(cell) / delta % buckets.length;
+
+        buckets[slot] = ensureCapacity(buckets[slot], bucketSizes[slot] + 1);
+        buckets[slot][bucketSizes[slot]++] = cell;
+        queuedCount++;
+    }
+
+    /**
+     * Атомарно уменьшает стоимость ячейки вместе с родителем.
+     *
+     * @return true, если стоимость уменьшилась
+     */
+    private boolean relax(int cell, int distance, int parent) {
+        final long label = (long) distance << Integer.SIZE | parent & PARENT_MASK;
+        long current = labels.get(cell);
+
+        while (distance < getDistance(current)) {
+            if (labels.compareAndSet(cell, current, label)) {
+                return true;
+            }
+
+            current = labels.get(cell);
+        }
+
+        return false;
+    }
+
+    private int getDistance(int cell) {
+        return getDistance(labels.get(cell));
+    }
+
+    private List<Coordinate> buildPath(int finishIndex) {
+        final List<Coordinate> path = new ArrayList<>();
+
+        for (int cell = finishIndex; cell != MazeSolver.NO_PARENT; cell = (int) labels.get(cell)) {
+            path.add(maze.getCoordinate(cell));
+        }
+
+        Collections.reverse(path);
+
+        return path;
+    }
+
+    /**
+     * Выделяет буферы частей. Из части запросов в буфер попадает не больше
+     * NEIGHBOUR_COUNT * CHUNK_SIZE ячеек, поэтому буфер никогда не переполняется.
+     */
+    private void ensureChunkBuffers(int chunkCount) {
+        if (chunkBuffers.length >= chunkCount) {
+            return;
+        }
+
+        final int[][] chunkBuffersCopy = Arrays.copyOf(chunkBuffers, Math.max(chunkCount, chunkBuffers.length * 2));
+
+        for (int i = chunkBuffers.length; i < chunkBuffersCopy.length; i++) {
+            chunkBuffersCopy[i] = new int[NEIGHBOUR_COUNT * LevelSynchronousBfs.CHUNK_SIZE];
+        }
+
+        chunkBuffers = chunkBuffersCopy;
+        chunkSizes = new int[chunkBuffersCopy.length];
+    }
+
+    private static int getDistance(long label) {
+        return label == NO_LABEL ? Integer.MAX_VALUE : (int) (label >>> Integer.SIZE);
+    }
+
+    private static int[] ensureCapacity(int[] cells, int capacity) {
+        return capacity <= cells.length ? cells : Arrays.copyOf(cells, Math.max(capacity, cells.length * 2));
+    }
+}
@@ -14,9 +14,6 @@ import java.util.List;
  */
 public class DfsMazeSolver extends MazeSolver {
 
-    private CellType[][] grid;
-    private List<Cell> shortestPath;
-
     /**
      * Решает задачу поиска кратчайшего пути от точки старта до точки финиша в лабиринте,
      * используя алгоритм DFS.
@@ -40,9 +37,7 @@ public class DfsMazeSolver extends MazeSolver {
     }
 
     private List<Coordinate> solveProcess(Maze maze, Coordinate start, Coordinate finish) {
-        this.grid = maze.grid();
-
-        if (grid[start.x()][start.y()] == CellType.WALL || grid[finish.x()][finish.y()] == CellType.WALL) {
+        if (!isValidMove(start.x(), start.y(), maze) || !isValidMove(finish.x(), finish.y(), maze)) {
             return new ArrayList<>();
         }
 
@@ -50,20 +45,21 @@ public class DfsMazeSolver extends MazeSolver {
             return List.of(start);
         }
 
-        this.shortestPath = new ArrayList<>();
-
-        final CellType startCoordinateCellType = grid[start.x()][start.y()];
+        final DfsSearchContext context = new DfsSearchContext(maze, finish);
+        final CellType startCoordinateCellType = maze.getCell(start.x(), start.y());
         final List<Cell> path = new ArrayList<>();
         path.add(new Cell(start, startCoordinateCellType));
 
-        findShortestPath(start, finish, null, path);
-        return shortestPath.stream().map(Cell::coordinate).toList();
+        findShortestPath(context, start, null, path);
+        return context.shortestPath().stream().map(Cell::coordinate).toList();
     }
 
-    private void findShortestPath(Coordinate current, Coordinate finish, Coordinate prev, List<Cell> path) {
-        if (current.equals(finish)) {
-            if (shortestPath.isEmpty() || getWayWeight(path) < getWayWeight(shortestPath)) {
-                shortestPath = new ArrayList<>(path);
+    private void findShortestPath(DfsSearchContext context, Coordinate current, Coordinate prev, List<Cell> path) {
+        final Maze maze = context.maze();
+
+        if (current.equals(context.finish())) {
+            if (context.shortestPath().isEmpty() || getWayWeight(path) < getWayWeight(context.shortestPath())) {
+                context.updateShortestPath(path);
             }
 
             return;
@@ -73,16 +69,16 @@ public class DfsMazeSolver extends MazeSolver {
             final int nextX = current.x() + direction.x();
             final int nextY = current.y() + direction.y();
 
-            if (isWithinBounds(nextX, nextY, grid)) {
-                final CellType cellType = grid[nextX][nextY];
+            if (isWithinBounds(nextX, nextY, maze)) {
+                final CellType cellType = maze.getCell(nextX, nextY);
                 final Coordinate newCoordinate = new Coordinate(nextX, nextY);
 
-                if (isValidMove(nextX, nextY, grid)
+                if (isValidMove(nextX, nextY, maze)
                     && !(prev != null && nextX == prev.x() && nextY == prev.y())
                     && path.stream().noneMatch(cell -> cell.coordinate().equals(newCoordinate))) {
                     path.add(new Cell(newCoordinate, cellType));
 
-                    findShortestPath(newCoordinate, finish, current, path);
+                    findShortestPath(context, newCoordinate, current, path);
 
                     path.removeLast();
                 }
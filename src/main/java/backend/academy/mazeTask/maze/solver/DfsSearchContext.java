@@ -0,0 +1,40 @@
+package backend.academy.mazeTask.maze.solver;
+
+import backend.academy.mazeTask.maze.Coordinate;
+import backend.academy.mazeTask.maze.Maze;
+import backend.academy.mazeTask.maze.solver.dto.Cell;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+
+/**
+ * Состояние одного вызова {@link DfsMazeSolver}: лабиринт, цель и лучший из найденных путей.
+ * Контекст создается заново при каждом вызове, поэтому решатель не хранит состояния и потокобезопасен.
+ */
+@Getter
+final class DfsSearchContext {
+
+    private final Maze maze;
+    private final Coordinate finish;
+    private List<Cell> shortestPath = new ArrayList<>();
+
+    /**
+     * Создает контекст поиска, в котором еще не найдено ни одного пути.
+     *
+     * @param maze лабиринт
+     * @param finish конечная координата пути
+     */
+    DfsSearchContext(Maze maze, Coordinate finish) {
+        this.maze = maze;
+        this.finish = finish;
+    }
+
+    /**
+     * Запоминает копию пути как лучший найденный путь.
+     *
+     * @param path путь от начальной до конечной координаты
+     */
+    void updateShortestPath(List<Cell> path) {
+        shortestPath = new ArrayList<>(path);
+    }
+}
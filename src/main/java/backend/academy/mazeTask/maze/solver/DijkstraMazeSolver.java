@@ -0,0 +1,91 @@
+package backend.academy.mazeTask.maze.solver;
+
+import backend.academy.mazeTask.exception.CoordinateOutOfRangeException;
+import backend.academy.mazeTask.maze.Coordinate;
+import backend.academy.mazeTask.maze.Maze;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Реализует алгоритм поиска кратчайшего пути в лабиринте с использованием алгоритма Дейкстры.
+ * Стоимость пути равна сумме весов {@link backend.academy.mazeTask.enums.CellType#weight()} всех его ячеек.
+ * Расстояния и родители ячеек хранятся в массивах int, а очередь с приоритетом - в {@link IndexedMinHeap},
+ * поэтому поиск выполняется за O(n log n), а путь восстанавливается один раз после завершения поиска.
+ */
+public class DijkstraMazeSolver extends MazeSolver {
+
+    /**
+     * Решает задачу поиска кратчайшего пути от точки старта до точки финиша в лабиринте,
+     * используя алгоритм Дейкстры.
+     *
+     * @param maze лабиринт, представленный объектом {@link Maze}, в котором необходимо найти путь
+     * @param start начальная координата пути
+     * @param finish конечная координата пути
+     *
+     * @return список координат, представляющий кратчайший путь от начальной точки до конечной.
+     * Если путь не найден, возвращается пустой список.
+     * Если начальная и конечная точки совпадают, возвращается список с одной точкой.
+     *
+     * @throws NullPointerException если входные данные являются null
+     * @throws CoordinateOutOfRangeException если координата начала или конца вышла за пределы лабиринта
+     */
+    @Override
+    public List<Coordinate> solve(Maze maze, Coordinate start, Coordinate finish) {
+        super.validateData(maze, start, finish);
+
+        return solveProcess(maze, start, finish);
+    }
+
+    private List<Coordinate> solveProcess(Maze maze, Coordinate start, Coordinate finish) {
+        if (!isValidMove(start.x(), start.y(), maze) || !isValidMove(finish.x(), finish.y(), maze)) {
+            return new ArrayList<>();
+        }
+
+        if (start.equals(finish)) {
+            return List.of(start);
+        }
+
+        final int cellCount = maze.height() * maze.width();
+        final int startIndex = maze.getIndex(start.x(), start.y());
+        final int finishIndex = maze.getIndex(finish.x(), finish.y());
+        final int[] distances = new int[cellCount];
+        final int[] parents = new int[cellCount];
+        final IndexedMinHeap heap = new IndexedMinHeap(cellCount);
+
+        Arrays.fill(distances, Integer.MAX_VALUE);
+        Arrays.fill(parents, NO_PARENT);
+
+        distances[startIndex] = getWeight(maze, startIndex);
+        heap.insertOrDecrease(startIndex, distances[startIndex]);
+
+        while (!heap.isEmpty()) {
+            final int current = heap.poll();
+
+            if (current == finishIndex) {
+                return buildPath(maze, parents, finishIndex);
+            }
+
+            final int x = current / maze.width();
+            final int y = current % maze.width();
+
+            for (Coordinate direction : DIRECTIONS) {
+                final int newX = x + direction.x();
+                final int newY = y + direction.y();
+
+                if (isWithinBounds(newX, newY, maze) && isValidMove(newX, newY, maze)) {
+                    final int neighbour = maze.getIndex(newX, newY);
+                    final int newDistance = distances[current] + getWeight(maze, neighbour);
+
+                    if (newDistance < distances[neighbour]) {
+                        distances[neighbour] = newDistance;
+                        parents[neighbour] = current;
+                        heap.insertOrDecrease(neighbour, newDistance);
+                    }
+                }
+            }
+        }
+
+        return new ArrayList<>();
+    }
+}
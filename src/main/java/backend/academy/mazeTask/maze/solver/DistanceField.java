@@ -0,0 +1,183 @@
+package backend.academy.mazeTask.maze.solver;
+
+import backend.academy.mazeTask.exception.CoordinateOutOfRangeException;
+import backend.academy.mazeTask.maze.Coordinate;
+import backend.academy.mazeTask.maze.Maze;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.Getter;
+import static backend.academy.mazeTask.constants.ExceptionTextValues.MISSING_PREVIOUS_PATH_CELL_EXCEPTION_TEXT;
+import static backend.academy.mazeTask.constants.ExceptionTextValues.NULL_MAZE_EXCEPTION_TEXT;
+
+/**
+ * Стоимости кратчайших путей от всех ячеек лабиринта до одной ячейки-источника, например выхода.
+ * Поле строится один раз алгоритмом Дейкстры и хранит только массив int со стоимостью для каждой ячейки:
+ * стоимость ячейки равна сумме весов {@link backend.academy.mazeTask.enums.CellType#weight()}
+ * всех ячеек пути от нее до источника включительно. Путь из любой ячейки восстанавливается без нового поиска
+ * за O(длина пути): из ячейки c всегда можно перейти в соседнюю ячейку со стоимостью cost(c) - weight(c).
+ * Поле не изменяется после создания и может использоваться несколькими потоками одновременно.
+ */
+@Getter
+public final class DistanceField {
+
+    /**
+     * Стоимость ячейки, из которой нельзя дойти до источника.
+     */
+    public static final int UNREACHABLE = -1;
+
+    private final Maze maze;
+    private final Coordinate source;
+    @Getter(AccessLevel.NONE)
+    private final int[] costs;
+
+    /**
+     * Строит поле стоимостей до источника.
+     *
+     * @param maze лабиринт
+     * @param source ячейка, до которой считаются стоимости
+     *
+     * @throws NullPointerException если лабиринт или источник равны null
+     * @throws CoordinateOutOfRangeException если источник вышел за пределы лабиринта
+     */
+    public DistanceField(Maze maze, Coordinate source) {
+        if (maze == null) {
+            throw new NullPointerException(NULL_MAZE_EXCEPTION_TEXT);
+        }
+
+        MazeSolver.validateCoordinate(source, maze);
+
+        this.maze = maze;
+        this.source = source;
+        this.costs = computeCosts(maze, maze.getIndex(source.x(), source.y()));
+    }
+
+    /**
+     * Возвращает стоимость кратчайшего пути от ячейки до источника.
+     *
+     * @param coordinate координата ячейки
+     *
+     * @return стоимость пути или {@link #UNREACHABLE}, если ячейка - стена или не соединена с источником
+     *
+     * @throws NullPointerException если координата равна null
+     * @throws CoordinateOutOfRangeException если координата вышла за пределы лабиринта
+     */
+    public int getCost(Coordinate coordinate) {
+        MazeSolver.validateCoordinate(coordinate, maze);
+
+        return costs[maze.getIndex(coordinate.x(), coordinate.y())];
+    }
+
+    /**
+     * Восстанавливает кратчайший путь от ячейки до источника.
+     *
+     * @param start начальная координата пути
+     *
+     * @return список координат от начальной точки до источника. Если путь не найден, возвращается пустой список.
+     * Если начальная точка совпадает с источником, возвращается список с одной точкой.
+     *
+     * @throws NullPointerException если координата равна null
+     * @throws CoordinateOutOfRangeException если координата вышла за пределы лабиринта
+     */
+    public List<Coordinate> getPathFrom(Coordinate start) {
+        MazeSolver.validateCoordinate(start, maze);
+
+        final int width = maze.width();
+        final int sourceIndex = maze.getIndex(source.x(), source.y());
+        int current = maze.getIndex(start.x(), start.y());
+
+        if (costs[current] == UNREACHABLE) {
+            return new ArrayList<>();
+        }
+
+        final List<Coordinate> path = new ArrayList<>();
+
+        path.add(start);
+
+        while (current != sourceIndex) {
+            current = findNextIndex(current, current / width, current % width);
+            path.add(maze.getCoordinate(current));
+        }
+
+        return path;
+    }
+
+    /**
+     * Восстанавливает кратчайший путь от источника до ячейки.
+     *
+     * @param finish конечная координата пути
+     *
+     * @return список координат от источника до конечной точки. Если путь не найден, возвращается пустой список.
+     * Если конечная точка совпадает с источником, возвращается список с одной точкой.
+     *
+     * @throws NullPointerException если координата равна null
+     * @throws CoordinateOutOfRangeException если координата вышла за пределы лабиринта
+     */
+    public List<Coordinate> getPathTo(Coordinate finish) {
+        final List<Coordinate> path = getPathFrom(finish);
+
+        Collections.reverse(path);
+
+        return path;
+    }
+
+    /**
+     * Находит соседнюю ячейку, через которую проходит кратчайший путь до источника.
+     * Для достижимой ячейки, отличной от источника, такой сосед всегда существует.
+     */
+    private int findNextIndex(int current, int x, int y) {
+        final int previousCost = costs[current] - maze.getCell(current).weight();
+
+        for (Coordinate direction : MazeSolver.DIRECTIONS) {
+            final int newX = x + direction.x();
+            final int newY = y + direction.y();
+
+            if (MazeSolver.isWithinBounds(newX, newY, maze)
+                && costs[maze.getIndex(newX, newY)] == previousCost) {
+                return maze.getIndex(newX, newY);
+            }
+        }
+
+        throw new IllegalStateException(MISSING_PREVIOUS_PATH_CELL_EXCEPTION_TEXT);
+    }
+
+    private static int[] computeCosts(Maze maze, int sourceIndex) {
+        final int cellCount = maze.height() * maze.width();
+        final int[] costs = new int[cellCount];
+        final IndexedMinHeap heap = new IndexedMinHeap(cellCount);
+
+        Arrays.fill(costs, UNREACHABLE);
+
+        if (!maze.isPassage(sourceIndex)) {
+            return costs;
+        }
+
+        costs[sourceIndex] = maze.getCell(sourceIndex).weight();
+        heap.insertOrDecrease(sourceIndex, costs[sourceIndex]);
+
+        while (!heap.isEmpty()) {
+            final int current = heap.poll();
+            final int x = current / maze.width();
+            final int y = current % maze.width();
+
+            for (Coordinate direction : MazeSolver.DIRECTIONS) {
+                final int newX = x + direction.x();
+                final int newY = y + direction.y();
+
+                if (MazeSolver.isWithinBounds(newX, newY, maze)) {
+                    final int neighbour = maze.getIndex(newX, newY);
+                    final int newCost = costs[current] + maze.getCell(neighbour).weight();
+
+                    if (maze.isPassage(neighbour) && (costs[neighbour] == UNREACHABLE || newCost < costs[neighbour])) {
+                        costs[neighbour] = newCost;
+                        heap.insertOrDecrease(neighbour, newCost);
+                    }
+                }
+            }
+        }
+
+        return costs;
+    }
+}
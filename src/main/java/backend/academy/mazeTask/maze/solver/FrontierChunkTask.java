@@ -0,0 +1,42 @@
+package backend.academy.mazeTask.maze.solver;
+
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+
+/**
+ * Задача {@link java.util.concurrent.ForkJoinPool}, обрабатывающая диапазон частей фронта параллельного поиска:
+ * {@link LevelSynchronousBfs} или {@link DeltaSteppingSearch}. Диапазон делится пополам, пока в нем
+ * не останется одна часть, поэтому простаивающие потоки пула забирают половины диапазона у занятых.
+ */
+final class FrontierChunkTask extends RecursiveAction {
+
+    private final transient IntConsumer chunkAction;
+    private final int fromChunk;
+    private final int toChunk;
+
+    /**
+     * Создает задачу для частей фронта с номерами от fromChunk включительно до toChunk не включительно.
+     *
+     * @param chunkAction обработка одной части фронта по ее номеру
+     * @param fromChunk номер первой части
+     * @param toChunk номер части, следующей за последней
+     */
+    FrontierChunkTask(IntConsumer chunkAction, int fromChunk, int toChunk) {
+        this.chunkAction = chunkAction;
+        this.fromChunk = fromChunk;
+        this.toChunk = toChunk;
+    }
+
+    @Override
+    protected void compute() {
+        if (toChunk - fromChunk == 1) {
+            chunkAction.accept(fromChunk);
+            return;
+        }
+
+        final int middle = (fromChunk + toChunk) >>> 1;
+
+        invokeAll(new FrontierChunkTask(chunkAction, fromChunk, middle),
+            new FrontierChunkTask(chunkAction, middle, toChunk));
+    }
+}
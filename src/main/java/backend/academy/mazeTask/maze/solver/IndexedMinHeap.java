@@ -0,0 +1,144 @@
+package backend.academy.mazeTask.maze.solver;
+
+import java.util.Arrays;
+
+/**
+ * Двоичная куча на примитивных массивах, хранящая индексы ячеек лабиринта с приоритетами типа long.
+ * Позволяет за O(log n) добавить ячейку, уменьшить ее приоритет и извлечь ячейку с минимальным приоритетом.
+ */
+final class IndexedMinHeap {
+
+    private static final int ABSENT = -1;
+
+    private final int[] heap;
+    private final int[] positions;
+    private final long[] keys;
+    private int size;
+
+    /**
+     * Создает пустую кучу для элементов с индексами от 0 до capacity - 1.
+     *
+     * @param capacity количество возможных элементов
+     */
+    IndexedMinHeap(int capacity) {
+        heap = new int[capacity];
+        positions = new int[capacity];
+        keys = new long[capacity];
+
+        Arrays.fill(positions, ABSENT);
+    }
+
+    /**
+     * Проверяет, пуста ли куча.
+     *
+     * @return true, если в куче нет элементов
+     */
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Возвращает минимальный приоритет среди элементов кучи.
+     *
+     * @return минимальный приоритет
+     */
+    long peekKey() {
+        return keys[heap[0]];
+    }
+
+    /**
+     * Добавляет элемент в кучу или уменьшает его приоритет, если элемент уже находится в куче.
+     *
+     * @param element индекс элемента
+     * @param key новый приоритет элемента
+     */
+    void insertOrDecrease(int element, long key) {
+        if (positions[element] == ABSENT) {
+            heap[size] = element;
+            positions[element] = size;
+            size++;
+        }
+
+        keys[element] = key;
+        siftUp(positions[element]);
+    }
+
+    /**
+     * Извлекает элемент с минимальным приоритетом.
+     *
+     * @return индекс извлеченного элемента
+     */
+    int poll() {
+        final int result = heap[0];
+
+        size--;
+        positions[result] = ABSENT;
+
+        if (size > 0) {
+            heap[0] = heap[size];
+            positions[heap[0]] = 0;
+            siftDown(0);
+        }
+
+        return result;
+    }
+
+    /**
+     * Удаляет все элементы, чтобы кучу можно было использовать для следующего поиска.
+     * Выполняется за O(size), а не за O(capacity).
+     */
+    void clear() {
+        for (int i = 0; i < size; i++) {
+            positions[heap[i]] = ABSENT;
+        }
+
+        size = 0;
+    }
+
+    private void siftUp(int position) {
+        final int element = heap[position];
+        final long key = keys[element];
+        int current = position;
+
+        while (current > 0) {
+            final int parent = (current - 1) >>> 1;
+
+            if (keys[heap[parent]] <= key) {
+                break;
+            }
+
+            heap[current] = heap[parent];
+            positions[heap[current]] = current;
+            current = parent;
+        }
+
+        heap[current] = element;
+        positions[element] = current;
+    }
+
+    private void siftDown(int position) {
+        final int element = heap[position];
+        final long key = keys[element];
+        final int half = size >>> 1;
+        int current = position;
+
+        while (current < half) {
+            int child = 2 * current + 1;
+
+            if (child + 1 < size && keys[heap[child + 1]] < keys[heap[child]]) {
+                child++;
+            }
+
+            if (key <= keys[heap[child]]) {
+                break;
+            }
+
+            heap[current] = heap[child];
+            positions[heap[current]] = current;
+            current = child;
+        }
+
+        heap[current] = element;
+        positions[element] = current;
+    }
+}
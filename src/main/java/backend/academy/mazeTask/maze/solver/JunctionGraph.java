@@ -0,0 +1,244 @@
+package backend.academy.mazeTask.maze.solver;
+
+import backend.academy.mazeTask.exception.CoordinateOutOfRangeException;
+import backend.academy.mazeTask.maze.Coordinate;
+import backend.academy.mazeTask.maze.Maze;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.Getter;
+import static backend.academy.mazeTask.constants.ExceptionTextValues.NULL_MAZE_EXCEPTION_TEXT;
+
+/**
+ * Граф развилок лабиринта. Вершины - проходы, у которых число соседних проходов не равно двум
+ * (развилки, тупики и изолированные ячейки), ребра - коридоры между ними. Ребро хранит только
+ * суммарный вес внутренних ячеек коридора и первую ячейку после начальной вершины: сам коридор
+ * однозначно восстанавливается проходом по ячейкам с двумя соседями, поэтому граф занимает
+ * O(количество развилок) памяти. Смежность хранится в сжатых массивах (CSR).
+ * Поиск выполняется алгоритмом Дейкстры по вершинам графа, а начальная и конечная ячейки внутри коридоров
+ * подключаются к концам своих коридоров на время запроса. Коридоры разворачиваются в ячейки только
+ * для найденного пути. Граф не изменяется после создания и может использоваться несколькими потоками.
+ */
+public final class JunctionGraph {
+
+    static final int NO_NODE = -1;
+    static final int NO_CELL = -1;
+
+    static final int NEIGHBOUR_COUNT = 4;
+
+    private static final int CORRIDOR_DEGREE = 2;
+    private static final long CELL_MASK = 0xFFFF_FFFFL;
+
+    @Getter
+    private final Maze maze;
+    private final int[] nodes;
+    private final int[] nodeCells;
+    @Getter(AccessLevel.PACKAGE)
+    private final int[] edgeStarts;
+    @Getter(AccessLevel.PACKAGE)
+    private final int[] edgeTargets;
+    @Getter(AccessLevel.PACKAGE)
+    private final int[] edgeCosts;
+    @Getter(AccessLevel.PACKAGE)
+    private final int[] edgeFirstCells;
+
+    /**
+     * Строит граф развилок лабиринта за O(height * width).
+     *
+     * @param maze лабиринт
+     *
+     * @throws NullPointerException если лабиринт равен null
+     */
+    public JunctionGraph(Maze maze) {
+        if (maze == null) {
+            throw new NullPointerException(NULL_MAZE_EXCEPTION_TEXT);
+        }
+
+        this.maze = maze;
+        this.nodes = new int[maze.height() * maze.width()];
+
+        final int[] neighbours = new int[NEIGHBOUR_COUNT];
+        int nodeCount = 0;
+        int edgeCount = 0;
+
+        for (int cell = 0; cell < nodes.length; cell++) {
+            final int degree = maze.isPassage(cell) ? getNeighbours(cell, neighbours) : CORRIDOR_DEGREE;
+
+            nodes[cell] = NO_NODE;
+
+            if (degree != CORRIDOR_DEGREE) {
+                nodes[cell] = nodeCount++;
+                edgeCount += degree;
+            }
+        }
+
+        this.nodeCells = new int[nodeCount];
+        this.edgeStarts = new int[nodeCount + 1];
+        this.edgeTargets = new int[edgeCount];
+        this.edgeCosts = new int[edgeCount];
+        this.edgeFirstCells = new int[edgeCount];
+
+        buildEdges();
+    }
+
+    /**
+     * Возвращает количество вершин графа.
+     *
+     * @return количество развилок, тупиков и изолированных проходов
+     */
+    public int nodeCount() {
+        return nodeCells.length;
+    }
+
+    /**
+     * Возвращает количество ориентированных ребер графа. Каждый коридор дает два ребра, по одному в каждую сторону.
+     *
+     * @return количество ребер
+     */
+    public int edgeCount() {
+        return edgeTargets.length;
+    }
+
+    /**
+     * Находит путь минимальной стоимости между двумя ячейками лабиринта.
+     *
+     * @param start начальная координата пути
+     * @param finish конечная координата пути
+     *
+     * @return список координат пути от начальной точки до конечной. Если путь не найден, возвращается пустой список.
+     * Если начальная и конечная точки совпадают, возвращается список с одной точкой.
+     *
+     * @throws NullPointerException если координата равна null
+     * @throws CoordinateOutOfRangeException если координата вышла за пределы лабиринта
+     */
+    public List<Coordinate> findPath(Coordinate start, Coordinate finish) {
+        MazeSolver.validateCoordinate(start, maze);
+        MazeSolver.validateCoordinate(finish, maze);
+
+        final int startCell = maze.getIndex(start.x(), start.y());
+        final int finishCell = maze.getIndex(finish.x(), finish.y());
+
+        if (!maze.isPassage(startCell) || !maze.isPassage(finishCell)) {
+            return new ArrayList<>();
+        }
+
+        if (startCell == finishCell) {
+            return List.of(start);
+        }
+
+        return new JunctionGraphSearch(this, startCell, finishCell).run();
+    }
+
+    int getNode(int cell) {
+        return nodes[cell];
+    }
+
+    int getNodeCell(int node) {
+        return nodeCells[node];
+    }
+
+    int getWeight(int cell) {
+        return maze.getCell(cell).weight();
+    }
+
+    /**
+     * Возвращает соседние проходы ячейки в порядке: справа, снизу, слева, сверху.
+     *
+     * @param cell индекс ячейки
+     * @param neighbours массив не меньше чем из четырех элементов для индексов соседей
+     *
+     * @return количество соседних проходов
+     */
+    int getNeighbours(int cell, int[] neighbours) {
+        final int width = maze.width();
+        final int y = cell % width;
+        int count = 0;
+
+        if (y + 1 < width && maze.isPassage(cell + 1)) {
+            neighbours[count++] = cell + 1;
+        }
+
+        if (cell + width < nodes.length && maze.isPassage(cell + width)) {
+            neighbours[count++] = cell + width;
+        }
+
+        if (y > 0 && maze.isPassage(cell - 1)) {
+            neighbours[count++] = cell - 1;
+        }
+
+        if (cell >= width && maze.isPassage(cell - width)) {
+            neighbours[count++] = cell - width;
+        }
+
+        return count;
+    }
+
+    /**
+     * Проходит по коридору от ячейки from через соседнюю ячейку first до первой вершины графа,
+     * до ячейки stop или до возврата в from, если коридор замкнут в кольцо без развилок.
+     *
+     * @param from ячейка, с которой начинается проход
+     * @param first первая ячейка коридора, соседняя с from
+     * @param stop ячейка, на которой проход останавливается, или NO_CELL
+     * @param cells список, в который добавляются внутренние ячейки коридора, или null
+     *
+     * @return суммарный вес внутренних ячеек в старших 32 битах и индекс последней ячейки в младших
+     */
+    long walk(int from, int first, int stop, List<Coordinate> cells) {
+        final int[] neighbours = new int[NEIGHBOUR_COUNT];
+        int previous = from;
+        int current = first;
+        long cost = 0;
+
+        while (current != stop && current != from && nodes[current] == NO_NODE) {
+            cost += getWeight(current);
+
+            if (cells != null) {
+                cells.add(maze.getCoordinate(current));
+            }
+
+            getNeighbours(current, neighbours);
+
+            final int next = neighbours[0] == previous ? neighbours[1] : neighbours[0];
+
+            previous = current;
+            current = next;
+        }
+
+        return cost << Integer.SIZE | current;
+    }
+
+    static int getWalkEnd(long walk) {
+        return (int) (walk & CELL_MASK);
+    }
+
+    static int getWalkCost(long walk) {
+        return (int) (walk >>> Integer.SIZE);
+    }
+
+    private void buildEdges() {
+        final int[] neighbours = new int[NEIGHBOUR_COUNT];
+        int edge = 0;
+
+        for (int cell = 0; cell < nodes.length; cell++) {
+            if (nodes[cell] != NO_NODE) {
+                final int node = nodes[cell];
+                final int degree = getNeighbours(cell, neighbours);
+
+                nodeCells[node] = cell;
+                edgeStarts[node] = edge;
+
+                for (int i = 0; i < degree; i++) {
+                    final long walk = walk(cell, neighbours[i], NO_CELL, null);
+
+                    edgeTargets[edge] = nodes[getWalkEnd(walk)];
+                    edgeCosts[edge] = getWalkCost(walk);
+                    edgeFirstCells[edge] = neighbours[i];
+                    edge++;
+                }
+            }
+        }
+
+        edgeStarts[nodeCells.length] = edge;
+    }
+}
@@ -0,0 +1,36 @@
+package backend.academy.mazeTask.maze.solver;
+
+import backend.academy.mazeTask.exception.CoordinateOutOfRangeException;
+import backend.academy.mazeTask.maze.Coordinate;
+import backend.academy.mazeTask.maze.Maze;
+import java.util.List;
+
+/**
+ * Реализует поиск кратчайшего пути по графу развилок {@link JunctionGraph}: коридоры сжимаются в ребра,
+ * и алгоритм Дейкстры обходит только развилки и тупики. Граф строится заново при каждом вызове;
+ * если к одному лабиринту выполняется много запросов, выгоднее создать {@link JunctionGraph} один раз.
+ */
+public class JunctionGraphMazeSolver extends MazeSolver {
+
+    /**
+     * Решает задачу поиска кратчайшего пути от точки старта до точки финиша в лабиринте,
+     * используя граф развилок.
+     *
+     * @param maze лабиринт, представленный объектом {@link Maze}, в котором необходимо найти путь
+     * @param start начальная координата пути
+     * @param finish конечная координата пути
+     *
+     * @return список координат, представляющий кратчайший путь от начальной точки до конечной.
+     * Если путь не найден, возвращается пустой список.
+     * Если начальная и конечная точки совпадают, возвращается список с одной точкой.
+     *
+     * @throws NullPointerException если входные данные являются null
+     * @throws CoordinateOutOfRangeException если координата начала или конца вышла за пределы лабиринта
+     */
+    @Override
+    public List<Coordinate> solve(Maze maze, Coordinate start, Coordinate finish) {
+        super.validateData(maze, start, finish);
+
+        return new JunctionGraph(maze).findPath(start, finish);
+    }
+}
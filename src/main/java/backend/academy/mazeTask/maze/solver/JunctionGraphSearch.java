@@ -0,0 +1,212 @@
+package backend.academy.mazeTask.maze.solver;
+
+import backend.academy.mazeTask.maze.Coordinate;
+import backend.academy.mazeTask.maze.Maze;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import static backend.academy.mazeTask.maze.solver.JunctionGraph.NO_CELL;
+import static backend.academy.mazeTask.maze.solver.JunctionGraph.NO_NODE;
+
+/**
+ * Один запрос к {@link JunctionGraph}: алгоритм Дейкстры по вершинам графа и восстановление пути.
+ * Если начальная ячейка лежит внутри коридора, поиск начинается сразу с обоих концов коридора.
+ * Если внутри коридора лежит конечная ячейка, кандидатом на ответ становится каждый извлеченный конец ее коридора
+ * со стоимостью остатка коридора, а поиск останавливается, когда минимальный ключ кучи не меньше лучшего кандидата.
+ * Если обе ячейки лежат в одном коридоре, кандидатом также становится прямой путь по коридору.
+ * Создается заново для каждого запроса.
+ */
+final class JunctionGraphSearch {
+
+    private static final int START_NODE = -1;
+    private static final int SEED_OFFSET = 2;
+    private static final int MAX_TAILS = 2;
+
+    private final JunctionGraph graph;
+    private final int startCell;
+    private final int finishCell;
+    private final int[] distances;
+    private final int[] parentNodes;
+    private final int[] parentEdges;
+    private final IndexedMinHeap heap;
+    private final int[] tailNodes = new int[MAX_TAILS];
+    private final int[] tailCosts = new int[MAX_TAILS];
+    private final int[] tailFirstCells = new int[MAX_TAILS];
+    private int tailCount;
+    private long bestCost = Long.MAX_VALUE;
+    private int bestNode = NO_NODE;
+    private int bestTail = -1;
+    private int directFirstCell = NO_CELL;
+
+    /**
+     * Создает запрос между двумя различными проходами.
+     *
+     * @param graph граф развилок
+     * @param startCell индекс начальной ячейки
+     * @param finishCell индекс конечной ячейки
+     */
+    JunctionGraphSearch(JunctionGraph graph, int startCell, int finishCell) {
+        this.graph = graph;
+        this.startCell = startCell;
+        this.finishCell = finishCell;
+        this.distances = new int[graph.nodeCount()];
+        this.parentNodes = new int[graph.nodeCount()];
+        this.parentEdges = new int[graph.nodeCount()];
+        this.heap = new IndexedMinHeap(graph.nodeCount());
+
+        Arrays.fill(distances, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Выполняет поиск.
+     *
+     * @return путь от начальной ячейки до конечной или пустой список, если пути нет
+     */
+    List<Coordinate> run() {
+        seedStart();
+        collectFinishTails();
+
+        while (!heap.isEmpty() && heap.peekKey() < bestCost) {
+            final int node = heap.poll();
+
+            if (graph.getNodeCell(node) == finishCell) {
+                bestCost = distances[node];
+                bestNode = node;
+                bestTail = -1;
+            } else {
+                offerTails(node);
+                relaxEdges(node);
+            }
+        }
+
+        return bestCost == Long.MAX_VALUE ? new ArrayList<>() : buildPath();
+    }
+
+    private void seedStart() {
+        final int startNode = graph.getNode(startCell);
+
+        if (startNode != NO_NODE) {
+            relax(startNode, graph.getWeight(startCell), START_NODE, START_NODE);
+
+            return;
+        }
+
+        final int[] neighbours = new int[JunctionGraph.NEIGHBOUR_COUNT];
+        final int degree = graph.getNeighbours(startCell, neighbours);
+
+        for (int i = 0; i < degree; i++) {
+            final long walk = graph.walk(startCell, neighbours[i], finishCell, null);
+            final int end = JunctionGraph.getWalkEnd(walk);
+            final int cost = graph.getWeight(startCell) + JunctionGraph.getWalkCost(walk);
+
+            if (end == finishCell && cost + graph.getWeight(finishCell) < bestCost) {
+                bestCost = cost + graph.getWeight(finishCell);
+                directFirstCell = neighbours[i];
+            } else if (end != finishCell && end != startCell) {
+                relax(graph.getNode(end), cost + graph.getWeight(end), START_NODE, -neighbours[i] - SEED_OFFSET);
+            }
+        }
+    }
+
+    private void collectFinishTails() {
+        if (graph.getNode(finishCell) != NO_NODE) {
+            return;
+        }
+
+        final int[] neighbours = new int[JunctionGraph.NEIGHBOUR_COUNT];
+        final int degree = graph.getNeighbours(finishCell, neighbours);
+
+        for (int i = 0; i < degree; i++) {
+            final long walk = graph.walk(finishCell, neighbours[i], startCell, null);
+            final int end = JunctionGraph.getWalkEnd(walk);
+
+            if (graph.getNode(end) != NO_NODE) {
+                tailNodes[tailCount] = graph.getNode(end);
+                tailCosts[tailCount] = JunctionGraph.getWalkCost(walk) + graph.getWeight(finishCell);
+                tailFirstCells[tailCount] = neighbours[i];
+                tailCount++;
+            }
+        }
+    }
+
+    private void offerTails(int node) {
+        for (int i = 0; i < tailCount; i++) {
+            if (tailNodes[i] == node && (long) distances[node] + tailCosts[i] < bestCost) {
+                bestCost = (long) distances[node] + tailCosts[i];
+                bestNode = node;
+                bestTail = i;
+            }
+        }
+    }
+
+    private void relaxEdges(int node) {
+        final int[] edgeStarts = graph.edgeStarts();
+
+        for (int edge = edgeStarts[node]; edge < edgeStarts[node + 1]; edge++) {
+            final int target = graph.edgeTargets()[edge];
+            final int distance = distances[node] + graph.edgeCosts()[edge] + graph.getWeight(graph.getNodeCell(target));
+
+            relax(target, distance, node, edge);
+        }
+    }
+
+    private void relax(int node, int distance, int parentNode, int parentEdge) {
+        if (distance < distances[node]) {
+            distances[node] = distance;
+            parentNodes[node] = parentNode;
+            parentEdges[node] = parentEdge;
+            heap.insertOrDecrease(node, distance);
+        }
+    }
+
+    /**
+     * Собирает путь с конца: остаток коридора конечной ячейки, затем ребра до вершины, с которой начался поиск,
+     * и начало коридора начальной ячейки. Ребро parentEdges, меньшее START_NODE, хранит первую ячейку
+     * коридора, по которому поиск дошел от начальной ячейки до вершины.
+     */
+    private List<Coordinate> buildPath() {
+        final Maze maze = graph.maze();
+        final List<Coordinate> path = new ArrayList<>();
+
+        if (bestNode == NO_NODE) {
+            path.add(maze.getCoordinate(startCell));
+            graph.walk(startCell, directFirstCell, finishCell, path);
+            path.add(maze.getCoordinate(finishCell));
+
+            return path;
+        }
+
+        if (bestTail >= 0) {
+            path.add(maze.getCoordinate(finishCell));
+            graph.walk(finishCell, tailFirstCells[bestTail], startCell, path);
+        }
+
+        int node = bestNode;
+
+        while (parentNodes[node] != START_NODE) {
+            path.add(maze.getCoordinate(graph.getNodeCell(node)));
+            addReversed(path, graph.getNodeCell(parentNodes[node]), graph.edgeFirstCells()[parentEdges[node]]);
+            node = parentNodes[node];
+        }
+
+        path.add(maze.getCoordinate(graph.getNodeCell(node)));
+
+        if (parentEdges[node] != START_NODE) {
+            addReversed(path, startCell, -parentEdges[node] - SEED_OFFSET);
+            path.add(maze.getCoordinate(startCell));
+        }
+
+        Collections.reverse(path);
+
+        return path;
+    }
+
+    private void addReversed(List<Coordinate> path, int from, int first) {
+        final List<Coordinate> corridor = new ArrayList<>();
+
+        graph.walk(from, first, NO_CELL, corridor);
+        Collections.reverse(corridor);
+        path.addAll(corridor);
+    }
+}
@@ -0,0 +1,191 @@
+package backend.academy.mazeTask.maze.solver;
+
+import backend.academy.mazeTask.maze.Coordinate;
+import backend.academy.mazeTask.maze.Maze;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Состояние одного поиска {@link ParallelBfsSearch}. Поиск идет по слоям: фронт текущего слоя делится
+ * на части по {@link #CHUNK_SIZE} ячеек, части раскрываются параллельно задачами {@link FrontierChunkTask},
+ * и каждая часть пишет новые ячейки в собственный буфер. После раскрытия всех частей буферы склеиваются
+ * в фронт следующего слоя. Ячейку забирает в свой буфер только та задача, которая первой установила ее бит
+ * в наборе посещенных ячеек операцией compareAndSet, поэтому каждая ячейка попадает во фронт один раз.
+ * Номер слоя ячейки не зависит от того, какая задача ее забрала, поэтому слои, а вместе с ними и путь,
+ * одинаковы при любой степени параллелизма.
+ */
+final class LevelSynchronousBfs {
+
+    /**
+     * Количество ячеек фронта в одной задаче. Меньший фронт раскрывается в вызывающем потоке.
+     */
+    static final int CHUNK_SIZE = 1024;
+
+    private static final int NEIGHBOUR_COUNT = 4;
+
+    private final Maze maze;
+    private final AtomicLongArray visited;
+    private final int[] layers;
+    private int[] frontier;
+    private int frontierSize;
+    private int[][] chunkBuffers;
+    private int[] chunkSizes;
+    private int layer;
+
+    /**
+     * Создает поиск, начинающийся в заданной ячейке.
+     *
+     * @param maze лабиринт
+     * @param startIndex индекс начальной ячейки, которая должна быть проходом
+     */
+    LevelSynchronousBfs(Maze maze, int startIndex) {
+        final int cellCount = maze.height() * maze.width();
+
+        this.maze = maze;
+        this.visited = new AtomicLongArray((cellCount + MazeBitboard.WORD_MASK) >>> MazeBitboard.WORD_SHIFT);
+        this.layers = new int[cellCount];
+        this.frontier = new int[CHUNK_SIZE];
+        this.chunkBuffers = new int[0][];
+        this.chunkSizes = new int[0];
+
+        claim(startIndex);
+        frontier[frontierSize++] = startIndex;
+    }
+
+    int layer() {
+        return layer;
+    }
+
+    /**
+     * Возвращает номер слоя ячейки.
+     *
+     * @param cell индекс ячейки
+     *
+     * @return номер слоя или -1, если поиск до ячейки не дошел
+     */
+    int getLayer(int cell) {
+        return isVisited(cell) ? layers[cell] : -1;
+    }
+
+    boolean isVisited(int cell) {
+        return (visited.get(cell >>> MazeBitboard.WORD_SHIFT) & getBit(cell)) != 0;
+    }
+
+    /**
+     * Строит следующий слой поиска.
+     *
+     * @param pool пул, в котором раскрываются части большого фронта
+     *
+     * @return true, если в новом слое есть хотя бы одна ячейка
+     */
+    boolean expand(ForkJoinPool pool) {
+        final int chunkCount = (frontierSize + CHUNK_SIZE - 1) / CHUNK_SIZE;
+
+        layer++;
+        ensureChunkBuffers(chunkCount);
+
+        if (chunkCount == 1) {
+            expandChunk(0);
+        } else {
+            pool.invoke(new FrontierChunkTask(this::expandChunk, 0, chunkCount));
+        }
+
+        int nextSize = 0;
+
+        for (int i = 0; i < chunkCount; i++) {
+            nextSize += chunkSizes[i];
+        }
+
+        final int[] next = nextSize <= frontier.length ? frontier : new int[nextSize];
+        int offset = 0;
+
+        for (int i = 0; i < chunkCount; i++) {
+            System.arraycopy(chunkBuffers[i], 0, next, offset, chunkSizes[i]);
+            offset += chunkSizes[i];
+        }
+
+        frontier = next;
+        frontierSize = nextSize;
+
+        return frontierSize > 0;
+    }
+
+    /**
+     * Раскрывает одну часть фронта в ее собственный буфер.
+     * Вызывается одновременно из нескольких потоков для разных частей.
+     *
+     * @param chunk номер части фронта
+     */
+    void expandChunk(int chunk) {
+        final int[] buffer = chunkBuffers[chunk];
+        final int from = chunk * CHUNK_SIZE;
+        final int to = Math.min(frontierSize, from + CHUNK_SIZE);
+        int size = 0;
+
+        for (int i = from; i < to; i++) {
+            final int current = frontier[i];
+            final int x = current / maze.width();
+            final int y = current % maze.width();
+
+            for (Coordinate direction : MazeSolver.DIRECTIONS) {
+                final int newX = x + direction.x();
+                final int newY = y + direction.y();
+
+                if (MazeSolver.isWithinBounds(newX, newY, maze)) {
+                    final int neighbour = maze.getIndex(newX, newY);
+
+                    if (maze.isPassage(neighbour) && claim(neighbour)) {
+                        layers[neighbour] = layer;
+                        buffer[size++] = neighbour;
+                    }
+                }
+            }
+        }
+
+        chunkSizes[chunk] = size;
+    }
+
+    /**
+     * Атомарно помечает ячейку посещенной.
+     *
+     * @return true, если ячейку пометил этот вызов, и false, если она уже была посещена
+     */
+    private boolean claim(int cell) {
+        final int word = cell >>> MazeBitboard.WORD_SHIFT;
+        final long bit = getBit(cell);
+        long current = visited.get(word);
+
+        while ((current & bit) == 0) {
+            if (visited.compareAndSet(word, current, current | bit)) {
+                return true;
+            }
+
+            current = visited.get(word);
+        }
+
+        return false;
+    }
+
+    /**
+     * Выделяет буферы частей. Из части в CHUNK_SIZE ячеек в новый слой попадает не больше
+     * NEIGHBOUR_COUNT * CHUNK_SIZE ячеек, поэтому буфер никогда не переполняется.
+     */
+    private void ensureChunkBuffers(int chunkCount) {
+        if (chunkBuffers.length >= chunkCount) {
+            return;
+        }
+
+        final int[][] buffers = new int[Math.max(chunkCount, chunkBuffers.length * 2)][];
+
+        for (int i = 0; i < buffers.length; i++) {
+            buffers[i] = i < chunkBuffers.length ? chunkBuffers[i] : new int[NEIGHBOUR_COUNT * CHUNK_SIZE];
+        }
+
+        chunkBuffers = buffers;
+        chunkSizes = new int[buffers.length];
+    }
+
+    private static long getBit(int cell) {
+        return 1L << (cell & MazeBitboard.WORD_MASK);
+    }
+}
@@ -0,0 +1,204 @@
+package backend.academy.mazeTask.maze.solver;
+
+import backend.academy.mazeTask.exception.CoordinateOutOfRangeException;
+import backend.academy.mazeTask.maze.Coordinate;
+import backend.academy.mazeTask.maze.Maze;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import static backend.academy.mazeTask.constants.ExceptionTextValues.NULL_MAZE_EXCEPTION_TEXT;
+
+/**
+ * Битовое представление проходов лабиринта для запросов без учета весов: достижима ли ячейка,
+ * за сколько шагов и каким путем из наименьшего числа шагов. Каждая строка хранится как массив long,
+ * бит y которого равен 1, если ячейка (x, y) - проход. Достижимость проверяется заливкой
+ * {@link BitboardFloodFill}, которая заполняет целые отрезки проходов строки одним сложением на 64 ячейки.
+ * Количество шагов и путь находит поиск в ширину {@link BitboardFrontier}, который расширяет фронт
+ * сдвигами и масками по словам.
+ * Доски строятся один раз, не изменяются после создания и могут использоваться несколькими потоками
+ * одновременно: состояние каждого запроса создается внутри вызова.
+ */
+public final class MazeBitboard {
+
+    /**
+     * Количество шагов до ячейки, которая не соединена с начальной.
+     */
+    public static final int UNREACHABLE = -1;
+
+    static final int WORD_SHIFT = 6;
+    static final int WORD_MASK = Long.SIZE - 1;
+
+    @Getter
+    private final Maze maze;
+    private final int words;
+    private final long[] passable;
+
+    /**
+     * Строит битовые доски проходов лабиринта.
+     *
+     * @param maze лабиринт
+     *
+     * @throws NullPointerException если лабиринт равен null
+     */
+    public MazeBitboard(Maze maze) {
+        if (maze == null) {
+            throw new NullPointerException(NULL_MAZE_EXCEPTION_TEXT);
+        }
+
+        this.maze = maze;
+        this.words = (maze.width() + WORD_MASK) >>> WORD_SHIFT;
+        this.passable = new long[maze.height() * words];
+
+        for (int cell = 0; cell < maze.height() * maze.width(); cell++) {
+            if (maze.isPassage(cell)) {
+                passable[getWord(cell, maze.width(), words)] |= getBit(cell, maze.width());
+            }
+        }
+    }
+
+    /**
+     * Проверяет, соединены ли две ячейки проходами.
+     *
+     * @param start начальная координата
+     * @param finish конечная координата
+     *
+     * @return true, если обе ячейки - проходы и между ними есть путь
+     *
+     * @throws NullPointerException если координата равна null
+     * @throws CoordinateOutOfRangeException если координата вышла за пределы лабиринта
+     */
+    public boolean isReachable(Coordinate start, Coordinate finish) {
+        MazeSolver.validateCoordinate(start, maze);
+        MazeSolver.validateCoordinate(finish, maze);
+
+        final int startIndex = maze.getIndex(start.x(), start.y());
+        final int finishIndex = maze.getIndex(finish.x(), finish.y());
+
+        if (!maze.isPassage(startIndex) || !maze.isPassage(finishIndex)) {
+            return false;
+        }
+
+        final BitboardFloodFill floodFill = createFloodFill(startIndex);
+        final int finishWord = getWord(finishIndex, maze.width(), words);
+        final long finishBit = getBit(finishIndex, maze.width());
+
+        floodFill.fill(finishWord, finishBit);
+
+        return floodFill.isVisited(finishWord, finishBit);
+    }
+
+    /**
+     * Возвращает наименьшее количество шагов между двумя ячейками без учета весов проходов.
+     *
+     * @param start начальная координата
+     * @param finish конечная координата
+     *
+     * @return количество шагов или {@link #UNREACHABLE}, если пути нет
+     *
+     * @throws NullPointerException если координата равна null
+     * @throws CoordinateOutOfRangeException если координата вышла за пределы лабиринта
+     */
+    public int getHopDistance(Coordinate start, Coordinate finish) {
+        final BitboardFrontier frontier = search(start, finish, false);
+
+        return frontier == null ? UNREACHABLE : frontier.layer();
+    }
+
+    /**
+     * Находит путь из наименьшего количества шагов между двумя ячейками без учета весов проходов.
+     *
+     * @param start начальная координата пути
+     * @param finish конечная координата пути
+     *
+     * @return список координат от начальной точки до конечной. Если путь не найден, возвращается пустой список.
+     * Если начальная и конечная точки совпадают, возвращается список с одной точкой.
+     *
+     * @throws NullPointerException если координата равна null
+     * @throws CoordinateOutOfRangeException если координата вышла за пределы лабиринта
+     */
+    public List<Coordinate> getHopPath(Coordinate start, Coordinate finish) {
+        final BitboardFrontier frontier = search(start, finish, true);
+
+        if (frontier == null) {
+            return new ArrayList<>();
+        }
+
+        return MazeSolver.buildLayeredPath(maze, maze.getIndex(finish.x(), finish.y()), frontier.layer(),
+            cell -> frontier.isVisited(cell) ? frontier.getLayer(cell) : UNREACHABLE);
+    }
+
+    /**
+     * Возвращает количество проходов, достижимых из ячейки, включая ее саму.
+     *
+     * @param source начальная координата
+     *
+     * @return размер компоненты связности ячейки или 0, если ячейка - стена
+     *
+     * @throws NullPointerException если координата равна null
+     * @throws CoordinateOutOfRangeException если координата вышла за пределы лабиринта
+     */
+    public int countReachable(Coordinate source) {
+        MazeSolver.validateCoordinate(source, maze);
+
+        final int sourceIndex = maze.getIndex(source.x(), source.y());
+
+        if (!maze.isPassage(sourceIndex)) {
+            return 0;
+        }
+
+        final BitboardFloodFill floodFill = createFloodFill(sourceIndex);
+
+        floodFill.fill(0, 0L);
+
+        return floodFill.countVisited();
+    }
+
+    /**
+     * Выполняет поиск в ширину до конечной ячейки.
+     * Возвращает состояние поиска, в котором номер последнего слоя равен количеству шагов,
+     * или null, если конечная ячейка недостижима.
+     */
+    private BitboardFrontier search(Coordinate start, Coordinate finish, boolean recordLayers) {
+        MazeSolver.validateCoordinate(start, maze);
+        MazeSolver.validateCoordinate(finish, maze);
+
+        final int startIndex = maze.getIndex(start.x(), start.y());
+        final int finishIndex = maze.getIndex(finish.x(), finish.y());
+
+        if (!maze.isPassage(startIndex) || !maze.isPassage(finishIndex)) {
+            return null;
+        }
+
+        final BitboardFrontier frontier = createFrontier(recordLayers);
+
+        frontier.start(startIndex);
+
+        while (!frontier.isVisited(finishIndex)) {
+            if (!frontier.expand()) {
+                return null;
+            }
+        }
+
+        return frontier;
+    }
+
+    private BitboardFloodFill createFloodFill(int sourceIndex) {
+        final BitboardFloodFill floodFill = new BitboardFloodFill(passable, maze.height(), words);
+
+        floodFill.start(getWord(sourceIndex, maze.width(), words), getBit(sourceIndex, maze.width()));
+
+        return floodFill;
+    }
+
+    private BitboardFrontier createFrontier(boolean recordLayers) {
+        return new BitboardFrontier(passable, maze.height(), maze.width(), words, recordLayers);
+    }
+
+    static int getWord(int cell, int width, int words) {
+        return cell / width * words + (cell % width >>> WORD_SHIFT);
+    }
+
+    static long getBit(int cell, int width) {
+        return 1L << (cell % width & WORD_MASK);
+    }
+}
@@ -1,14 +1,23 @@
 package backend.academy.mazeTask.maze.solver;
 
-import backend.academy.mazeTask.enums.CellType;
 import backend.academy.mazeTask.exception.CoordinateOutOfRangeException;
 import backend.academy.mazeTask.maze.Coordinate;
 import backend.academy.mazeTask.maze.Maze;
 import backend.academy.mazeTask.maze.solver.dto.Cell;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.function.IntUnaryOperator;
+import static backend.academy.mazeTask.constants.ExceptionTextValues.MISSING_PREVIOUS_PATH_CELL_EXCEPTION_TEXT;
 import static backend.academy.mazeTask.constants.ExceptionTextValues.NULL_COORDINATE_EXCEPTION_TEXT;
 import static backend.academy.mazeTask.constants.ExceptionTextValues.NULL_MAZE_EXCEPTION_TEXT;
 
+/**
+ * Базовый класс алгоритмов поиска кратчайшего пути в лабиринте.
+ * Решатели не хранят состояния между вызовами: все данные поиска создаются внутри вызова
+ * {@link #solve(Maze, Coordinate, Coordinate)}, поэтому один экземпляр решателя потокобезопасен
+ * и может обслуживать несколько запросов одновременно.
+ */
 public abstract class MazeSolver {
 
     static final Coordinate[] DIRECTIONS = {
@@ -18,6 +27,8 @@ public abstract class MazeSolver {
         new Coordinate(-1, 0)
     };
 
+    static final int NO_PARENT = -1;
+
     protected void validateData(Maze maze, Coordinate start, Coordinate finish) {
         if (maze == null) {
             throw new NullPointerException(NULL_MAZE_EXCEPTION_TEXT);
@@ -33,20 +44,98 @@ public abstract class MazeSolver {
             .sum();
     }
 
-    protected boolean isWithinBounds(int x, int y, CellType[][] grid) {
-        return x >= 0 && x < grid.length && y >= 0 && y < grid[0].length;
+    /**
+     * Проверяет, что ячейка лежит в пределах лабиринта.
+     *
+     * @param x номер строки
+     * @param y номер столбца
+     * @param maze лабиринт
+     *
+     * @return true, если ячейка лежит в пределах лабиринта
+     */
+    protected static boolean isWithinBounds(int x, int y, Maze maze) {
+        return x >= 0 && x < maze.height() && y >= 0 && y < maze.width();
+    }
+
+    protected boolean isValidMove(int x, int y, Maze maze) {
+        return maze.isPassage(maze.getIndex(x, y));
+    }
+
+    protected int getWeight(Maze maze, int index) {
+        return maze.getCell(index).weight();
+    }
+
+    /**
+     * Восстанавливает путь от начальной ячейки до конечной по массиву родителей.
+     *
+     * @param maze лабиринт, в котором выполнялся поиск
+     * @param parents массив, хранящий для каждой ячейки индекс предыдущей ячейки пути или NO_PARENT
+     * @param finishIndex индекс конечной ячейки пути
+     *
+     * @return список координат пути от начальной ячейки до конечной
+     */
+    protected List<Coordinate> buildPath(Maze maze, int[] parents, int finishIndex) {
+        final List<Coordinate> path = new ArrayList<>();
+
+        for (int index = finishIndex; index != NO_PARENT; index = parents[index]) {
+            path.add(maze.getCoordinate(index));
+        }
+
+        Collections.reverse(path);
+
+        return path;
+    }
+
+    /**
+     * Восстанавливает путь из наименьшего количества шагов по номерам слоев поиска в ширину.
+     * От конечной ячейки путь идет в первого по порядку {@link #DIRECTIONS} соседа из предыдущего слоя,
+     * поэтому для одинаковых слоев путь не зависит от того, каким поиском они получены.
+     *
+     * @param maze лабиринт, в котором выполнялся поиск
+     * @param finishIndex индекс конечной ячейки пути
+     * @param finishLayer номер слоя конечной ячейки
+     * @param layerOf функция, возвращающая номер слоя посещенной ячейки и -1 для непосещенной
+     *
+     * @return список координат пути от начальной ячейки (слой 0) до конечной
+     */
+    static List<Coordinate> buildLayeredPath(Maze maze, int finishIndex, int finishLayer, IntUnaryOperator layerOf) {
+        final List<Coordinate> path = new ArrayList<>();
+        int current = finishIndex;
+
+        path.add(maze.getCoordinate(current));
+
+        for (int layer = finishLayer - 1; layer >= 0; layer--) {
+            current = findPreviousIndex(maze, current, layer, layerOf);
+            path.add(maze.getCoordinate(current));
+        }
+
+        Collections.reverse(path);
+
+        return path;
     }
 
-    protected boolean isValidMove(int x, int y, CellType[][] grid) {
-        return grid[x][y] != CellType.WALL;
+    private static int findPreviousIndex(Maze maze, int current, int layer, IntUnaryOperator layerOf) {
+        final int x = current / maze.width();
+        final int y = current % maze.width();
+
+        for (Coordinate direction : DIRECTIONS) {
+            final int newX = x + direction.x();
+            final int newY = y + direction.y();
+
+            if (isWithinBounds(newX, newY, maze)
+                && layerOf.applyAsInt(maze.getIndex(newX, newY)) == layer) {
+                return maze.getIndex(newX, newY);
+            }
+        }
+
+        throw new IllegalStateException(MISSING_PREVIOUS_PATH_CELL_EXCEPTION_TEXT);
     }
 
-    private boolean isInvalidRange(Coordinate coordinate, Maze maze) {
-        return coordinate.x() < 0 || coordinate.x() >= maze.height()
-            || coordinate.y() < 0 || coordinate.y() >= maze.width();
+    private static boolean isInvalidRange(Coordinate coordinate, Maze maze) {
+        return !isWithinBounds(coordinate.x(), coordinate.y(), maze);
     }
 
-    private void validateCoordinate(Coordinate coordinate, Maze maze) {
+    protected static void validateCoordinate(Coordinate coordinate, Maze maze) {
         if (coordinate == null) {
             throw new NullPointerException(NULL_COORDINATE_EXCEPTION_TEXT);
         }
@@ -0,0 +1,93 @@
+package backend.academy.mazeTask.maze.solver;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+/**
+ * Рабочие массивы поиска из одного источника до нескольких целей, переиспользуемые между поисками.
+ * Вместо заполнения массивов перед каждым поиском ячейки помечаются номером текущего поиска:
+ * расстояние и цель, записанные в предыдущих поисках, считаются отсутствующими. Поэтому подготовка
+ * к очередному поиску стоит O(1), а не O(height * width). Контекст используется одним потоком.
+ */
+final class MultiTargetSearchContext {
+
+    @Getter(AccessLevel.PACKAGE)
+    private final int[] parents;
+    @Getter(AccessLevel.PACKAGE)
+    private final IndexedMinHeap heap;
+    private final int[] distances;
+    private final int[] visitMarks;
+    private final int[] targetMarks;
+    private int round;
+    @Getter(AccessLevel.PACKAGE)
+    private int remainingTargets;
+
+    /**
+     * Создает контекст для лабиринтов из cellCount ячеек.
+     *
+     * @param cellCount количество ячеек лабиринта
+     */
+    MultiTargetSearchContext(int cellCount) {
+        parents = new int[cellCount];
+        heap = new IndexedMinHeap(cellCount);
+        distances = new int[cellCount];
+        visitMarks = new int[cellCount];
+        targetMarks = new int[cellCount];
+    }
+
+    /**
+     * Начинает новый поиск: все расстояния и цели предыдущих поисков становятся недействительными.
+     */
+    void startRound() {
+        round++;
+        remainingTargets = 0;
+        heap.clear();
+    }
+
+    /**
+     * Добавляет цель текущего поиска. Повторное добавление той же ячейки ничего не меняет.
+     *
+     * @param index индекс ячейки
+     */
+    void addTarget(int index) {
+        if (targetMarks[index] != round) {
+            targetMarks[index] = round;
+            remainingTargets++;
+        }
+    }
+
+    /**
+     * Отмечает ячейку, извлеченную из кучи с окончательным расстоянием.
+     *
+     * @param index индекс ячейки
+     */
+    void settle(int index) {
+        if (targetMarks[index] == round) {
+            remainingTargets--;
+        }
+    }
+
+    /**
+     * Возвращает расстояние до ячейки в текущем поиске.
+     *
+     * @param index индекс ячейки
+     *
+     * @return расстояние или Integer.MAX_VALUE, если ячейка еще не достигнута
+     */
+    int getDistance(int index) {
+        return visitMarks[index] == round ? distances[index] : Integer.MAX_VALUE;
+    }
+
+    /**
+     * Записывает расстояние до ячейки и предыдущую ячейку пути.
+     *
+     * @param index индекс ячейки
+     * @param distance расстояние от источника
+     * @param parent индекс предыдущей ячейки или NO_PARENT для источника
+     */
+    void setDistance(int index, int distance, int parent) {
+        visitMarks[index] = round;
+        distances[index] = distance;
+        parents[index] = parent;
+    }
+}
@@ -0,0 +1,127 @@
+package backend.academy.mazeTask.maze.solver;
+
+import backend.academy.mazeTask.exception.CoordinateOutOfRangeException;
+import backend.academy.mazeTask.exception.IncorrectParallelismException;
+import backend.academy.mazeTask.maze.Coordinate;
+import backend.academy.mazeTask.maze.Maze;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import lombok.Getter;
+import static backend.academy.mazeTask.constants.ExceptionTextValues.NULL_MAZE_EXCEPTION_TEXT;
+
+/**
+ * Поиск в ширину по слоям для очень больших лабиринтов, в котором каждый достаточно широкий фронт
+ * раскрывается параллельно в {@link ForkJoinPool}. Посещенные ячейки хранятся в атомарном битовом наборе,
+ * а каждая часть фронта пишет новые ячейки в собственный буфер, поэтому потоки не делят ни очередь, ни список.
+ * Веса проходов не учитываются: находится путь из наименьшего количества шагов. Путь восстанавливается
+ * по номерам слоев так же, как в {@link MazeBitboard#getHopPath(Coordinate, Coordinate)},
+ * поэтому он одинаков при любой степени параллелизма и совпадает с путем битовых досок.
+ * Пул создается на время одного вызова, и один экземпляр может обслуживать несколько запросов одновременно.
+ */
+@Getter
+public final class ParallelBfsSearch {
+
+    /**
+     * Количество шагов до ячейки, которая не соединена с начальной.
+     */
+    public static final int UNREACHABLE = -1;
+
+    private final int parallelism;
+
+    /**
+     * Создает поиск, использующий столько потоков, сколько доступно процессоров.
+     */
+    public ParallelBfsSearch() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Создает поиск с заданной степенью параллелизма.
+     *
+     * @param parallelism количество потоков, раскрывающих фронт
+     *
+     * @throws IncorrectParallelismException если степень параллелизма меньше 1
+     */
+    public ParallelBfsSearch(int parallelism) {
+        if (parallelism < 1) {
+            throw new IncorrectParallelismException();
+        }
+
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Возвращает наименьшее количество шагов между двумя ячейками без учета весов проходов.
+     *
+     * @param maze лабиринт
+     * @param start начальная координата
+     * @param finish конечная координата
+     *
+     * @return количество шагов или {@link #UNREACHABLE}, если пути нет
+     *
+     * @throws NullPointerException если входные данные являются null
+     * @throws CoordinateOutOfRangeException если координата начала или конца вышла за пределы лабиринта
+     */
+    public int getHopDistance(Maze maze, Coordinate start, Coordinate finish) {
+        final LevelSynchronousBfs bfs = search(maze, start, finish);
+
+        return bfs == null ? UNREACHABLE : bfs.layer();
+    }
+
+    /**
+     * Находит путь из наименьшего количества шагов между двумя ячейками без учета весов проходов.
+     *
+     * @param maze лабиринт
+     * @param start начальная координата пути
+     * @param finish конечная координата пути
+     *
+     * @return список координат от начальной точки до конечной. Если путь не найден, возвращается пустой список.
+     * Если начальная и конечная точки совпадают, возвращается список с одной точкой.
+     *
+     * @throws NullPointerException если входные данные являются null
+     * @throws CoordinateOutOfRangeException если координата начала или конца вышла за пределы лабиринта
+     */
+    public List<Coordinate> findHopPath(Maze maze, Coordinate start, Coordinate finish) {
+        final LevelSynchronousBfs bfs = search(maze, start, finish);
+
+        if (bfs == null) {
+            return new ArrayList<>();
+        }
+
+        return MazeSolver.buildLayeredPath(maze, maze.getIndex(finish.x(), finish.y()), bfs.layer(), bfs::getLayer);
+    }
+
+    /**
+     * Выполняет поиск до конечной ячейки.
+     * Возвращает состояние поиска, в котором номер последнего слоя равен количеству шагов,
+     * или null, если конечная ячейка недостижима.
+     */
+    private LevelSynchronousBfs search(Maze maze, Coordinate start, Coordinate finish) {
+        if (maze == null) {
+            throw new NullPointerException(NULL_MAZE_EXCEPTION_TEXT);
+        }
+
+        MazeSolver.validateCoordinate(start, maze);
+        MazeSolver.validateCoordinate(finish, maze);
+
+        final int startIndex = maze.getIndex(start.x(), start.y());
+        final int finishIndex = maze.getIndex(finish.x(), finish.y());
+
+        if (!maze.isPassage(startIndex) || !maze.isPassage(finishIndex)) {
+            return null;
+        }
+
+        final LevelSynchronousBfs bfs = new LevelSynchronousBfs(maze, startIndex);
+
+        try (ForkJoinPool pool = new ForkJoinPool(parallelism)) {
+            while (!bfs.isVisited(finishIndex)) {
+                if (!bfs.expand(pool)) {
+                    return null;
+                }
+            }
+        }
+
+        return bfs;
+    }
+}
@@ -0,0 +1,12 @@
+package backend.academy.mazeTask.maze.solver;
+
+import backend.academy.mazeTask.maze.Coordinate;
+
+/**
+ * Запрос кратчайшего пути между двумя координатами лабиринта для {@link BatchMazeSolver}.
+ *
+ * @param start начальная координата пути
+ * @param finish конечная координата пути
+ */
+public record PathQuery(Coordinate start, Coordinate finish) {
+}
@@ -0,0 +1,73 @@
+package backend.academy.mazeTask.maze.solver;
+
+import java.util.Arrays;
+
+/**
+ * Расстояния, родители и очередь одного направления поиска в {@link BidirectionalDijkstraMazeSolver}.
+ * Создается заново для каждого вызова.
+ */
+final class SearchFrontier {
+
+    private final int[] distances;
+    private final int[] parents;
+    private final IndexedMinHeap heap;
+
+    /**
+     * Создает пустое направление поиска для лабиринта из cellCount ячеек.
+     *
+     * @param cellCount количество ячеек лабиринта
+     */
+    SearchFrontier(int cellCount) {
+        distances = new int[cellCount];
+        parents = new int[cellCount];
+        heap = new IndexedMinHeap(cellCount);
+
+        Arrays.fill(distances, Integer.MAX_VALUE);
+        Arrays.fill(parents, MazeSolver.NO_PARENT);
+    }
+
+    boolean isEmpty() {
+        return heap.isEmpty();
+    }
+
+    long peekKey() {
+        return heap.peekKey();
+    }
+
+    int poll() {
+        return heap.poll();
+    }
+
+    int getDistance(int cell) {
+        return distances[cell];
+    }
+
+    int getParent(int cell) {
+        return parents[cell];
+    }
+
+    int[] getParents() {
+        return parents;
+    }
+
+    /**
+     * Уменьшает расстояние до ячейки, если новое расстояние меньше текущего.
+     *
+     * @param cell индекс ячейки
+     * @param distance новое расстояние
+     * @param parent индекс предыдущей ячейки в этом направлении
+     *
+     * @return true, если расстояние уменьшилось
+     */
+    boolean relax(int cell, int distance, int parent) {
+        if (distance >= distances[cell]) {
+            return false;
+        }
+
+        distances[cell] = distance;
+        parents[cell] = parent;
+        heap.insertOrDecrease(cell, distance);
+
+        return true;
+    }
+}
@@ -0,0 +1,350 @@
+package backend.academy.mazeTask.maze.solver;
+
+import backend.academy.mazeTask.exception.CoordinateOutOfRangeException;
+import backend.academy.mazeTask.maze.Coordinate;
+import backend.academy.mazeTask.maze.Maze;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import lombok.Getter;
+import static backend.academy.mazeTask.constants.ExceptionTextValues.NULL_MAZE_EXCEPTION_TEXT;
+import static backend.academy.mazeTask.constants.ExceptionTextValues.NULL_MAZE_SOLVER_EXCEPTION_TEXT;
+
+/**
+ * Индекс путей в идеальном лабиринте. Лабиринты Краскала, Прима и Эллера не содержат циклов,
+ * поэтому проходы образуют дерево, а единственный путь между двумя ячейками проходит через
+ * их наименьшего общего предка. Индекс за O(n log n) подвешивает каждую компоненту проходов за корень,
+ * запоминает глубину и стоимость пути до корня каждой ячейки и таблицу предков 2^k (двоичные подъемы).
+ * После этого стоимость и длина пути вычисляются за O(log n), а сам путь - за O(длина пути).
+ * Если в лабиринте есть цикл, таблица не строится и все запросы передаются резервному решателю.
+ * Индекс не изменяется после создания и может использоваться несколькими потоками одновременно.
+ */
+public final class TreeMazeIndex {
+
+    /**
+     * Стоимость и длина пути между ячейками, которые не соединены проходом.
+     */
+    public static final int UNREACHABLE = -1;
+
+    private static final int NO_NODE = -1;
+
+    @Getter
+    private final Maze maze;
+    private final MazeSolver fallbackSolver;
+    private final int[] nodes;
+    private final int[] cells;
+    private final int[] depths;
+    private final int[] rootCosts;
+    private final int[] components;
+    private final int[][] ancestors;
+
+    /**
+     * Строит индекс, использующий алгоритм A* для лабиринтов с циклами.
+     *
+     * @param maze лабиринт
+     *
+     * @throws NullPointerException если лабиринт равен null
+     */
+    public TreeMazeIndex(Maze maze) {
+        this(maze, new AStarMazeSolver());
+    }
+
+    /**
+     * Строит индекс с заданным резервным решателем для лабиринтов с циклами.
+     *
+     * @param maze лабиринт
+     * @param fallbackSolver решатель, которому передаются запросы, если проходы лабиринта не образуют дерево
+     *
+     * @throws NullPointerException если лабиринт или решатель равны null
+     */
+    public TreeMazeIndex(Maze maze, MazeSolver fallbackSolver) {
+        if (maze == null) {
+            throw new NullPointerException(NULL_MAZE_EXCEPTION_TEXT);
+        }
+
+        if (fallbackSolver == null) {
+            throw new NullPointerException(NULL_MAZE_SOLVER_EXCEPTION_TEXT);
+        }
+
+        this.maze = maze;
+        this.fallbackSolver = fallbackSolver;
+        this.nodes = new int[maze.height() * maze.width()];
+
+        final int nodeCount = numberNodes();
+
+        this.cells = new int[nodeCount];
+        this.depths = new int[nodeCount];
+        this.rootCosts = new int[nodeCount];
+        this.components = new int[nodeCount];
+
+        final int[] parents = new int[nodeCount];
+        final int componentCount = traverseComponents(parents);
+
+        this.ancestors = countEdges() == nodeCount - componentCount ? buildAncestors(parents) : null;
+    }
+
+    /**
+     * Проверяет, образуют ли проходы лабиринта дерево или лес, то есть обслуживаются ли запросы индексом.
+     *
+     * @return true, если в лабиринте нет циклов
+     */
+    public boolean isTree() {
+        return ancestors != null;
+    }
+
+    /**
+     * Находит путь между двумя ячейками.
+     *
+     * @param start начальная координата пути
+     * @param finish конечная координата пути
+     *
+     * @return список координат пути от начальной точки до конечной. Если путь не найден, возвращается пустой список.
+     * Если начальная и конечная точки совпадают, возвращается список с одной точкой.
+     *
+     * @throws NullPointerException если координата равна null
+     * @throws CoordinateOutOfRangeException если координата вышла за пределы лабиринта
+     */
+    public List<Coordinate> getPath(Coordinate start, Coordinate finish) {
+        validateCoordinates(start, finish);
+
+        if (!isTree()) {
+            return fallbackSolver.solve(maze, start, finish);
+        }
+
+        final int first = nodes[maze.getIndex(start.x(), start.y())];
+        final int second = nodes[maze.getIndex(finish.x(), finish.y())];
+
+        if (!isConnected(first, second)) {
+            return new ArrayList<>();
+        }
+
+        final int ancestor = findLowestCommonAncestor(first, second);
+        final List<Coordinate> path = new ArrayList<>(depths[first] + depths[second] - 2 * depths[ancestor] + 1);
+        final List<Coordinate> tail = new ArrayList<>(depths[second] - depths[ancestor]);
+
+        for (int node = first; node != ancestor; node = ancestors[0][node]) {
+            path.add(maze.getCoordinate(cells[node]));
+        }
+
+        path.add(maze.getCoordinate(cells[ancestor]));
+
+        for (int node = second; node != ancestor; node = ancestors[0][node]) {
+            tail.add(maze.getCoordinate(cells[node]));
+        }
+
+        Collections.reverse(tail);
+        path.addAll(tail);
+
+        return path;
+    }
+
+    /**
+     * Вычисляет стоимость пути между двумя ячейками - сумму весов всех его ячеек, включая начальную и конечную.
+     *
+     * @param start начальная координата пути
+     * @param finish конечная координата пути
+     *
+     * @return стоимость пути или {@link #UNREACHABLE}, если путь не найден
+     *
+     * @throws NullPointerException если координата равна null
+     * @throws CoordinateOutOfRangeException если координата вышла за пределы лабиринта
+     */
+    public int getCost(Coordinate start, Coordinate finish) {
+        validateCoordinates(start, finish);
+
+        if (!isTree()) {
+            final List<Coordinate> path = fallbackSolver.solve(maze, start, finish);
+
+            return path.isEmpty() ? UNREACHABLE : path.stream()
+                .mapToInt(coordinate -> maze.getCell(coordinate.x(), coordinate.y()).weight())
+                .sum();
+        }
+
+        final int first = nodes[maze.getIndex(start.x(), start.y())];
+        final int second = nodes[maze.getIndex(finish.x(), finish.y())];
+
+        if (!isConnected(first, second)) {
+            return UNREACHABLE;
+        }
+
+        final int ancestor = findLowestCommonAncestor(first, second);
+
+        return rootCosts[first] + rootCosts[second] - 2 * rootCosts[ancestor]
+            + maze.getCell(cells[ancestor]).weight();
+    }
+
+    /**
+     * Вычисляет количество шагов между двумя ячейками, то есть количество ячеек пути без одной.
+     *
+     * @param start начальная координата пути
+     * @param finish конечная координата пути
+     *
+     * @return количество шагов или {@link #UNREACHABLE}, если путь не найден
+     *
+     * @throws NullPointerException если координата равна null
+     * @throws CoordinateOutOfRangeException если координата вышла за пределы лабиринта
+     */
+    public int getDistance(Coordinate start, Coordinate finish) {
+        validateCoordinates(start, finish);
+
+        if (!isTree()) {
+            return fallbackSolver.solve(maze, start, finish).size() - 1;
+        }
+
+        final int first = nodes[maze.getIndex(start.x(), start.y())];
+        final int second = nodes[maze.getIndex(finish.x(), finish.y())];
+
+        if (!isConnected(first, second)) {
+            return UNREACHABLE;
+        }
+
+        return depths[first] + depths[second] - 2 * depths[findLowestCommonAncestor(first, second)];
+    }
+
+    private void validateCoordinates(Coordinate start, Coordinate finish) {
+        MazeSolver.validateCoordinate(start, maze);
+        MazeSolver.validateCoordinate(finish, maze);
+    }
+
+    private boolean isConnected(int first, int second) {
+        return first != NO_NODE && second != NO_NODE && components[first] == components[second];
+    }
+
+    private int findLowestCommonAncestor(int first, int second) {
+        int deeper = depths[first] >= depths[second] ? first : second;
+        int other = deeper == first ? second : first;
+
+        for (int level = 0, lift = depths[deeper] - depths[other]; lift > 0; level++, lift >>>= 1) {
+            if ((lift & 1) != 0) {
+                deeper = ancestors[level][deeper];
+            }
+        }
+
+        if (deeper == other) {
+            return deeper;
+        }
+
+        for (int level = ancestors.length - 1; level >= 0; level--) {
+            if (ancestors[level][deeper] != ancestors[level][other]) {
+                deeper = ancestors[level][deeper];
+                other = ancestors[level][other];
+            }
+        }
+
+        return ancestors[0][deeper];
+    }
+
+    /**
+     * Нумерует проходы лабиринта подряд, чтобы массивы индекса не содержали стен.
+     */
+    private int numberNodes() {
+        int nodeCount = 0;
+
+        for (int index = 0; index < nodes.length; index++) {
+            nodes[index] = maze.isPassage(index) ? nodeCount++ : NO_NODE;
+        }
+
+        return nodeCount;
+    }
+
+    private int countEdges() {
+        final int width = maze.width();
+        int edgeCount = 0;
+
+        for (int index = 0; index < nodes.length; index++) {
+            if (nodes[index] != NO_NODE) {
+                if (index % width + 1 < width && nodes[index + 1] != NO_NODE) {
+                    edgeCount++;
+                }
+
+                if (index + width < nodes.length && nodes[index + width] != NO_NODE) {
+                    edgeCount++;
+                }
+            }
+        }
+
+        return edgeCount;
+    }
+
+    /**
+     * Обходит в ширину каждую компоненту проходов, заполняя родителя, глубину, стоимость пути до корня
+     * и номер компоненты каждой ячейки. Родителем корня считается он сам.
+     *
+     * @return количество компонент
+     */
+    private int traverseComponents(int[] parents) {
+        final int[] queue = new int[cells.length];
+        final boolean[] visited = new boolean[cells.length];
+        int componentCount = 0;
+
+        for (int index = 0; index < nodes.length; index++) {
+            if (nodes[index] != NO_NODE) {
+                cells[nodes[index]] = index;
+            }
+        }
+
+        for (int root = 0; root < cells.length; root++) {
+            if (!visited[root]) {
+                int head = 0;
+                int tail = 0;
+
+                visited[root] = true;
+                parents[root] = root;
+                rootCosts[root] = maze.getCell(cells[root]).weight();
+                queue[tail++] = root;
+
+                while (head < tail) {
+                    final int node = queue[head++];
+
+                    components[node] = componentCount;
+                    tail = visitNeighbours(node, parents, visited, queue, tail);
+                }
+
+                componentCount++;
+            }
+        }
+
+        return componentCount;
+    }
+
+    private int visitNeighbours(int node, int[] parents, boolean[] visited, int[] queue, int tail) {
+        final int x = cells[node] / maze.width();
+        final int y = cells[node] % maze.width();
+        int newTail = tail;
+
+        for (Coordinate direction : MazeSolver.DIRECTIONS) {
+            final int newX = x + direction.x();
+            final int newY = y + direction.y();
+
+            if (MazeSolver.isWithinBounds(newX, newY, maze)) {
+                final int neighbour = nodes[maze.getIndex(newX, newY)];
+
+                if (neighbour != NO_NODE && !visited[neighbour]) {
+                    visited[neighbour] = true;
+                    parents[neighbour] = node;
+                    depths[neighbour] = depths[node] + 1;
+                    rootCosts[neighbour] = rootCosts[node] + maze.getCell(cells[neighbour]).weight();
+                    queue[newTail++] = neighbour;
+                }
+            }
+        }
+
+        return newTail;
+    }
+
+    private static int[][] buildAncestors(int[] parents) {
+        final int levelCount = Math.max(1, Integer.SIZE - Integer.numberOfLeadingZeros(parents.length));
+        final int[][] ancestors = new int[levelCount][];
+
+        ancestors[0] = parents;
+
+        for (int level = 1; level < levelCount; level++) {
+            final int[] previous = ancestors[level - 1];
+
+            ancestors[level] = Arrays.stream(previous).map(node -> previous[node]).toArray();
+        }
+
+        return ancestors;
+    }
+}
@@ -0,0 +1,7 @@
+package backend.academy.mazeTask.maze.solver.dto;
+
+import backend.academy.mazeTask.maze.Coordinate;
+import java.util.List;
+
+public record SearchResult(List<Coordinate> path, int expandedNodes) {
+}
@@ -0,0 +1,241 @@
+package backend.academy.mazeTask;
+
+import backend.academy.mazeTask.cli.BatchRunner;
+import backend.academy.mazeTask.enums.CellType;
+import backend.academy.mazeTask.maze.Coordinate;
+import backend.academy.mazeTask.maze.Maze;
+import backend.academy.mazeTask.maze.MazeFile;
+import backend.academy.mazeTask.maze.MazeSizeLimits;
+import backend.academy.mazeTask.maze.generator.MazeSpec;
+import backend.academy.mazeTask.maze.generator.PrimMazeGenerator;
+import backend.academy.mazeTask.maze.solver.DijkstraMazeSolver;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.zip.CRC32C;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static backend.academy.mazeTask.constants.ConstValues.FINISH_PATH_SYMBOL;
+import static backend.academy.mazeTask.constants.ConstValues.START_PATH_SYMBOL;
+import static backend.academy.mazeTask.constants.ExceptionTextValues.INCORRECT_MAZE_FILE_EXCEPTION_TEXT;
+import static backend.academy.mazeTask.constants.ExceptionTextValues.INCORRECT_MAZE_SIZE_FORMAT_EXCEPTION_TEXT;
+import static backend.academy.mazeTask.constants.ExceptionTextValues.INCORRECT_SOLVER_NAME_EXCEPTION_TEXT;
+import static backend.academy.mazeTask.constants.ExceptionTextValues.MAZE_WITHOUT_BORDER_PASSAGES_EXCEPTION_TEXT;
+import static backend.academy.mazeTask.constants.ExceptionTextValues.MISSING_BATCH_COMMAND_EXCEPTION_TEXT;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class BatchRunnerTest extends CommonTest {
+
+    private static final int SMALL_MAZE_SIZE = 11;
+    private static final int LARGE_MAZE_SIZE = 201;
+    private static final String LARGE_MAZE_SIZE_TEXT = LARGE_MAZE_SIZE + "x" + LARGE_MAZE_SIZE;
+    private static final long SEED = 42;
+    private static final int CORPUS_SIZE = 20;
+
+    private final ByteArrayOutputStream outputBytes = new ByteArrayOutputStream();
+    private final BatchRunner batchRunner = new BatchRunner(new PrintStream(outputBytes, true, StandardCharsets.UTF_8));
+
+    @TempDir
+    private Path directory;
+
+    @AfterEach
+    public void restoreLimits() {
+        MazeSizeLimits.install(MazeSizeLimits.DEFAULT);
+    }
+
+    @Test
+    public void runJobsFile_ShouldGenerateSolveAndRenderMaze() throws IOException {
+        final Path mazePath = directory.resolve("maze.bin");
+        final Path imagePath = directory.resolve("maze.txt");
+        final Path jobsPath = directory.resolve("jobs.txt");
+
+        Files.write(jobsPath, List.of(
+            "# generate, solve and render one maze",
+            "generate --algo prim --size " + LARGE_MAZE_SIZE_TEXT + " --seed " + SEED + " --out " + mazePath,
+            "",
+            "solve --in " + mazePath + " --solver astar",
+            "render --in " + mazePath + " --solver dial --format plain --out " + imagePath
+        ));
+
+        assertEquals(BatchRunner.SUCCESS, batchRunner.run("--max-size", LARGE_MAZE_SIZE_TEXT, "--jobs",
+            jobsPath.toString()));
+
+        final Maze expected = new PrimMazeGenerator().generate(LARGE_MAZE_SIZE, LARGE_MAZE_SIZE, SEED);
+        final Maze maze = MazeFile.open(mazePath).maze();
+        final List<String> image = Files.readAllLines(imagePath);
+
+        assertArrayEquals(expected.cells(), maze.cells());
+        assertThat(getOutput()).contains("стоимость " + getShortestPathCost(maze));
+        assertEquals(LARGE_MAZE_SIZE, image.size());
+        assertEquals(1, countSymbol(image, START_PATH_SYMBOL));
+        assertEquals(1, countSymbol(image, FINISH_PATH_SYMBOL));
+    }
+
+    @Test
+    public void runGenerateCommandTwice_ShouldWriteSameFile() throws IOException {
+        final Path first = directory.resolve("first.bin");
+        final Path second = directory.resolve("second.bin");
+
+        for (Path path : List.of(first, second)) {
+            assertEquals(BatchRunner.SUCCESS, batchRunner.run("generate", "--algo", "eller", "--size", "21x31",
+                "--seed", String.valueOf(SEED), "--out", path.toString()));
+        }
+
+        assertArrayEquals(Files.readAllBytes(first), Files.readAllBytes(second));
+    }
+
+    @Test
+    public void runCorpusCommand_ShouldWriteSeriesIndependentOfParallelism() throws IOException {
+        final List<MazeSpec> specs = MazeSpec.series(CORPUS_SIZE, DEFAULT_HEIGHT + 1, DEFAULT_WIDTH + 1, SEED);
+
+        for (String parallelism : List.of("1", "4")) {
+            final Path corpus = directory.resolve("corpus-" + parallelism);
+
+            assertEquals(BatchRunner.SUCCESS, batchRunner.run("corpus", "--algo", "prim", "--size", "11x11",
+                "--count", String.valueOf(CORPUS_SIZE), "--seed", String.valueOf(SEED), "--parallelism", parallelism,
+                "--out", corpus.toString()));
+
+            for (int i = 0; i < CORPUS_SIZE; i++) {
+                final MazeFile mazeFile = MazeFile.open(corpus.resolve(String.format("maze-%06d.bin", i)));
+                final MazeSpec spec = specs.get(i);
+
+                assertEquals(spec.seed(), mazeFile.seed());
+                assertArrayEquals(new PrimMazeGenerator().generate(spec.height(), spec.width(), spec.seed()).cells(),
+                    mazeFile.maze().cells());
+            }
+        }
+
+        assertThat(getOutput()).contains("лабиринтов/с");
+    }
+
+    @Test
+    public void runJobsFileWithFailedJob_ShouldRunOtherJobs() throws IOException {
+        final Path mazePath = directory.resolve("maze.bin");
+        final Path jobsPath = directory.resolve("jobs.txt");
+
+        Files.write(jobsPath, List.of(
+            "solve --in " + directory.resolve("missing.bin"),
+            "solve --in " + mazePath + " --solver unknown",
+            "generate --size 11x11 --out " + mazePath
+        ));
+
+        assertEquals(BatchRunner.FAILURE, batchRunner.run("--jobs", jobsPath.toString()));
+        assertThat(getOutput()).contains(INCORRECT_SOLVER_NAME_EXCEPTION_TEXT);
+        assertEquals(DEFAULT_HEIGHT + 1, MazeFile.open(mazePath).maze().height());
+    }
+
+    @Test
+    public void solveAndRenderLargeFile_ShouldNotNeedMaxSize() {
+        final Path mazePath = directory.resolve("maze.bin");
+        final Path imagePath = directory.resolve("maze.txt");
+
+        assertEquals(BatchRunner.SUCCESS, batchRunner.run("--max-size", LARGE_MAZE_SIZE_TEXT, "generate",
+            "--size", LARGE_MAZE_SIZE_TEXT, "--seed", String.valueOf(SEED), "--out", mazePath.toString()));
+
+        MazeSizeLimits.install(MazeSizeLimits.DEFAULT);
+
+        assertEquals(BatchRunner.SUCCESS, batchRunner.run("solve", "--in", mazePath.toString()));
+        assertEquals(BatchRunner.SUCCESS, batchRunner.run("render", "--in", mazePath.toString(), "--format",
+            "plain", "--out", imagePath.toString()));
+    }
+
+    @Test
+    public void solveCorruptedFile_ShouldFail() throws IOException {
+        final Path mazePath = directory.resolve("maze.bin");
+        final byte[] bytes;
+
+        assertEquals(BatchRunner.SUCCESS, batchRunner.run("generate", "--size", "11x11", "--out",
+            mazePath.toString()));
+
+        bytes = Files.readAllBytes(mazePath);
+        bytes[MazeFile.HEADER_SIZE + DEFAULT_WIDTH + 2] = Byte.MAX_VALUE;
+        Files.write(mazePath, bytes);
+
+        assertEquals(BatchRunner.FAILURE, batchRunner.run("solve", "--in", mazePath.toString()));
+        assertEquals(BatchRunner.FAILURE, batchRunner.run("render", "--in", mazePath.toString()));
+        assertThat(getOutput()).contains(INCORRECT_MAZE_FILE_EXCEPTION_TEXT);
+    }
+
+    @Test
+    public void solveFileWithoutBorderPassages_ShouldFailWithoutEnds() throws IOException {
+        final Path mazePath = directory.resolve("maze.bin");
+        final byte[] bytes;
+        final CRC32C crc = new CRC32C();
+
+        assertEquals(BatchRunner.SUCCESS, batchRunner.run("generate", "--size", SMALL_MAZE_SIZE + "x" + SMALL_MAZE_SIZE, "--out",
+            mazePath.toString()));
+
+        bytes = Files.readAllBytes(mazePath);
+
+        for (int i = 0; i < SMALL_MAZE_SIZE * SMALL_MAZE_SIZE; i++) {
+            final int x = i / SMALL_MAZE_SIZE;
+            final int y = i % SMALL_MAZE_SIZE;
+
+            if (x == 0 || y == 0 || x == SMALL_MAZE_SIZE - 1 || y == SMALL_MAZE_SIZE - 1) {
+                bytes[MazeFile.HEADER_SIZE + i] = CellType.WALL.code();
+            }
+        }
+
+        crc.update(bytes, MazeFile.HEADER_SIZE, SMALL_MAZE_SIZE * SMALL_MAZE_SIZE);
+        ByteBuffer.wrap(bytes).putLong(MazeFile.HEADER_SIZE - Long.BYTES, crc.getValue());
+        Files.write(mazePath, bytes);
+
+        assertEquals(BatchRunner.FAILURE, batchRunner.run("solve", "--in", mazePath.toString()));
+        assertEquals(BatchRunner.FAILURE, batchRunner.run("solve", "--in", mazePath.toString(), "--start", "1,1"));
+        assertThat(getOutput()).contains(MAZE_WITHOUT_BORDER_PASSAGES_EXCEPTION_TEXT);
+        assertEquals(BatchRunner.SUCCESS, batchRunner.run("solve", "--in", mazePath.toString(),
+            "--start", "1,1", "--finish", "9,9"));
+    }
+
+    @Test
+    public void runWithIncorrectSize_ShouldFail() {
+        assertEquals(BatchRunner.FAILURE, batchRunner.run("generate", "--size", "11-11", "--out",
+            directory.resolve("maze.bin").toString()));
+        assertThat(getOutput()).contains(INCORRECT_MAZE_SIZE_FORMAT_EXCEPTION_TEXT);
+    }
+
+    @Test
+    public void runWithoutCommand_ShouldFail() {
+        assertEquals(BatchRunner.FAILURE, batchRunner.run("--max-size", LARGE_MAZE_SIZE_TEXT));
+        assertThat(getOutput()).contains(MISSING_BATCH_COMMAND_EXCEPTION_TEXT);
+        assertEquals(MazeSizeLimits.DEFAULT, MazeSizeLimits.current());
+    }
+
+    private String getOutput() {
+        return outputBytes.toString(StandardCharsets.UTF_8);
+    }
+
+    private static long getShortestPathCost(Maze maze) {
+        final Coordinate entry = new Coordinate(0, findPassage(maze.cells(), 1));
+        final Coordinate exit = new Coordinate(findPassage(maze.cells(), maze.width()), 0);
+
+        return new DijkstraMazeSolver().solve(maze, entry, exit).stream()
+            .mapToLong(coordinate -> maze.getCell(coordinate.x(), coordinate.y()).weight())
+            .sum();
+    }
+
+    private static int findPassage(byte[] cells, int step) {
+        int index = 0;
+
+        while (cells[index * step] == CellType.WALL.code()) {
+            index++;
+        }
+
+        return index;
+    }
+
+    private static long countSymbol(List<String> image, char symbol) {
+        return image.stream()
+            .flatMapToInt(String::chars)
+            .filter(character -> character == symbol)
+            .count();
+    }
+}
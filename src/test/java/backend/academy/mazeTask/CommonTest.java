@@ -5,12 +5,15 @@ import backend.academy.mazeTask.maze.Coordinate;
 import java.security.SecureRandom;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Supplier;
 import backend.academy.mazeTask.maze.Maze;
 import org.apache.commons.math3.util.Pair;
 import static backend.academy.mazeTask.constants.ConstValues.MAX_MAZE_HEIGHT;
 import static backend.academy.mazeTask.constants.ConstValues.MAX_MAZE_WIDTH;
 import static backend.academy.mazeTask.constants.ConstValues.MIN_MAZE_HEIGHT;
 import static backend.academy.mazeTask.constants.ConstValues.MIN_MAZE_WIDTH;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class CommonTest {
 
@@ -45,6 +48,29 @@ public class CommonTest {
         return CellType.values()[SECURE_RANDOM.nextInt(CellType.values().length - 1)];
     }
 
+    protected static CellType getRandomPassageType() {
+        return CellType.values()[1 + SECURE_RANDOM.nextInt(CellType.values().length - 1)];
+    }
+
+    /**
+     * Строит квадратную комнату без внутренних стен: граница - стены с входом (0, 1) и выходом (1, 0),
+     * внутренние ячейки - проходы, типы которых возвращает cellTypeSupplier.
+     */
+    protected static Maze getOpenRoom(int size, Supplier<CellType> cellTypeSupplier) {
+        final CellType[][] grid = new CellType[size][size];
+
+        for (int x = 0; x < size; x++) {
+            for (int y = 0; y < size; y++) {
+                grid[x][y] = isFrontier(grid, x, y) ? CellType.WALL : cellTypeSupplier.get();
+            }
+        }
+
+        grid[0][1] = CellType.PASSAGE;
+        grid[1][0] = CellType.PASSAGE;
+
+        return new Maze(size, size, grid);
+    }
+
     protected static boolean isFrontier(CellType[][] grid, int x, int y) {
         return x == 0 || x == grid.length - 1 || y == 0 || y == grid[0].length - 1;
     }
@@ -141,6 +167,34 @@ public class CommonTest {
         return result;
     }
 
+    protected static int getPathCost(Maze maze, List<Coordinate> path) {
+        return path.stream()
+            .mapToInt(coordinate -> maze.getCell(coordinate.x(), coordinate.y()).weight())
+            .sum();
+    }
+
+    protected static Coordinate getRandomCoordinate(Maze maze) {
+        return new Coordinate(SECURE_RANDOM.nextInt(maze.height()), SECURE_RANDOM.nextInt(maze.width()));
+    }
+
+    /**
+     * Проверяет, что путь проходит только по проходам и каждый шаг ведет в соседнюю ячейку.
+     * Используется для решателей, которые среди путей одинаковой стоимости могут выбрать другой путь.
+     */
+    protected static void assertConnectedPath(Maze maze, List<Coordinate> path) {
+        for (int i = 0; i < path.size(); i++) {
+            final Coordinate current = path.get(i);
+
+            assertTrue(maze.isPassage(maze.getIndex(current.x(), current.y())));
+
+            if (i > 0) {
+                final Coordinate previous = path.get(i - 1);
+
+                assertEquals(1, Math.abs(current.x() - previous.x()) + Math.abs(current.y() - previous.y()));
+            }
+        }
+    }
+
     protected Maze getRandomMaze(int height, int width) {
         return new Maze(height, width, getRandomGrid(height, width));
     }
@@ -0,0 +1,195 @@
+package backend.academy.mazeTask;
+
+import backend.academy.mazeTask.exception.IncorrectMazeFileException;
+import backend.academy.mazeTask.exception.IncorrectMazeGridException;
+import backend.academy.mazeTask.maze.Maze;
+import backend.academy.mazeTask.maze.MazeFile;
+import backend.academy.mazeTask.maze.MazeFileWriter;
+import backend.academy.mazeTask.maze.MazeSizeLimits;
+import backend.academy.mazeTask.maze.generator.EllerMazeGenerator;
+import backend.academy.mazeTask.maze.generator.KruskalMazeGenerator;
+import backend.academy.mazeTask.maze.renderer.Scene;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import static backend.academy.mazeTask.constants.ExceptionTextValues.INCORRECT_MAZE_FILE_EXCEPTION_TEXT;
+import static backend.academy.mazeTask.constants.ExceptionTextValues.INCORRECT_MAZE_GRID_EXCEPTION_TEXT;
+import static backend.academy.mazeTask.constants.ExceptionTextValues.NULL_MAZE_FILE_PATH_EXCEPTION_TEXT;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class MazeFileTest extends CommonTest {
+
+    private static final String FILE_NAME = "maze.bin";
+    private static final int TALL_MAZE_HEIGHT = 100_001;
+    private static final int LARGE_MAZE_SIZE = 201;
+
+    @TempDir
+    private Path directory;
+
+    @AfterEach
+    public void restoreLimits() {
+        MazeSizeLimits.install(MazeSizeLimits.DEFAULT);
+    }
+
+    @ParameterizedTest
+    @MethodSource("getArgumentsForGenerateMaze")
+    public void writeAndOpenMaze_ShouldReturnSameMaze(int height, int width) {
+        final long seed = SECURE_RANDOM.nextLong();
+        final Path path = directory.resolve(FILE_NAME);
+        final Maze maze = new KruskalMazeGenerator().generate(height, width, seed);
+
+        MazeFile.write(path, maze, seed);
+
+        final MazeFile mazeFile = MazeFile.open(path);
+
+        assertEquals(MazeFile.VERSION, mazeFile.version());
+        assertEquals(seed, mazeFile.seed());
+        assertEquals(height, mazeFile.maze().height());
+        assertEquals(width, mazeFile.maze().width());
+        assertArrayEquals(maze.cells(), mazeFile.maze().cells());
+        assertEquals(new Scene().renderMaze(maze), new Scene().renderMaze(mazeFile.maze()));
+    }
+
+    @Test
+    public void writeGeneratedRows_ShouldOpenTallMaze() {
+        final long seed = SECURE_RANDOM.nextLong();
+        final Path path = directory.resolve(FILE_NAME);
+
+        try (MazeFileWriter writer = new MazeFileWriter(path, TALL_MAZE_HEIGHT, DEFAULT_WIDTH + 1, seed)) {
+            new EllerMazeGenerator().generateRows(TALL_MAZE_HEIGHT, DEFAULT_WIDTH + 1, seed, writer);
+        }
+
+        final MazeFile mazeFile = MazeFile.open(path);
+        final byte[] fileRow = new byte[DEFAULT_WIDTH + 1];
+
+        assertEquals(TALL_MAZE_HEIGHT, mazeFile.maze().height());
+
+        new EllerMazeGenerator().generateRows(TALL_MAZE_HEIGHT, DEFAULT_WIDTH + 1, seed, (rowIndex, row) -> {
+            mazeFile.maze().getRow(rowIndex, fileRow);
+            assertArrayEquals(row, fileRow);
+        });
+    }
+
+    @Test
+    public void writeLargeMaze_ShouldOpenWithDefaultLimits() {
+        final long seed = SECURE_RANDOM.nextLong();
+        final Path path = directory.resolve(FILE_NAME);
+
+        MazeSizeLimits.install(MazeSizeLimits.withMaxSize(LARGE_MAZE_SIZE, LARGE_MAZE_SIZE));
+
+        final Maze maze = new KruskalMazeGenerator().generate(LARGE_MAZE_SIZE, LARGE_MAZE_SIZE, seed);
+
+        MazeFile.write(path, maze, seed);
+        MazeSizeLimits.install(MazeSizeLimits.DEFAULT);
+
+        final MazeFile mazeFile = MazeFile.open(path);
+
+        assertEquals(LARGE_MAZE_SIZE, mazeFile.maze().height());
+        assertEquals(LARGE_MAZE_SIZE, mazeFile.maze().width());
+        assertArrayEquals(maze.cells(), mazeFile.maze().cells());
+    }
+
+    @Test
+    public void openFileWithChangedCell_ShouldThrowIncorrectMazeFileException() throws IOException {
+        final Path path = directory.resolve(FILE_NAME);
+        final Maze maze = getRandomMaze(DEFAULT_HEIGHT, DEFAULT_WIDTH);
+        final byte[] bytes;
+
+        MazeFile.write(path, maze, 0);
+        bytes = Files.readAllBytes(path);
+        bytes[MazeFile.HEADER_SIZE + maze.getIndex(DEFAULT_X, DEFAULT_Y)] ^= 1;
+        Files.write(path, bytes);
+
+        assertThatThrownBy(() -> {
+            MazeFile.open(path);
+        }).isInstanceOf(IncorrectMazeFileException.class)
+            .hasMessageContaining(INCORRECT_MAZE_FILE_EXCEPTION_TEXT);
+        assertThatThrownBy(() -> {
+            MazeFile.openUnchecked(path).verify();
+        }).isInstanceOf(IncorrectMazeFileException.class)
+            .hasMessageContaining(INCORRECT_MAZE_FILE_EXCEPTION_TEXT);
+    }
+
+    @Test
+    public void openFileWithIncorrectCellCode_ShouldThrowIncorrectMazeFileException() throws IOException {
+        final Path path = directory.resolve(FILE_NAME);
+        final Maze maze = getRandomMaze(DEFAULT_HEIGHT, DEFAULT_WIDTH);
+        final byte[] bytes;
+
+        MazeFile.write(path, maze, 0);
+        bytes = Files.readAllBytes(path);
+        bytes[MazeFile.HEADER_SIZE + maze.getIndex(DEFAULT_X, DEFAULT_Y)] = Byte.MAX_VALUE;
+        Files.write(path, bytes);
+
+        assertEquals(Byte.MAX_VALUE,
+            MazeFile.openUnchecked(path).maze().getCode(maze.getIndex(DEFAULT_X, DEFAULT_Y)));
+        assertThatThrownBy(() -> {
+            MazeFile.open(path);
+        }).isInstanceOf(IncorrectMazeFileException.class)
+            .hasMessageContaining(INCORRECT_MAZE_FILE_EXCEPTION_TEXT);
+    }
+
+    @Test
+    public void openFileWithIncorrectSignature_ShouldThrowIncorrectMazeFileException() throws IOException {
+        final Path path = directory.resolve(FILE_NAME);
+        final byte[] bytes;
+
+        MazeFile.write(path, getRandomMaze(DEFAULT_HEIGHT, DEFAULT_WIDTH), 0);
+        bytes = Files.readAllBytes(path);
+        bytes[0] = 0;
+        Files.write(path, bytes);
+
+        assertThatThrownBy(() -> {
+            MazeFile.open(path);
+        }).isInstanceOf(IncorrectMazeFileException.class)
+            .hasMessageContaining(INCORRECT_MAZE_FILE_EXCEPTION_TEXT);
+    }
+
+    @Test
+    public void openTruncatedFile_ShouldThrowIncorrectMazeFileException() throws IOException {
+        final Path path = directory.resolve(FILE_NAME);
+
+        MazeFile.write(path, getRandomMaze(DEFAULT_HEIGHT, DEFAULT_WIDTH), 0);
+        Files.write(path, Files.readAllBytes(path), StandardOpenOption.APPEND);
+
+        assertThatThrownBy(() -> {
+            MazeFile.open(path);
+        }).isInstanceOf(IncorrectMazeFileException.class)
+            .hasMessageContaining(INCORRECT_MAZE_FILE_EXCEPTION_TEXT);
+
+        Files.write(path, new byte[MazeFile.HEADER_SIZE - 1]);
+
+        assertThatThrownBy(() -> {
+            MazeFile.open(path);
+        }).isInstanceOf(IncorrectMazeFileException.class)
+            .hasMessageContaining(INCORRECT_MAZE_FILE_EXCEPTION_TEXT);
+    }
+
+    @Test
+    public void closeWriterBeforeLastRow_ShouldThrowIncorrectMazeGridException() {
+        final Path path = directory.resolve(FILE_NAME);
+
+        assertThatThrownBy(() -> {
+            try (MazeFileWriter writer = new MazeFileWriter(path, DEFAULT_HEIGHT, DEFAULT_WIDTH, 0)) {
+                writer.accept(0, new byte[DEFAULT_WIDTH]);
+            }
+        }).isInstanceOf(IncorrectMazeGridException.class)
+            .hasMessageContaining(INCORRECT_MAZE_GRID_EXCEPTION_TEXT);
+    }
+
+    @Test
+    public void openNullPath_ShouldThrowNullPointerException() {
+        assertThatThrownBy(() -> {
+            MazeFile.open(null);
+        }).isInstanceOf(NullPointerException.class)
+            .hasMessageContaining(NULL_MAZE_FILE_PATH_EXCEPTION_TEXT);
+    }
+}
@@ -0,0 +1,135 @@
+package backend.academy.mazeTask;
+
+import backend.academy.mazeTask.exception.IncorrectMazeHeightException;
+import backend.academy.mazeTask.exception.IncorrectMazeSizeLimitsException;
+import backend.academy.mazeTask.exception.IncorrectMazeSizePropertyException;
+import backend.academy.mazeTask.exception.IncorrectMazeWidthException;
+import backend.academy.mazeTask.maze.Maze;
+import backend.academy.mazeTask.maze.MazeSizeLimits;
+import backend.academy.mazeTask.maze.generator.KruskalMazeGenerator;
+import backend.academy.mazeTask.maze.generator.PrimMazeGenerator;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import static backend.academy.mazeTask.constants.ConstValues.MAX_MAZE_HEIGHT;
+import static backend.academy.mazeTask.constants.ConstValues.MAX_MAZE_HEIGHT_PROPERTY;
+import static backend.academy.mazeTask.constants.ConstValues.MAX_MAZE_WIDTH;
+import static backend.academy.mazeTask.constants.ConstValues.MAX_MAZE_WIDTH_PROPERTY;
+import static backend.academy.mazeTask.constants.ConstValues.MIN_MAZE_HEIGHT;
+import static backend.academy.mazeTask.constants.ConstValues.MIN_MAZE_WIDTH;
+import static backend.academy.mazeTask.constants.ExceptionTextValues.INCORRECT_MAZE_HEIGHT_EXCEPTION_TEXT;
+import static backend.academy.mazeTask.constants.ExceptionTextValues.INCORRECT_MAZE_SIZE_LIMITS_EXCEPTION_TEXT;
+import static backend.academy.mazeTask.constants.ExceptionTextValues.INCORRECT_MAZE_SIZE_PROPERTY_EXCEPTION_TEXT;
+import static backend.academy.mazeTask.constants.ExceptionTextValues.INCORRECT_MAZE_WIDTH_EXCEPTION_TEXT;
+import static backend.academy.mazeTask.constants.ExceptionTextValues.NULL_MAZE_SIZE_LIMITS_EXCEPTION_TEXT;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class MazeSizeLimitsTest extends CommonTest {
+
+    private static final int LARGE_HEIGHT = 301;
+    private static final int LARGE_WIDTH = 457;
+
+    @AfterEach
+    public void restoreLimits() {
+        MazeSizeLimits.install(MazeSizeLimits.DEFAULT);
+        System.clearProperty(MAX_MAZE_HEIGHT_PROPERTY);
+        System.clearProperty(MAX_MAZE_WIDTH_PROPERTY);
+    }
+
+    @Test
+    public void defaultLimits_ShouldMatchConstValues() {
+        assertEquals(new MazeSizeLimits(MIN_MAZE_HEIGHT, MAX_MAZE_HEIGHT, MIN_MAZE_WIDTH, MAX_MAZE_WIDTH),
+            MazeSizeLimits.DEFAULT);
+        assertEquals(MazeSizeLimits.DEFAULT, MazeSizeLimits.current());
+    }
+
+    @ParameterizedTest
+    @MethodSource("getArgumentsForCreateIncorrectLimits")
+    public void createIncorrectLimits_ShouldThrowIncorrectMazeSizeLimitsException(int minHeight, int maxHeight,
+        int minWidth, int maxWidth) {
+        assertThatThrownBy(() -> {
+            new MazeSizeLimits(minHeight, maxHeight, minWidth, maxWidth);
+        }).isInstanceOf(IncorrectMazeSizeLimitsException.class)
+            .hasMessageContaining(INCORRECT_MAZE_SIZE_LIMITS_EXCEPTION_TEXT);
+    }
+
+    @Test
+    public void readSystemProperties_ShouldCreateLimits() {
+        System.setProperty(MAX_MAZE_HEIGHT_PROPERTY, String.valueOf(LARGE_HEIGHT));
+        System.setProperty(MAX_MAZE_WIDTH_PROPERTY, " " + LARGE_WIDTH + " ");
+
+        assertEquals(MazeSizeLimits.withMaxSize(LARGE_HEIGHT, LARGE_WIDTH), MazeSizeLimits.fromSystemProperties());
+        assertEquals(MazeSizeLimits.DEFAULT, MazeSizeLimits.current());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "abc", "50x50", "1e3", "99999999999"})
+    public void readMalformedSystemProperty_ShouldThrowIncorrectMazeSizePropertyException(String value) {
+        System.setProperty(MAX_MAZE_HEIGHT_PROPERTY, value);
+
+        assertThatThrownBy(MazeSizeLimits::fromSystemProperties)
+            .isInstanceOf(IncorrectMazeSizePropertyException.class)
+            .hasMessageContaining(INCORRECT_MAZE_SIZE_PROPERTY_EXCEPTION_TEXT);
+        assertEquals(MazeSizeLimits.DEFAULT, MazeSizeLimits.current());
+    }
+
+    @Test
+    public void readIncompatibleSystemProperties_ShouldThrowIncorrectMazeSizeLimitsException() {
+        System.setProperty(MAX_MAZE_HEIGHT_PROPERTY, String.valueOf(MIN_MAZE_HEIGHT - 1));
+
+        assertThatThrownBy(MazeSizeLimits::fromSystemProperties)
+            .isInstanceOf(IncorrectMazeSizeLimitsException.class)
+            .hasMessageContaining(INCORRECT_MAZE_SIZE_LIMITS_EXCEPTION_TEXT);
+        assertEquals(MazeSizeLimits.DEFAULT, MazeSizeLimits.current());
+    }
+
+    @Test
+    public void installNullLimits_ShouldThrowNullPointerException() {
+        assertThatThrownBy(() -> {
+            MazeSizeLimits.install(null);
+        }).isInstanceOf(NullPointerException.class)
+            .hasMessageContaining(NULL_MAZE_SIZE_LIMITS_EXCEPTION_TEXT);
+    }
+
+    @Test
+    public void generateLargeMazeWithInstalledLimits_ShouldCreateMaze() {
+        MazeSizeLimits.install(MazeSizeLimits.withMaxSize(LARGE_HEIGHT, LARGE_WIDTH));
+
+        final Maze kruskalMaze = new KruskalMazeGenerator().generate(LARGE_HEIGHT, LARGE_WIDTH);
+        final Maze primMaze = new PrimMazeGenerator().generate(LARGE_HEIGHT, LARGE_WIDTH);
+
+        assertEquals(LARGE_HEIGHT * LARGE_WIDTH, kruskalMaze.cells().length);
+        assertEquals(LARGE_HEIGHT * LARGE_WIDTH, primMaze.cells().length);
+    }
+
+    @Test
+    public void generateMazeOutOfInstalledLimits_ShouldThrowException() {
+        MazeSizeLimits.install(MazeSizeLimits.withMaxSize(DEFAULT_HEIGHT, DEFAULT_WIDTH));
+
+        assertThatThrownBy(() -> {
+            new KruskalMazeGenerator().generate(DEFAULT_HEIGHT + 1, DEFAULT_WIDTH);
+        }).isInstanceOf(IncorrectMazeHeightException.class)
+            .hasMessageContaining(INCORRECT_MAZE_HEIGHT_EXCEPTION_TEXT);
+
+        assertThatThrownBy(() -> {
+            new PrimMazeGenerator().generate(DEFAULT_HEIGHT, DEFAULT_WIDTH + 1);
+        }).isInstanceOf(IncorrectMazeWidthException.class)
+            .hasMessageContaining(INCORRECT_MAZE_WIDTH_EXCEPTION_TEXT);
+    }
+
+    private static Stream<Arguments> getArgumentsForCreateIncorrectLimits() {
+        return Stream.of(
+            Arguments.of(MIN_MAZE_HEIGHT - 1, MAX_MAZE_HEIGHT, MIN_MAZE_WIDTH, MAX_MAZE_WIDTH),
+            Arguments.of(MIN_MAZE_HEIGHT, MAX_MAZE_HEIGHT, MIN_MAZE_WIDTH - 1, MAX_MAZE_WIDTH),
+            Arguments.of(MAX_MAZE_HEIGHT, MIN_MAZE_HEIGHT, MIN_MAZE_WIDTH, MAX_MAZE_WIDTH),
+            Arguments.of(MIN_MAZE_HEIGHT, MAX_MAZE_HEIGHT, MAX_MAZE_WIDTH, MIN_MAZE_WIDTH),
+            Arguments.of(MIN_MAZE_HEIGHT, Integer.MAX_VALUE, MIN_MAZE_WIDTH, Integer.MAX_VALUE),
+            Arguments.of(MIN_MAZE_HEIGHT, (int) MazeSizeLimits.MAX_CELL_COUNT, MIN_MAZE_WIDTH, MIN_MAZE_WIDTH)
+        );
+    }
+}
@@ -7,11 +7,13 @@ import backend.academy.mazeTask.exception.IncorrectMazeWidthException;
 import backend.academy.mazeTask.exception.MazeWithIncorrectEntryExitException;
 import backend.academy.mazeTask.maze.Maze;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.function.Function;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
 import static backend.academy.mazeTask.constants.ConstValues.MAX_MAZE_HEIGHT;
 import static backend.academy.mazeTask.constants.ConstValues.MAX_MAZE_WIDTH;
 import static backend.academy.mazeTask.constants.ConstValues.MIN_MAZE_HEIGHT;
@@ -22,6 +24,7 @@ import static backend.academy.mazeTask.constants.ExceptionTextValues.INCORRECT_M
 import static backend.academy.mazeTask.constants.ExceptionTextValues.INCORRECT_MAZE_WIDTH_EXCEPTION_TEXT;
 import static backend.academy.mazeTask.constants.ExceptionTextValues.NULL_MAZE_GRID_EXCEPTION_TEXT;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 public class MazeTest extends CommonTest {
@@ -30,22 +33,87 @@ public class MazeTest extends CommonTest {
     @MethodSource("getArgumentsForCreateMaze")
     public void createMaze_ShouldCreateMaze(int height, int width, CellType[][] grid) {
         final Maze maze = new Maze(height, width, grid);
-        final CellType[][] mazeGrid = maze.grid();
+        final byte[] cells = maze.cells();
 
         assertEquals(maze.height(), height);
         assertEquals(maze.width(), width);
-        assertEquals(maze.height(), mazeGrid.length);
-        assertEquals(maze.width(), mazeGrid[0].length);
-        assertEquals(mazeGrid.length, grid.length);
-        assertEquals(mazeGrid[0].length, grid[0].length);
+        assertEquals(cells.length, height * width);
 
         for (int i = 0; i < height; i++) {
             for (int j = 0; j < width; j++) {
-                assertEquals(grid[i][j], mazeGrid[i][j]);
+                assertEquals(grid[i][j], maze.getCell(i, j));
+                assertEquals(grid[i][j], maze.getCell(maze.getIndex(i, j)));
+                assertEquals(grid[i][j].code(), cells[i * width + j]);
             }
         }
     }
 
+    @ParameterizedTest
+    @MethodSource("getArgumentsForCreateMaze")
+    public void createMazeFromCells_ShouldCreateMaze(int height, int width, CellType[][] grid) {
+        final Maze maze = new Maze(height, width, new Maze(height, width, grid).cells());
+
+        for (int i = 0; i < height; i++) {
+            for (int j = 0; j < width; j++) {
+                assertEquals(grid[i][j], maze.getCell(i, j));
+            }
+        }
+    }
+
+    @Test
+    public void changeReturnedCells_ShouldNotChangeMaze() {
+        final Maze maze = getRandomMaze(DEFAULT_HEIGHT, DEFAULT_WIDTH);
+        final CellType cell = maze.getCell(1, 1);
+
+        maze.cells()[maze.getIndex(1, 1)] = CellType.WALL.code() == cell.code()
+            ? CellType.PASSAGE.code() : CellType.WALL.code();
+
+        assertEquals(cell, maze.getCell(1, 1));
+    }
+
+    @ParameterizedTest
+    @ValueSource(bytes = {0, 5})
+    public void changeCellsAfterCreation_ShouldNotChangeMaze(byte code) {
+        final byte[] cells = getRandomMaze(DEFAULT_HEIGHT, DEFAULT_WIDTH).cells();
+        final Maze maze = new Maze(DEFAULT_HEIGHT, DEFAULT_WIDTH, cells);
+        final byte[] expected = cells.clone();
+
+        Arrays.fill(cells, code);
+
+        assertArrayEquals(expected, maze.cells());
+    }
+
+    @Test
+    public void createMazeWithNullCells_ShouldThrowNullPointerException() {
+        assertThatThrownBy(() -> {
+            new Maze(DEFAULT_HEIGHT, DEFAULT_WIDTH, (byte[]) null);
+        }).isInstanceOf(NullPointerException.class)
+            .hasMessageContaining(NULL_MAZE_GRID_EXCEPTION_TEXT);
+    }
+
+    @Test
+    public void createMazeWithIncorrectCellsLength_ShouldThrowIncorrectMazeGridException() {
+        final byte[] cells = getRandomMaze(DEFAULT_HEIGHT, DEFAULT_WIDTH).cells();
+
+        assertThatThrownBy(() -> {
+            new Maze(DEFAULT_HEIGHT, DEFAULT_WIDTH + 1, cells);
+        }).isInstanceOf(IncorrectMazeGridException.class)
+            .hasMessageContaining(INCORRECT_MAZE_GRID_EXCEPTION_TEXT);
+    }
+
+    @ParameterizedTest
+    @ValueSource(bytes = {-1, 5, 100})
+    public void createMazeWithIncorrectCellCode_ShouldThrowIncorrectMazeGridException(byte incorrectCode) {
+        final byte[] cells = getRandomMaze(DEFAULT_HEIGHT, DEFAULT_WIDTH).cells();
+
+        cells[DEFAULT_WIDTH + 1] = incorrectCode;
+
+        assertThatThrownBy(() -> {
+            new Maze(DEFAULT_HEIGHT, DEFAULT_WIDTH, cells);
+        }).isInstanceOf(IncorrectMazeGridException.class)
+            .hasMessageContaining(INCORRECT_MAZE_GRID_EXCEPTION_TEXT);
+    }
+
     @ParameterizedTest
     @MethodSource("getArgumentsForCreateMazeWithIncorrectHeight")
     public void createMazeWithIncorrectHeight_ShouldThrowIncorrectMazeHeightException(int incorrectHeight) {
@@ -67,7 +135,7 @@ public class MazeTest extends CommonTest {
     @Test
     public void createMazeWithNullGrid_ShouldThrowNullPointerException() {
         assertThatThrownBy(() -> {
-            new Maze(DEFAULT_HEIGHT, DEFAULT_WIDTH, null);
+            new Maze(DEFAULT_HEIGHT, DEFAULT_WIDTH, (CellType[][]) null);
         }).isInstanceOf(NullPointerException.class)
             .hasMessageContaining(NULL_MAZE_GRID_EXCEPTION_TEXT);
     }
@@ -1,10 +1,22 @@
 package backend.academy.mazeTask;
 
 import backend.academy.mazeTask.enums.CellType;
+import backend.academy.mazeTask.enums.RenderFormat;
 import backend.academy.mazeTask.exception.CoordinateOutOfRangeException;
 import backend.academy.mazeTask.maze.Coordinate;
 import backend.academy.mazeTask.maze.Maze;
+import backend.academy.mazeTask.maze.MazeSizeLimits;
+import backend.academy.mazeTask.maze.generator.EllerMazeGenerator;
+import backend.academy.mazeTask.maze.generator.KruskalMazeGenerator;
 import backend.academy.mazeTask.maze.renderer.Scene;
+import backend.academy.mazeTask.maze.solver.DijkstraMazeSolver;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -33,12 +45,16 @@ import static backend.academy.mazeTask.constants.ConstValues.WALL_SYMBOL;
 import static backend.academy.mazeTask.constants.ExceptionTextValues.COORDINATE_OUT_OF_RANGE_EXCEPTION_TEXT;
 import static backend.academy.mazeTask.constants.ExceptionTextValues.NULL_COORDINATE_EXCEPTION_TEXT;
 import static backend.academy.mazeTask.constants.ExceptionTextValues.NULL_MAZE_EXCEPTION_TEXT;
+import static backend.academy.mazeTask.constants.ExceptionTextValues.NULL_OUTPUT_EXCEPTION_TEXT;
 import static backend.academy.mazeTask.constants.ExceptionTextValues.NULL_PATH_EXCEPTION_TEXT;
+import static backend.academy.mazeTask.constants.ExceptionTextValues.NULL_RENDER_FORMAT_EXCEPTION_TEXT;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 public class SceneTest extends CommonTest {
 
+    private static final int LARGE_MAZE_SIZE = 1001;
+
     private final Scene scene = new Scene();
 
     @ParameterizedTest
@@ -53,6 +69,116 @@ public class SceneTest extends CommonTest {
         renderMaze(grid, path);
     }
 
+    @ParameterizedTest
+    @MethodSource("getGridsWithPath")
+    public void renderMazeWithPathInPlainFormat_ShouldRenderWithoutColourCodes(CellType[][] grid,
+        List<Coordinate> path) {
+        final Maze maze = new Maze(grid.length, grid[0].length, grid);
+        final String expected = scene.renderMaze(maze, path)
+            .replace(RED_COLOUR_CODE, "")
+            .replace(GREEN_COLOR_CODE, "")
+            .replace(BLUE_COLOR_CODE, "")
+            .replace(RESET_COLOUR_CODE, "");
+
+        assertEquals(expected, new Scene(RenderFormat.PLAIN).renderMaze(maze, path));
+    }
+
+    @Test
+    public void createSceneWithNullFormat_ShouldThrowNullPointerException() {
+        assertThatThrownBy(() -> {
+            new Scene(null);
+        }).isInstanceOf(NullPointerException.class)
+            .hasMessageContaining(NULL_RENDER_FORMAT_EXCEPTION_TEXT);
+    }
+
+    @ParameterizedTest
+    @MethodSource("getGridsWithPath")
+    public void writeMazeToWriter_ShouldWriteSameRows(CellType[][] grid, List<Coordinate> path) {
+        final Maze maze = new Maze(grid.length, grid[0].length, grid);
+        final StringWriter mazeWriter = new StringWriter();
+        final StringWriter pathWriter = new StringWriter();
+
+        scene.writeMaze(maze, mazeWriter);
+        scene.writeMaze(maze, path, pathWriter);
+
+        assertEquals(scene.renderMaze(maze), mazeWriter.toString());
+        assertEquals(scene.renderMaze(maze, path), pathWriter.toString());
+    }
+
+    @ParameterizedTest
+    @MethodSource("getGridsWithPath")
+    public void writeMazeToChannel_ShouldWriteSameBytes(CellType[][] grid, List<Coordinate> path) {
+        final Maze maze = new Maze(grid.length, grid[0].length, grid);
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        scene.writeMaze(maze, path, Channels.newChannel(output));
+
+        assertEquals(scene.renderMaze(maze, path), output.toString(StandardCharsets.US_ASCII));
+    }
+
+    @Test
+    public void renderGeneratedRows_ShouldWriteSameRowsAsGeneratedMaze() {
+        final EllerMazeGenerator generator = new EllerMazeGenerator();
+        final long seed = SECURE_RANDOM.nextLong();
+        final StringBuilder output = new StringBuilder();
+
+        generator.generateRows(MAX_MAZE_HEIGHT, MAX_MAZE_WIDTH, seed, scene.createRowRenderer(output));
+
+        assertEquals(scene.renderMaze(generator.generate(MAX_MAZE_HEIGHT, MAX_MAZE_WIDTH, seed)), output.toString());
+    }
+
+    @Test
+    public void writeMazeToNullOutput_ShouldThrowNullPointerException() {
+        final Maze maze = getRandomMaze(DEFAULT_HEIGHT, DEFAULT_WIDTH);
+
+        assertThatThrownBy(() -> {
+            scene.writeMaze(maze, null);
+        }).isInstanceOf(NullPointerException.class)
+            .hasMessageContaining(NULL_OUTPUT_EXCEPTION_TEXT);
+    }
+
+    @Test
+    public void writeMazeToFailingWriter_ShouldThrowUncheckedIOException() {
+        final Maze maze = getRandomMaze(DEFAULT_HEIGHT, DEFAULT_WIDTH);
+        final Writer failingWriter = new Writer() {
+            @Override
+            public void write(char[] buffer, int offset, int length) throws IOException {
+                throw new IOException();
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+
+        assertThatThrownBy(() -> {
+            scene.writeMaze(maze, failingWriter);
+        }).isInstanceOf(UncheckedIOException.class);
+    }
+
+    @Test
+    public void renderLargeMazeWithPath_ShouldMarkEveryPathCell() {
+        MazeSizeLimits.install(MazeSizeLimits.withMaxSize(LARGE_MAZE_SIZE, LARGE_MAZE_SIZE));
+
+        try {
+            final Maze maze = new KruskalMazeGenerator().generate(LARGE_MAZE_SIZE, LARGE_MAZE_SIZE);
+            final List<Coordinate> path = new DijkstraMazeSolver().solve(maze, findEntry(maze), findExit(maze));
+            final String renderResult = scene.renderMaze(maze, path);
+            final String pathCell = BLUE_COLOR_CODE + PATH_SYMBOL + RESET_COLOUR_CODE;
+
+            assertEquals(path.size() - 2,
+                (renderResult.length() - renderResult.replace(pathCell, "").length()) / pathCell.length());
+            assertEquals(LARGE_MAZE_SIZE * (LARGE_MAZE_SIZE + 1) + path.size() * (pathCell.length() - 1),
+                renderResult.length());
+        } finally {
+            MazeSizeLimits.install(MazeSizeLimits.DEFAULT);
+        }
+    }
+
     @Test
     public void renderMazeWithNullMaze_ShouldThrowNullPointerException() {
         assertThatThrownBy(() -> {
@@ -209,6 +335,26 @@ public class SceneTest extends CommonTest {
         }
     }
 
+    private Coordinate findEntry(Maze maze) {
+        for (int y = 0; y < maze.width(); y++) {
+            if (maze.isPassage(maze.getIndex(0, y))) {
+                return new Coordinate(0, y);
+            }
+        }
+
+        return null;
+    }
+
+    private Coordinate findExit(Maze maze) {
+        for (int x = 0; x < maze.height(); x++) {
+            if (maze.isPassage(maze.getIndex(x, 0))) {
+                return new Coordinate(x, 0);
+            }
+        }
+
+        return null;
+    }
+
     private void renderPathDescription(boolean isPathFound) {
         final String renderResult = scene.renderPathDescription(isPathFound);
         final String[] renderResultSplit = renderResult.split("\n");
@@ -0,0 +1,142 @@
+package backend.academy.mazeTask.generator;
+
+import backend.academy.mazeTask.CommonTest;
+import backend.academy.mazeTask.enums.GeneratorType;
+import backend.academy.mazeTask.exception.IncorrectMazeHeightException;
+import backend.academy.mazeTask.exception.IncorrectParallelismException;
+import backend.academy.mazeTask.maze.Maze;
+import backend.academy.mazeTask.maze.generator.BatchGenerationResult;
+import backend.academy.mazeTask.maze.generator.BatchMazeGenerator;
+import backend.academy.mazeTask.maze.generator.MazeGenerator;
+import backend.academy.mazeTask.maze.generator.MazeSpec;
+import backend.academy.mazeTask.maze.generator.PrimMazeGenerator;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import static backend.academy.mazeTask.constants.ConstValues.MAX_MAZE_HEIGHT;
+import static backend.academy.mazeTask.constants.ExceptionTextValues.INCORRECT_MAZE_HEIGHT_EXCEPTION_TEXT;
+import static backend.academy.mazeTask.constants.ExceptionTextValues.INCORRECT_PARALLELISM_EXCEPTION_TEXT;
+import static backend.academy.mazeTask.constants.ExceptionTextValues.NULL_MAZE_CONSUMER_EXCEPTION_TEXT;
+import static backend.academy.mazeTask.constants.ExceptionTextValues.NULL_MAZE_GENERATOR_EXCEPTION_TEXT;
+import static backend.academy.mazeTask.constants.ExceptionTextValues.NULL_MAZE_SPECS_EXCEPTION_TEXT;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class BatchMazeGeneratorTest extends CommonTest {
+
+    private static final int MAZE_COUNT = 300;
+    private static final int MAZE_SIZE = 21;
+    private static final long SEED = 42;
+
+    @ParameterizedTest
+    @EnumSource(GeneratorType.class)
+    public void generateAll_ShouldMatchSequentialGeneration(GeneratorType generatorType) throws InterruptedException {
+        final MazeGenerator generator = generatorType.create();
+        final List<MazeSpec> specs = getSpecs();
+        final BatchGenerationResult result = new BatchMazeGenerator(generator, 8).generateAll(specs);
+
+        assertEquals(specs.size(), result.mazes().size());
+
+        for (int i = 0; i < specs.size(); i++) {
+            final MazeSpec spec = specs.get(i);
+            final Maze maze = result.mazes().get(i);
+
+            assertArrayEquals(generator.generate(spec.height(), spec.width(), spec.seed()).cells(), maze.cells());
+        }
+
+        assertEquals(specs.size(), result.report().mazeCount());
+        assertEquals(specs.stream().mapToLong(MazeSpec::cellCount).sum(), result.report().cellCount());
+        assertThat(result.report().mazesPerSecond()).isPositive();
+        assertThat(result.report().cellsPerSecond()).isPositive();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 5})
+    public void generateAll_ShouldNotExceedParallelism(int parallelism) throws InterruptedException {
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger maxRunning = new AtomicInteger();
+        final MazeGenerator generator = new PrimMazeGenerator() {
+            @Override
+            public Maze generate(int height, int width, long seed) {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+
+                try {
+                    return super.generate(height, width, seed);
+                } finally {
+                    running.decrementAndGet();
+                }
+            }
+        };
+
+        new BatchMazeGenerator(generator, parallelism).generateAll(getSpecs(), (maze, index) -> Thread.yield());
+
+        assertThat(maxRunning.get()).isBetween(1, parallelism);
+    }
+
+    @Test
+    public void createSeries_ShouldBeReproducible() {
+        final List<MazeSpec> first = MazeSpec.series(MAZE_COUNT, MAZE_SIZE, MAZE_SIZE, SEED);
+
+        assertEquals(first, MazeSpec.series(MAZE_COUNT, MAZE_SIZE, MAZE_SIZE, SEED));
+        assertEquals(MAZE_COUNT, first.stream().mapToLong(MazeSpec::seed).distinct().count());
+    }
+
+    @Test
+    public void generateAllWithIncorrectSpec_ShouldThrowException() {
+        final List<MazeSpec> specs = new ArrayList<>(getSpecs());
+
+        specs.add(new MazeSpec(MAX_MAZE_HEIGHT + 1, DEFAULT_WIDTH, SEED));
+
+        assertThatThrownBy(() -> {
+            new BatchMazeGenerator(new PrimMazeGenerator(), 2).generateAll(specs);
+        }).isInstanceOf(IncorrectMazeHeightException.class)
+            .hasMessageContaining(INCORRECT_MAZE_HEIGHT_EXCEPTION_TEXT);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1})
+    public void createWithIncorrectParallelism_ShouldThrowIncorrectParallelismException(int parallelism) {
+        assertThatThrownBy(() -> {
+            new BatchMazeGenerator(new PrimMazeGenerator(), parallelism);
+        }).isInstanceOf(IncorrectParallelismException.class)
+            .hasMessageContaining(INCORRECT_PARALLELISM_EXCEPTION_TEXT);
+    }
+
+    @Test
+    public void nullArguments_ShouldThrowNullPointerException() {
+        final BatchMazeGenerator generator = new BatchMazeGenerator(new PrimMazeGenerator());
+        final List<MazeSpec> specsWithNull = new ArrayList<>(getSpecs());
+
+        specsWithNull.add(null);
+
+        assertThatThrownBy(() -> {
+            new BatchMazeGenerator(null);
+        }).isInstanceOf(NullPointerException.class)
+            .hasMessageContaining(NULL_MAZE_GENERATOR_EXCEPTION_TEXT);
+
+        assertThatThrownBy(() -> {
+            generator.generateAll(null);
+        }).isInstanceOf(NullPointerException.class)
+            .hasMessageContaining(NULL_MAZE_SPECS_EXCEPTION_TEXT);
+
+        assertThatThrownBy(() -> {
+            generator.generateAll(specsWithNull);
+        }).isInstanceOf(NullPointerException.class)
+            .hasMessageContaining(NULL_MAZE_SPECS_EXCEPTION_TEXT);
+
+        assertThatThrownBy(() -> {
+            generator.generateAll(getSpecs(), null);
+        }).isInstanceOf(NullPointerException.class)
+            .hasMessageContaining(NULL_MAZE_CONSUMER_EXCEPTION_TEXT);
+    }
+
+    private static List<MazeSpec> getSpecs() {
+        return MazeSpec.series(MAZE_COUNT, DEFAULT_HEIGHT, DEFAULT_WIDTH + 1, SEED);
+    }
+}
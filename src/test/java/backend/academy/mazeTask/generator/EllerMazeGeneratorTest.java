@@ -0,0 +1,64 @@
+package backend.academy.mazeTask.generator;
+
+import backend.academy.mazeTask.maze.Maze;
+import backend.academy.mazeTask.maze.generator.EllerMazeGenerator;
+import backend.academy.mazeTask.maze.generator.MazeGenerator;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import static backend.academy.mazeTask.constants.ConstValues.MAX_MAZE_HEIGHT;
+import static backend.academy.mazeTask.constants.ExceptionTextValues.NULL_ROW_CONSUMER_EXCEPTION_TEXT;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class EllerMazeGeneratorTest extends MazeGeneratorTest {
+
+    private static final int TALL_MAZE_HEIGHT = MAX_MAZE_HEIGHT * 1000 + 1;
+
+    private final EllerMazeGenerator ellerMazeGenerator = new EllerMazeGenerator();
+
+    @Override
+    protected MazeGenerator getMazeGenerator() {
+        return ellerMazeGenerator;
+    }
+
+    @ParameterizedTest
+    @MethodSource("getArgumentsForGenerateMaze")
+    public void generateRows_ShouldMatchGeneratedMaze(int height, int width) {
+        final long seed = SECURE_RANDOM.nextLong();
+        final Maze maze = ellerMazeGenerator.generate(height, width, seed);
+        final AtomicInteger expectedRow = new AtomicInteger();
+        final byte[] mazeRow = new byte[width];
+
+        ellerMazeGenerator.generateRows(height, width, seed, (rowIndex, row) -> {
+            assertEquals(expectedRow.getAndIncrement(), rowIndex);
+            maze.getRow(rowIndex, mazeRow);
+            assertArrayEquals(mazeRow, row);
+        });
+
+        assertEquals(height, expectedRow.get());
+    }
+
+    @Test
+    public void generateRowsOfTallMaze_ShouldEmitEveryRow() {
+        final AtomicInteger rowCount = new AtomicInteger();
+
+        ellerMazeGenerator.generateRows(TALL_MAZE_HEIGHT, DEFAULT_WIDTH, SECURE_RANDOM.nextLong(),
+            (rowIndex, row) -> {
+                assertEquals(rowCount.getAndIncrement(), rowIndex);
+                assertEquals(DEFAULT_WIDTH, row.length);
+            });
+
+        assertEquals(TALL_MAZE_HEIGHT, rowCount.get());
+    }
+
+    @Test
+    public void generateRowsWithNullConsumer_ShouldThrowNullPointerException() {
+        assertThatThrownBy(() -> {
+            ellerMazeGenerator.generateRows(DEFAULT_HEIGHT, DEFAULT_WIDTH, SECURE_RANDOM.nextLong(), null);
+        }).isInstanceOf(NullPointerException.class)
+            .hasMessageContaining(NULL_ROW_CONSUMER_EXCEPTION_TEXT);
+    }
+}
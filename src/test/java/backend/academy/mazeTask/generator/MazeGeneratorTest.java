@@ -5,15 +5,32 @@ import backend.academy.mazeTask.exception.IncorrectMazeHeightException;
 import backend.academy.mazeTask.exception.IncorrectMazeWidthException;
 import backend.academy.mazeTask.maze.Maze;
 import backend.academy.mazeTask.maze.generator.MazeGenerator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
+import static backend.academy.mazeTask.constants.ConstValues.MAX_MAZE_HEIGHT;
+import static backend.academy.mazeTask.constants.ConstValues.MAX_MAZE_WIDTH;
+import static backend.academy.mazeTask.constants.ConstValues.MIN_MAZE_HEIGHT;
+import static backend.academy.mazeTask.constants.ConstValues.MIN_MAZE_WIDTH;
 import static backend.academy.mazeTask.constants.ExceptionTextValues.INCORRECT_MAZE_HEIGHT_EXCEPTION_TEXT;
 import static backend.academy.mazeTask.constants.ExceptionTextValues.INCORRECT_MAZE_WIDTH_EXCEPTION_TEXT;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
 public abstract class MazeGeneratorTest extends CommonTest {
 
+    private static final int CONCURRENT_TASK_COUNT = 200;
+    private static final int THREAD_COUNT = 8;
+
     protected abstract MazeGenerator getMazeGenerator();
 
     @ParameterizedTest
@@ -23,6 +40,49 @@ public abstract class MazeGeneratorTest extends CommonTest {
         assertNotNull(maze);
     }
 
+    @ParameterizedTest
+    @MethodSource("getArgumentsForGenerateMaze")
+    public void generateMazeWithSameSeed_ShouldGenerateSameMaze(int height, int width) {
+        final long seed = SECURE_RANDOM.nextLong();
+        final Maze first = getMazeGenerator().generate(height, width, seed);
+        final Maze second = getMazeGenerator().generate(height, width, seed);
+
+        assertArrayEquals(first.cells(), second.cells());
+    }
+
+    @Test
+    public void generateMazeWithDifferentSeeds_ShouldGenerateDifferentMazes() {
+        final long seed = SECURE_RANDOM.nextLong();
+        final Maze first = getMazeGenerator().generate(MAX_MAZE_HEIGHT, MAX_MAZE_WIDTH, seed);
+        final Maze second = getMazeGenerator().generate(MAX_MAZE_HEIGHT, MAX_MAZE_WIDTH, seed + 1);
+
+        assertFalse(Arrays.equals(first.cells(), second.cells()));
+    }
+
+    @Test
+    public void generateMazesConcurrentlyWithSharedGenerator_ShouldGenerateSameMazes() throws Exception {
+        final MazeGenerator mazeGenerator = getMazeGenerator();
+        final List<Callable<Maze>> tasks = new ArrayList<>();
+        final List<Maze> expected = new ArrayList<>();
+
+        for (int i = 0; i < CONCURRENT_TASK_COUNT; i++) {
+            final int height = MIN_MAZE_HEIGHT + i % (MAX_MAZE_HEIGHT - MIN_MAZE_HEIGHT);
+            final int width = MAX_MAZE_WIDTH - i % (MAX_MAZE_WIDTH - MIN_MAZE_WIDTH);
+            final long seed = SECURE_RANDOM.nextLong();
+
+            expected.add(mazeGenerator.generate(height, width, seed));
+            tasks.add(() -> mazeGenerator.generate(height, width, seed));
+        }
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT)) {
+            final List<Future<Maze>> results = executor.invokeAll(tasks);
+
+            for (int i = 0; i < CONCURRENT_TASK_COUNT; i++) {
+                assertArrayEquals(expected.get(i).cells(), results.get(i).get().cells());
+            }
+        }
+    }
+
     @ParameterizedTest
     @MethodSource("getArgumentsForCreateMazeWithIncorrectHeight")
     public void generateMazeWithIncorrectHeight_ShouldThrowIncorrectMazeHeightException(int incorrectHeight) {
@@ -0,0 +1,48 @@
+package backend.academy.mazeTask.solver;
+
+import backend.academy.mazeTask.enums.CellType;
+import backend.academy.mazeTask.maze.Coordinate;
+import backend.academy.mazeTask.maze.Maze;
+import backend.academy.mazeTask.maze.solver.AStarMazeSolver;
+import backend.academy.mazeTask.maze.solver.MazeSolver;
+import backend.academy.mazeTask.maze.solver.dto.SearchResult;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class AStarMazeSolverTest extends MazeSolverTest {
+
+    private final AStarMazeSolver aStarMazeSolver = new AStarMazeSolver();
+
+    @Override
+    protected MazeSolver getMazeSolver() {
+        return aStarMazeSolver;
+    }
+
+    @ParameterizedTest
+    @MethodSource("getArgumentsForFindShortestWay")
+    public void solveMazeWithStatistics_ShouldReturnPathAndExpandedNodes(
+        CellType[][] grid, Coordinate start, Coordinate finish, List<Coordinate> correctPath
+    ) {
+        final Maze maze = new Maze(grid.length, grid[0].length, grid);
+        final SearchResult result = aStarMazeSolver.solveWithStatistics(maze, start, finish);
+
+        assertEquals(correctPath, result.path());
+        assertTrue(result.expandedNodes() >= result.path().size() - 1);
+    }
+
+    @Test
+    public void solveOpenMazeWithStatistics_ShouldExpandOnlyPathCells() {
+        final Maze maze = getOpenRoom(DEFAULT_HEIGHT, () -> CellType.PASSAGE_WITH_GOOD_COVERAGE);
+
+        final SearchResult result = aStarMazeSolver.solveWithStatistics(
+            maze, new Coordinate(1, 1), new Coordinate(DEFAULT_HEIGHT - 2, DEFAULT_WIDTH - 2)
+        );
+
+        assertEquals(DEFAULT_HEIGHT + DEFAULT_WIDTH - 5, result.path().size());
+        assertEquals(result.path().size(), result.expandedNodes());
+    }
+}
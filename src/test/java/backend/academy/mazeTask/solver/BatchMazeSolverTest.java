@@ -0,0 +1,138 @@
+package backend.academy.mazeTask.solver;
+
+import backend.academy.mazeTask.exception.CoordinateOutOfRangeException;
+import backend.academy.mazeTask.exception.IncorrectParallelismException;
+import backend.academy.mazeTask.maze.Coordinate;
+import backend.academy.mazeTask.maze.Maze;
+import backend.academy.mazeTask.maze.generator.KruskalMazeGenerator;
+import backend.academy.mazeTask.maze.solver.BatchMazeSolver;
+import backend.academy.mazeTask.maze.solver.DijkstraMazeSolver;
+import backend.academy.mazeTask.maze.solver.MazeSolver;
+import backend.academy.mazeTask.maze.solver.PathQuery;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import static backend.academy.mazeTask.constants.ConstValues.MAX_MAZE_HEIGHT;
+import static backend.academy.mazeTask.constants.ConstValues.MAX_MAZE_WIDTH;
+import static backend.academy.mazeTask.constants.ExceptionTextValues.COORDINATE_OUT_OF_RANGE_EXCEPTION_TEXT;
+import static backend.academy.mazeTask.constants.ExceptionTextValues.INCORRECT_PARALLELISM_EXCEPTION_TEXT;
+import static backend.academy.mazeTask.constants.ExceptionTextValues.NULL_COORDINATE_EXCEPTION_TEXT;
+import static backend.academy.mazeTask.constants.ExceptionTextValues.NULL_MAZE_EXCEPTION_TEXT;
+import static backend.academy.mazeTask.constants.ExceptionTextValues.NULL_PATH_QUERIES_EXCEPTION_TEXT;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class BatchMazeSolverTest extends MazeSolverTest {
+
+    private static final int QUERY_COUNT = 500;
+    private static final int START_COUNT = 7;
+    private static final Coordinate DEFAULT_COORDINATE = new Coordinate(DEFAULT_X, DEFAULT_Y);
+
+    private final BatchMazeSolver batchMazeSolver = new BatchMazeSolver();
+
+    @Override
+    protected MazeSolver getMazeSolver() {
+        return batchMazeSolver;
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 8})
+    public void solveAllInOpenMaze_ShouldMatchDijkstra(int parallelism) {
+        final Maze maze = new Maze(MAX_MAZE_HEIGHT, MAX_MAZE_WIDTH, getRandomGrid(MAX_MAZE_HEIGHT, MAX_MAZE_WIDTH));
+
+        assertSolveAllMatchesDijkstra(new BatchMazeSolver(parallelism), maze, getRandomQueries(maze));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    public void solveAllInPerfectMaze_ShouldMatchDijkstra(int parallelism) {
+        final Maze maze = new KruskalMazeGenerator().generate(MAX_MAZE_HEIGHT, MAX_MAZE_WIDTH,
+            SECURE_RANDOM.nextLong());
+
+        assertSolveAllMatchesDijkstra(new BatchMazeSolver(parallelism), maze, getRandomQueries(maze));
+    }
+
+    @Test
+    public void solveAllWithoutQueries_ShouldReturnEmptyList() {
+        final Maze maze = new KruskalMazeGenerator().generate(DEFAULT_HEIGHT, DEFAULT_WIDTH);
+
+        assertEquals(List.of(), batchMazeSolver.solveAll(maze, List.of()));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1})
+    public void createWithIncorrectParallelism_ShouldThrowIncorrectParallelismException(int parallelism) {
+        assertThatThrownBy(() -> {
+            new BatchMazeSolver(parallelism);
+        }).isInstanceOf(IncorrectParallelismException.class)
+            .hasMessageContaining(INCORRECT_PARALLELISM_EXCEPTION_TEXT);
+    }
+
+    @Test
+    public void solveAllWithIncorrectArguments_ShouldThrowException() {
+        final Maze maze = new KruskalMazeGenerator().generate(DEFAULT_HEIGHT, DEFAULT_WIDTH);
+        final List<PathQuery> queriesWithNull = new ArrayList<>();
+
+        queriesWithNull.add(null);
+
+        assertThatThrownBy(() -> {
+            batchMazeSolver.solveAll(null, List.of());
+        }).isInstanceOf(NullPointerException.class)
+            .hasMessageContaining(NULL_MAZE_EXCEPTION_TEXT);
+
+        assertThatThrownBy(() -> {
+            batchMazeSolver.solveAll(maze, null);
+        }).isInstanceOf(NullPointerException.class)
+            .hasMessageContaining(NULL_PATH_QUERIES_EXCEPTION_TEXT);
+
+        assertThatThrownBy(() -> {
+            batchMazeSolver.solveAll(maze, queriesWithNull);
+        }).isInstanceOf(NullPointerException.class)
+            .hasMessageContaining(NULL_PATH_QUERIES_EXCEPTION_TEXT);
+
+        assertThatThrownBy(() -> {
+            batchMazeSolver.solveAll(maze, List.of(new PathQuery(DEFAULT_COORDINATE, null)));
+        }).isInstanceOf(NullPointerException.class)
+            .hasMessageContaining(NULL_COORDINATE_EXCEPTION_TEXT);
+
+        assertThatThrownBy(() -> {
+            batchMazeSolver.solveAll(maze, List.of(new PathQuery(DEFAULT_COORDINATE, DEFAULT_COORDINATE),
+                new PathQuery(DEFAULT_COORDINATE, new Coordinate(DEFAULT_HEIGHT, DEFAULT_Y))));
+        }).isInstanceOf(CoordinateOutOfRangeException.class)
+            .hasMessageContaining(COORDINATE_OUT_OF_RANGE_EXCEPTION_TEXT);
+    }
+
+    private static void assertSolveAllMatchesDijkstra(BatchMazeSolver solver, Maze maze, List<PathQuery> queries) {
+        final MazeSolver dijkstraMazeSolver = new DijkstraMazeSolver();
+        final List<List<Coordinate>> paths = solver.solveAll(maze, queries);
+
+        assertEquals(queries.size(), paths.size());
+
+        for (int i = 0; i < queries.size(); i++) {
+            final PathQuery query = queries.get(i);
+
+            assertEquals(dijkstraMazeSolver.solve(maze, query.start(), query.finish()), paths.get(i));
+        }
+    }
+
+    private static List<PathQuery> getRandomQueries(Maze maze) {
+        final List<Coordinate> starts = new ArrayList<>();
+        final List<PathQuery> queries = new ArrayList<>();
+
+        for (int i = 0; i < START_COUNT; i++) {
+            starts.add(getRandomCoordinate(maze));
+        }
+
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            final Coordinate start = starts.get(SECURE_RANDOM.nextInt(starts.size()));
+
+            queries.add(new PathQuery(start, i % START_COUNT == 0 ? start : getRandomCoordinate(maze)));
+        }
+
+        queries.add(queries.getFirst());
+
+        return queries;
+    }
+}
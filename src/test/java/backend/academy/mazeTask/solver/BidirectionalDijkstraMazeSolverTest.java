@@ -0,0 +1,70 @@
+package backend.academy.mazeTask.solver;
+
+import backend.academy.mazeTask.CommonTest;
+import backend.academy.mazeTask.maze.Coordinate;
+import backend.academy.mazeTask.maze.Maze;
+import backend.academy.mazeTask.maze.generator.KruskalMazeGenerator;
+import backend.academy.mazeTask.maze.solver.BidirectionalDijkstraMazeSolver;
+import backend.academy.mazeTask.maze.solver.DistanceField;
+import backend.academy.mazeTask.maze.solver.MazeSolver;
+import backend.academy.mazeTask.maze.solver.dto.SearchResult;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+import static backend.academy.mazeTask.constants.ConstValues.MAX_MAZE_HEIGHT;
+import static backend.academy.mazeTask.constants.ConstValues.MAX_MAZE_WIDTH;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class BidirectionalDijkstraMazeSolverTest extends MazeSolverTest {
+
+
+    private final BidirectionalDijkstraMazeSolver bidirectionalDijkstraMazeSolver =
+        new BidirectionalDijkstraMazeSolver();
+
+    @Override
+    protected MazeSolver getMazeSolver() {
+        return bidirectionalDijkstraMazeSolver;
+    }
+
+    @Override
+    protected boolean isCostEquivalentOnly() {
+        return true;
+    }
+
+    @RepeatedTest(REPETITION_COUNT)
+    public void solveMazeWithCycles_ShouldMatchDijkstraCost() {
+        assertPathsMatchDijkstraCost(new Maze(MAX_MAZE_HEIGHT, MAX_MAZE_WIDTH,
+            getRandomGrid(MAX_MAZE_HEIGHT, MAX_MAZE_WIDTH)), bidirectionalDijkstraMazeSolver);
+    }
+
+    @RepeatedTest(REPETITION_COUNT)
+    public void solvePerfectMaze_ShouldMatchDijkstraPath() {
+        assertPathsMatchDijkstra(new KruskalMazeGenerator().generate(MAX_MAZE_HEIGHT, MAX_MAZE_WIDTH,
+            SECURE_RANDOM.nextLong()), bidirectionalDijkstraMazeSolver);
+    }
+
+    @Test
+    public void solveOpenMazeWithStatistics_ShouldExpandFewerCellsThanDijkstra() {
+        final Maze maze = getOpenRoom(MAX_MAZE_HEIGHT, CommonTest::getRandomPassageType);
+        final Coordinate start = new Coordinate(MAX_MAZE_HEIGHT / 2, 1);
+        final Coordinate finish = new Coordinate(MAX_MAZE_HEIGHT / 2, MAX_MAZE_WIDTH - 2);
+        final DistanceField distanceField = new DistanceField(maze, start);
+        final int finishCost = distanceField.getCost(finish);
+        int dijkstraExpandedNodes = 0;
+
+        for (int x = 0; x < maze.height(); x++) {
+            for (int y = 0; y < maze.width(); y++) {
+                final int cost = distanceField.getCost(new Coordinate(x, y));
+
+                if (cost != DistanceField.UNREACHABLE && cost < finishCost) {
+                    dijkstraExpandedNodes++;
+                }
+            }
+        }
+
+        final SearchResult result = bidirectionalDijkstraMazeSolver.solveWithStatistics(maze, start, finish);
+
+        assertEquals(finishCost, getPathCost(maze, result.path()));
+        assertThat(result.expandedNodes()).isLessThan(dijkstraExpandedNodes);
+    }
+}
@@ -0,0 +1,90 @@
+package backend.academy.mazeTask.solver;
+
+import backend.academy.mazeTask.CommonTest;
+import backend.academy.mazeTask.exception.IncorrectDeltaException;
+import backend.academy.mazeTask.exception.IncorrectParallelismException;
+import backend.academy.mazeTask.maze.Coordinate;
+import backend.academy.mazeTask.maze.Maze;
+import backend.academy.mazeTask.maze.MazeSizeLimits;
+import backend.academy.mazeTask.maze.generator.KruskalMazeGenerator;
+import backend.academy.mazeTask.maze.solver.DeltaSteppingMazeSolver;
+import backend.academy.mazeTask.maze.solver.DijkstraMazeSolver;
+import backend.academy.mazeTask.maze.solver.MazeSolver;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import static backend.academy.mazeTask.constants.ConstValues.MAX_MAZE_HEIGHT;
+import static backend.academy.mazeTask.constants.ConstValues.MAX_MAZE_WIDTH;
+import static backend.academy.mazeTask.constants.ExceptionTextValues.INCORRECT_DELTA_EXCEPTION_TEXT;
+import static backend.academy.mazeTask.constants.ExceptionTextValues.INCORRECT_PARALLELISM_EXCEPTION_TEXT;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class DeltaSteppingMazeSolverTest extends MazeSolverTest {
+
+    private static final int LARGE_SIZE = 1001;
+
+    private final DeltaSteppingMazeSolver deltaSteppingMazeSolver = new DeltaSteppingMazeSolver();
+
+    @Override
+    protected MazeSolver getMazeSolver() {
+        return deltaSteppingMazeSolver;
+    }
+
+    @AfterEach
+    public void restoreLimits() {
+        MazeSizeLimits.install(MazeSizeLimits.DEFAULT);
+    }
+
+    @Override
+    protected boolean isCostEquivalentOnly() {
+        return true;
+    }
+
+    @ParameterizedTest
+    @CsvSource({"1, 1", "1, 2", "4, 2", "4, 3", "4, 4", "4, 100"})
+    public void solveMazeWithCycles_ShouldMatchDijkstraCost(int parallelism, int delta) {
+        assertPathsMatchDijkstraCost(new Maze(MAX_MAZE_HEIGHT, MAX_MAZE_WIDTH,
+            getRandomGrid(MAX_MAZE_HEIGHT, MAX_MAZE_WIDTH)), new DeltaSteppingMazeSolver(parallelism, delta));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    public void solvePerfectMaze_ShouldMatchDijkstraPath(int parallelism) {
+        assertPathsMatchDijkstra(new KruskalMazeGenerator().generate(MAX_MAZE_HEIGHT, MAX_MAZE_WIDTH,
+            SECURE_RANDOM.nextLong()), new DeltaSteppingMazeSolver(parallelism));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 4})
+    public void solveLargeOpenMaze_ShouldMatchDijkstraCost(int parallelism) {
+        MazeSizeLimits.install(MazeSizeLimits.withMaxSize(LARGE_SIZE, LARGE_SIZE));
+
+        final Maze maze = getOpenRoom(LARGE_SIZE, CommonTest::getRandomPassageType);
+        final Coordinate start = new Coordinate(LARGE_SIZE / 2, LARGE_SIZE / 2);
+        final Coordinate finish = new Coordinate(LARGE_SIZE - 2, 1);
+        final List<Coordinate> expected = new DijkstraMazeSolver().solve(maze, start, finish);
+        final List<Coordinate> path = new DeltaSteppingMazeSolver(parallelism).solve(maze, start, finish);
+
+        assertEquals(getPathCost(maze, expected), getPathCost(maze, path));
+        assertEquals(start, path.getFirst());
+        assertEquals(finish, path.getLast());
+        assertConnectedPath(maze, path);
+    }
+
+    @Test
+    public void incorrectSettings_ShouldThrowException() {
+        assertThatThrownBy(() -> {
+            new DeltaSteppingMazeSolver(0);
+        }).isInstanceOf(IncorrectParallelismException.class)
+            .hasMessageContaining(INCORRECT_PARALLELISM_EXCEPTION_TEXT);
+
+        assertThatThrownBy(() -> {
+            new DeltaSteppingMazeSolver(1, 0);
+        }).isInstanceOf(IncorrectDeltaException.class)
+            .hasMessageContaining(INCORRECT_DELTA_EXCEPTION_TEXT);
+    }
+}
@@ -0,0 +1,14 @@
+package backend.academy.mazeTask.solver;
+
+import backend.academy.mazeTask.maze.solver.DialMazeSolver;
+import backend.academy.mazeTask.maze.solver.MazeSolver;
+
+public class DialMazeSolverTest extends MazeSolverTest {
+
+    private final DialMazeSolver dialMazeSolver = new DialMazeSolver();
+
+    @Override
+    protected MazeSolver getMazeSolver() {
+        return dialMazeSolver;
+    }
+}
@@ -0,0 +1,14 @@
+package backend.academy.mazeTask.solver;
+
+import backend.academy.mazeTask.maze.solver.DijkstraMazeSolver;
+import backend.academy.mazeTask.maze.solver.MazeSolver;
+
+public class DijkstraMazeSolverTest extends MazeSolverTest {
+
+    private final DijkstraMazeSolver dijkstraMazeSolver = new DijkstraMazeSolver();
+
+    @Override
+    protected MazeSolver getMazeSolver() {
+        return dijkstraMazeSolver;
+    }
+}
@@ -0,0 +1,112 @@
+package backend.academy.mazeTask.solver;
+
+import backend.academy.mazeTask.CommonTest;
+import backend.academy.mazeTask.exception.CoordinateOutOfRangeException;
+import backend.academy.mazeTask.maze.Coordinate;
+import backend.academy.mazeTask.maze.Maze;
+import backend.academy.mazeTask.maze.generator.PrimMazeGenerator;
+import backend.academy.mazeTask.maze.solver.DijkstraMazeSolver;
+import backend.academy.mazeTask.maze.solver.DistanceField;
+import java.util.List;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+import static backend.academy.mazeTask.constants.ConstValues.MAX_MAZE_HEIGHT;
+import static backend.academy.mazeTask.constants.ConstValues.MAX_MAZE_WIDTH;
+import static backend.academy.mazeTask.constants.ExceptionTextValues.COORDINATE_OUT_OF_RANGE_EXCEPTION_TEXT;
+import static backend.academy.mazeTask.constants.ExceptionTextValues.NULL_COORDINATE_EXCEPTION_TEXT;
+import static backend.academy.mazeTask.constants.ExceptionTextValues.NULL_MAZE_EXCEPTION_TEXT;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class DistanceFieldTest extends CommonTest {
+
+    private static final int REPETITION_COUNT = 20;
+    private static final Coordinate DEFAULT_COORDINATE = new Coordinate(DEFAULT_X, DEFAULT_Y);
+
+    @RepeatedTest(REPETITION_COUNT)
+    public void getPathsInOpenMaze_ShouldMatchDijkstraCost() {
+        assertPathsMatchDijkstraCost(new Maze(MAX_MAZE_HEIGHT, MAX_MAZE_WIDTH,
+            getRandomGrid(MAX_MAZE_HEIGHT, MAX_MAZE_WIDTH)));
+    }
+
+    @RepeatedTest(REPETITION_COUNT)
+    public void getPathsInPerfectMaze_ShouldMatchDijkstraPath() {
+        final Maze maze = new PrimMazeGenerator().generate(MAX_MAZE_HEIGHT, MAX_MAZE_WIDTH, SECURE_RANDOM.nextLong());
+        final DistanceField distanceField = new DistanceField(maze, DEFAULT_COORDINATE);
+        final DijkstraMazeSolver dijkstraMazeSolver = new DijkstraMazeSolver();
+
+        for (int x = 0; x < maze.height(); x++) {
+            for (int y = 0; y < maze.width(); y++) {
+                final Coordinate finish = new Coordinate(x, y);
+
+                assertEquals(dijkstraMazeSolver.solve(maze, DEFAULT_COORDINATE, finish),
+                    distanceField.getPathTo(finish));
+            }
+        }
+    }
+
+    @Test
+    public void createWithWallSource_ShouldHaveNoPaths() {
+        final Maze maze = new PrimMazeGenerator().generate(DEFAULT_HEIGHT, DEFAULT_WIDTH);
+        final DistanceField distanceField = new DistanceField(maze, new Coordinate(0, 0));
+
+        assertEquals(DistanceField.UNREACHABLE, distanceField.getCost(DEFAULT_COORDINATE));
+        assertEquals(List.of(), distanceField.getPathFrom(DEFAULT_COORDINATE));
+        assertEquals(List.of(), distanceField.getPathFrom(new Coordinate(0, 0)));
+    }
+
+    @Test
+    public void getPathFromSource_ShouldReturnSource() {
+        final Maze maze = new PrimMazeGenerator().generate(DEFAULT_HEIGHT, DEFAULT_WIDTH);
+        final DistanceField distanceField = new DistanceField(maze, DEFAULT_COORDINATE);
+
+        assertEquals(List.of(DEFAULT_COORDINATE), distanceField.getPathFrom(DEFAULT_COORDINATE));
+        assertEquals(maze.getCell(DEFAULT_X, DEFAULT_Y).weight(), distanceField.getCost(DEFAULT_COORDINATE));
+    }
+
+    @Test
+    public void incorrectArguments_ShouldThrowException() {
+        final Maze maze = new PrimMazeGenerator().generate(DEFAULT_HEIGHT, DEFAULT_WIDTH);
+        final DistanceField distanceField = new DistanceField(maze, DEFAULT_COORDINATE);
+
+        assertThatThrownBy(() -> {
+            new DistanceField(null, DEFAULT_COORDINATE);
+        }).isInstanceOf(NullPointerException.class)
+            .hasMessageContaining(NULL_MAZE_EXCEPTION_TEXT);
+
+        assertThatThrownBy(() -> {
+            new DistanceField(maze, null);
+        }).isInstanceOf(NullPointerException.class)
+            .hasMessageContaining(NULL_COORDINATE_EXCEPTION_TEXT);
+
+        assertThatThrownBy(() -> {
+            new DistanceField(maze, new Coordinate(-1, DEFAULT_Y));
+        }).isInstanceOf(CoordinateOutOfRangeException.class)
+            .hasMessageContaining(COORDINATE_OUT_OF_RANGE_EXCEPTION_TEXT);
+
+        assertThatThrownBy(() -> {
+            distanceField.getPathFrom(new Coordinate(DEFAULT_X, DEFAULT_WIDTH));
+        }).isInstanceOf(CoordinateOutOfRangeException.class)
+            .hasMessageContaining(COORDINATE_OUT_OF_RANGE_EXCEPTION_TEXT);
+    }
+
+    private static void assertPathsMatchDijkstraCost(Maze maze) {
+        final Coordinate source = new Coordinate(SECURE_RANDOM.nextInt(maze.height()),
+            SECURE_RANDOM.nextInt(maze.width()));
+        final DistanceField distanceField = new DistanceField(maze, source);
+        final DijkstraMazeSolver dijkstraMazeSolver = new DijkstraMazeSolver();
+
+        for (int x = 0; x < maze.height(); x++) {
+            for (int y = 0; y < maze.width(); y++) {
+                final Coordinate start = new Coordinate(x, y);
+                final List<Coordinate> path = distanceField.getPathFrom(start);
+                final List<Coordinate> expected = dijkstraMazeSolver.solve(maze, start, source);
+
+                assertEquals(getPathCost(maze, expected), getPathCost(maze, path));
+                assertEquals(expected.isEmpty() ? DistanceField.UNREACHABLE : getPathCost(maze, path),
+                    distanceField.getCost(start));
+                assertConnectedPath(maze, path);
+            }
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package backend.academy.mazeTask.solver;
+
+import backend.academy.mazeTask.exception.CoordinateOutOfRangeException;
+import backend.academy.mazeTask.maze.Coordinate;
+import backend.academy.mazeTask.maze.Maze;
+import backend.academy.mazeTask.maze.generator.KruskalMazeGenerator;
+import backend.academy.mazeTask.maze.generator.PrimMazeGenerator;
+import backend.academy.mazeTask.maze.solver.JunctionGraph;
+import backend.academy.mazeTask.maze.solver.JunctionGraphMazeSolver;
+import backend.academy.mazeTask.maze.solver.MazeSolver;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+import static backend.academy.mazeTask.constants.ConstValues.MAX_MAZE_HEIGHT;
+import static backend.academy.mazeTask.constants.ConstValues.MAX_MAZE_WIDTH;
+import static backend.academy.mazeTask.constants.ExceptionTextValues.COORDINATE_OUT_OF_RANGE_EXCEPTION_TEXT;
+import static backend.academy.mazeTask.constants.ExceptionTextValues.NULL_MAZE_EXCEPTION_TEXT;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class JunctionGraphMazeSolverTest extends MazeSolverTest {
+
+    private static final int MIN_SIZE = 5;
+
+    private final JunctionGraphMazeSolver junctionGraphMazeSolver = new JunctionGraphMazeSolver();
+
+    @Override
+    protected MazeSolver getMazeSolver() {
+        return junctionGraphMazeSolver;
+    }
+
+    @Override
+    protected boolean isCostEquivalentOnly() {
+        return true;
+    }
+
+    @RepeatedTest(REPETITION_COUNT)
+    public void findPathsInPerfectMaze_ShouldMatchDijkstra() {
+        final Maze maze = new PrimMazeGenerator().generate(MAX_MAZE_HEIGHT, MAX_MAZE_WIDTH, SECURE_RANDOM.nextLong());
+        final JunctionGraph junctionGraph = new JunctionGraph(maze);
+
+        assertThat(junctionGraph.nodeCount()).isLessThan(maze.height() * maze.width() / 2);
+        assertPathsMatchDijkstraCost(maze, junctionGraph::findPath);
+    }
+
+    @RepeatedTest(REPETITION_COUNT)
+    public void findPathsInMazeWithCycles_ShouldMatchDijkstraCost() {
+        final int size = MIN_SIZE + SECURE_RANDOM.nextInt(MAX_MAZE_HEIGHT - MIN_SIZE);
+        final Maze maze = new Maze(size, size, getRandomGrid(size, size));
+
+        assertPathsMatchDijkstraCost(maze, new JunctionGraph(maze)::findPath);
+    }
+
+    @Test
+    public void incorrectArguments_ShouldThrowException() {
+        final JunctionGraph junctionGraph = new JunctionGraph(
+            new KruskalMazeGenerator().generate(DEFAULT_HEIGHT, DEFAULT_WIDTH));
+
+        assertThatThrownBy(() -> {
+            new JunctionGraph(null);
+        }).isInstanceOf(NullPointerException.class)
+            .hasMessageContaining(NULL_MAZE_EXCEPTION_TEXT);
+
+        assertThatThrownBy(() -> {
+            junctionGraph.findPath(new Coordinate(DEFAULT_X, DEFAULT_Y), new Coordinate(DEFAULT_X, -1));
+        }).isInstanceOf(CoordinateOutOfRangeException.class)
+            .hasMessageContaining(COORDINATE_OUT_OF_RANGE_EXCEPTION_TEXT);
+    }
+}
@@ -0,0 +1,147 @@
+package backend.academy.mazeTask.solver;
+
+import backend.academy.mazeTask.CommonTest;
+import backend.academy.mazeTask.enums.CellType;
+import backend.academy.mazeTask.exception.CoordinateOutOfRangeException;
+import backend.academy.mazeTask.maze.Coordinate;
+import backend.academy.mazeTask.maze.Maze;
+import backend.academy.mazeTask.maze.MazeSizeLimits;
+import backend.academy.mazeTask.maze.generator.KruskalMazeGenerator;
+import backend.academy.mazeTask.maze.solver.DistanceField;
+import backend.academy.mazeTask.maze.solver.MazeBitboard;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+import static backend.academy.mazeTask.constants.ConstValues.MAX_MAZE_HEIGHT;
+import static backend.academy.mazeTask.constants.ConstValues.MAX_MAZE_WIDTH;
+import static backend.academy.mazeTask.constants.ExceptionTextValues.COORDINATE_OUT_OF_RANGE_EXCEPTION_TEXT;
+import static backend.academy.mazeTask.constants.ExceptionTextValues.NULL_COORDINATE_EXCEPTION_TEXT;
+import static backend.academy.mazeTask.constants.ExceptionTextValues.NULL_MAZE_EXCEPTION_TEXT;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class MazeBitboardTest extends CommonTest {
+
+    private static final int REPETITION_COUNT = 20;
+    private static final int QUERY_COUNT = 200;
+    private static final int WIDE_MAZE_HEIGHT = 31;
+    private static final int WIDE_MAZE_WIDTH = 203;
+    private static final Coordinate DEFAULT_COORDINATE = new Coordinate(DEFAULT_X, DEFAULT_Y);
+
+    @AfterEach
+    public void restoreLimits() {
+        MazeSizeLimits.install(MazeSizeLimits.DEFAULT);
+    }
+
+    @RepeatedTest(REPETITION_COUNT)
+    public void queryMazeWithCycles_ShouldMatchUnitWeightDistances() {
+        assertQueriesMatchDistanceField(new Maze(MAX_MAZE_HEIGHT, MAX_MAZE_WIDTH,
+            getRandomGrid(MAX_MAZE_HEIGHT, MAX_MAZE_WIDTH)));
+    }
+
+    @RepeatedTest(REPETITION_COUNT)
+    public void queryWideMaze_ShouldMatchUnitWeightDistances() {
+        MazeSizeLimits.install(MazeSizeLimits.withMaxSize(WIDE_MAZE_HEIGHT, WIDE_MAZE_WIDTH));
+        assertQueriesMatchDistanceField(new Maze(WIDE_MAZE_HEIGHT, WIDE_MAZE_WIDTH,
+            getRandomGrid(WIDE_MAZE_HEIGHT, WIDE_MAZE_WIDTH)));
+    }
+
+    @RepeatedTest(REPETITION_COUNT)
+    public void queryPerfectMaze_ShouldMatchUnitWeightDistances() {
+        assertQueriesMatchDistanceField(new KruskalMazeGenerator().generate(MAX_MAZE_HEIGHT, MAX_MAZE_WIDTH,
+            SECURE_RANDOM.nextLong()));
+    }
+
+    @Test
+    public void queryWall_ShouldBeUnreachable() {
+        final MazeBitboard mazeBitboard = new MazeBitboard(
+            new KruskalMazeGenerator().generate(DEFAULT_HEIGHT, DEFAULT_WIDTH));
+        final Coordinate wall = new Coordinate(0, 0);
+
+        assertEquals(MazeBitboard.UNREACHABLE, mazeBitboard.getHopDistance(wall, DEFAULT_COORDINATE));
+        assertEquals(MazeBitboard.UNREACHABLE, mazeBitboard.getHopDistance(DEFAULT_COORDINATE, wall));
+        assertEquals(List.of(), mazeBitboard.getHopPath(wall, wall));
+        assertEquals(0, mazeBitboard.countReachable(wall));
+        assertEquals(List.of(DEFAULT_COORDINATE), mazeBitboard.getHopPath(DEFAULT_COORDINATE, DEFAULT_COORDINATE));
+    }
+
+    @Test
+    public void incorrectArguments_ShouldThrowException() {
+        final MazeBitboard mazeBitboard = new MazeBitboard(
+            new KruskalMazeGenerator().generate(DEFAULT_HEIGHT, DEFAULT_WIDTH));
+
+        assertThatThrownBy(() -> {
+            new MazeBitboard(null);
+        }).isInstanceOf(NullPointerException.class)
+            .hasMessageContaining(NULL_MAZE_EXCEPTION_TEXT);
+
+        assertThatThrownBy(() -> {
+            mazeBitboard.isReachable(null, DEFAULT_COORDINATE);
+        }).isInstanceOf(NullPointerException.class)
+            .hasMessageContaining(NULL_COORDINATE_EXCEPTION_TEXT);
+
+        assertThatThrownBy(() -> {
+            mazeBitboard.getHopPath(DEFAULT_COORDINATE, new Coordinate(DEFAULT_HEIGHT, DEFAULT_Y));
+        }).isInstanceOf(CoordinateOutOfRangeException.class)
+            .hasMessageContaining(COORDINATE_OUT_OF_RANGE_EXCEPTION_TEXT);
+
+        assertThatThrownBy(() -> {
+            mazeBitboard.countReachable(new Coordinate(DEFAULT_X, -1));
+        }).isInstanceOf(CoordinateOutOfRangeException.class)
+            .hasMessageContaining(COORDINATE_OUT_OF_RANGE_EXCEPTION_TEXT);
+    }
+
+    /**
+     * Сравнивает ответы битовых досок с полем стоимостей того же лабиринта, в котором у всех проходов вес 1:
+     * стоимость пути в таком лабиринте на единицу больше количества шагов.
+     */
+    private static void assertQueriesMatchDistanceField(Maze maze) {
+        final MazeBitboard mazeBitboard = new MazeBitboard(maze);
+        final Maze unitMaze = getUnitWeightMaze(maze);
+
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            final Coordinate start = getRandomCoordinate(maze);
+            final Coordinate finish = getRandomCoordinate(maze);
+            final int cost = new DistanceField(unitMaze, start).getCost(finish);
+            final int expected = cost == DistanceField.UNREACHABLE ? MazeBitboard.UNREACHABLE : cost - 1;
+            final List<Coordinate> path = mazeBitboard.getHopPath(start, finish);
+
+            assertEquals(expected, mazeBitboard.getHopDistance(start, finish));
+            assertEquals(expected != MazeBitboard.UNREACHABLE, mazeBitboard.isReachable(start, finish));
+            assertEquals(expected + 1, path.size());
+
+            if (!path.isEmpty()) {
+                assertEquals(start, path.getFirst());
+                assertEquals(finish, path.getLast());
+                assertConnectedPath(maze, path);
+            }
+        }
+
+        final Coordinate source = getRandomCoordinate(maze);
+        final DistanceField distanceField = new DistanceField(unitMaze, source);
+        int reachableCount = 0;
+
+        for (int x = 0; x < maze.height(); x++) {
+            for (int y = 0; y < maze.width(); y++) {
+                if (distanceField.getCost(new Coordinate(x, y)) != DistanceField.UNREACHABLE) {
+                    reachableCount++;
+                }
+            }
+        }
+
+        assertEquals(reachableCount, mazeBitboard.countReachable(source));
+    }
+
+    private static Maze getUnitWeightMaze(Maze maze) {
+        final byte[] cells = maze.cells();
+
+        for (int i = 0; i < cells.length; i++) {
+            if (cells[i] != CellType.WALL.code()) {
+                cells[i] = CellType.PASSAGE_WITH_GOOD_COVERAGE.code();
+            }
+        }
+
+        return new Maze(maze.height(), maze.width(), cells);
+    }
+}
@@ -5,9 +5,16 @@ import backend.academy.mazeTask.enums.CellType;
 import backend.academy.mazeTask.exception.CoordinateOutOfRangeException;
 import backend.academy.mazeTask.maze.Coordinate;
 import backend.academy.mazeTask.maze.Maze;
+import backend.academy.mazeTask.maze.generator.KruskalMazeGenerator;
+import backend.academy.mazeTask.maze.solver.DijkstraMazeSolver;
 import backend.academy.mazeTask.maze.solver.MazeSolver;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.BiFunction;
 import org.apache.commons.math3.util.Pair;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -24,18 +31,63 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 
 public abstract class MazeSolverTest extends CommonTest {
 
+    protected static final int REPETITION_COUNT = 20;
+    protected static final int QUERY_COUNT = 2000;
+
+    private static final int CONCURRENT_TASK_COUNT = 200;
+    private static final int CONCURRENT_MAZE_SIZE_RANGE = 8;
+    private static final int THREAD_COUNT = 8;
+
     private static final Coordinate DEFAULT_COORDINATE = new Coordinate(DEFAULT_X, DEFAULT_Y);
     private static final Maze DEFAULT_MAZE = new Maze(DEFAULT_HEIGHT, DEFAULT_WIDTH, getRandomGrid(DEFAULT_HEIGHT, DEFAULT_WIDTH));
 
     protected abstract MazeSolver getMazeSolver();
 
+    /**
+     * Показывает, что решатель гарантирует только стоимость кратчайшего пути: среди путей одинаковой стоимости
+     * он может выбрать другой, поэтому найденный путь сравнивается с ожидаемым по стоимости и длине.
+     */
+    protected boolean isCostEquivalentOnly() {
+        return false;
+    }
+
     @ParameterizedTest
     @MethodSource("getArgumentsForFindShortestWay")
     public void solveMaze_ShouldSolveMaze(CellType[][] grid, Coordinate start, Coordinate finish, List<Coordinate> correctPath) {
         final Maze maze = new Maze(grid.length, grid[0].length, grid);
         final List<Coordinate> result = getMazeSolver().solve(maze, start, finish);
 
-        assertEquals(result, correctPath);
+        if (isCostEquivalentOnly()) {
+            assertEquals(getPathCost(maze, correctPath), getPathCost(maze, result));
+            assertEquals(correctPath.size(), result.size());
+            assertConnectedPath(maze, result);
+        } else {
+            assertEquals(result, correctPath);
+        }
+    }
+
+    @Test
+    public void solveMazesConcurrentlyWithSharedSolver_ShouldFindSamePaths() throws Exception {
+        final MazeSolver mazeSolver = getMazeSolver();
+        final List<Callable<List<Coordinate>>> tasks = new ArrayList<>();
+        final List<List<Coordinate>> expected = new ArrayList<>();
+
+        for (int i = 0; i < CONCURRENT_TASK_COUNT; i++) {
+            final int size = MIN_MAZE_HEIGHT + i % CONCURRENT_MAZE_SIZE_RANGE * 2;
+            final Maze maze = new KruskalMazeGenerator().generate(size, size, SECURE_RANDOM.nextLong());
+            final Coordinate finish = new Coordinate(size - 2, size - 2);
+
+            expected.add(mazeSolver.solve(maze, DEFAULT_COORDINATE, finish));
+            tasks.add(() -> mazeSolver.solve(maze, DEFAULT_COORDINATE, finish));
+        }
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT)) {
+            final List<Future<List<Coordinate>>> results = executor.invokeAll(tasks);
+
+            for (int i = 0; i < CONCURRENT_TASK_COUNT; i++) {
+                assertEquals(expected.get(i), results.get(i).get());
+            }
+        }
     }
 
     @Test
@@ -98,6 +150,50 @@ public abstract class MazeSolverTest extends CommonTest {
             .hasMessageContaining(COORDINATE_OUT_OF_RANGE_EXCEPTION_TEXT);
     }
 
+    /**
+     * Сравнивает пути решателя между случайными ячейками лабиринта с путями {@link DijkstraMazeSolver}.
+     * Используется для идеальных лабиринтов, в которых путь между двумя ячейками единственный.
+     */
+    protected static void assertPathsMatchDijkstra(Maze maze, MazeSolver mazeSolver) {
+        final DijkstraMazeSolver dijkstraMazeSolver = new DijkstraMazeSolver();
+
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            final Coordinate start = getRandomCoordinate(maze);
+            final Coordinate finish = getRandomCoordinate(maze);
+
+            assertEquals(dijkstraMazeSolver.solve(maze, start, finish), mazeSolver.solve(maze, start, finish));
+        }
+    }
+
+    protected static void assertPathsMatchDijkstraCost(Maze maze, MazeSolver mazeSolver) {
+        assertPathsMatchDijkstraCost(maze, (start, finish) -> mazeSolver.solve(maze, start, finish));
+    }
+
+    /**
+     * Сравнивает стоимость путей между случайными ячейками лабиринта со стоимостью путей {@link DijkstraMazeSolver}.
+     * Используется для решателей, которые среди путей одинаковой стоимости могут выбрать другой путь.
+     */
+    protected static void assertPathsMatchDijkstraCost(Maze maze,
+        BiFunction<Coordinate, Coordinate, List<Coordinate>> pathFinder) {
+        final DijkstraMazeSolver dijkstraMazeSolver = new DijkstraMazeSolver();
+
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            final Coordinate start = getRandomCoordinate(maze);
+            final Coordinate finish = getRandomCoordinate(maze);
+            final List<Coordinate> expected = dijkstraMazeSolver.solve(maze, start, finish);
+            final List<Coordinate> path = pathFinder.apply(start, finish);
+
+            assertEquals(getPathCost(maze, expected), getPathCost(maze, path));
+            assertEquals(expected.isEmpty(), path.isEmpty());
+
+            if (!path.isEmpty()) {
+                assertEquals(start, path.getFirst());
+                assertEquals(finish, path.getLast());
+                assertConnectedPath(maze, path);
+            }
+        }
+    }
+
     private static List<Object[]> getArgumentsForSolveMazeWithOutOufRangeXCoordinate() {
         return getArgumentsForSolveMazeWithOutOufRangeCoordinate(MIN_MAZE_HEIGHT, MAX_MAZE_HEIGHT);
     }
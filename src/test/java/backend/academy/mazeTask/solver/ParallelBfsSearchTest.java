@@ -0,0 +1,116 @@
+package backend.academy.mazeTask.solver;
+
+import backend.academy.mazeTask.CommonTest;
+import backend.academy.mazeTask.enums.CellType;
+import backend.academy.mazeTask.exception.CoordinateOutOfRangeException;
+import backend.academy.mazeTask.exception.IncorrectParallelismException;
+import backend.academy.mazeTask.maze.Coordinate;
+import backend.academy.mazeTask.maze.Maze;
+import backend.academy.mazeTask.maze.MazeSizeLimits;
+import backend.academy.mazeTask.maze.generator.KruskalMazeGenerator;
+import backend.academy.mazeTask.maze.solver.MazeBitboard;
+import backend.academy.mazeTask.maze.solver.ParallelBfsSearch;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import static backend.academy.mazeTask.constants.ConstValues.MAX_MAZE_HEIGHT;
+import static backend.academy.mazeTask.constants.ConstValues.MAX_MAZE_WIDTH;
+import static backend.academy.mazeTask.constants.ExceptionTextValues.COORDINATE_OUT_OF_RANGE_EXCEPTION_TEXT;
+import static backend.academy.mazeTask.constants.ExceptionTextValues.INCORRECT_PARALLELISM_EXCEPTION_TEXT;
+import static backend.academy.mazeTask.constants.ExceptionTextValues.NULL_COORDINATE_EXCEPTION_TEXT;
+import static backend.academy.mazeTask.constants.ExceptionTextValues.NULL_MAZE_EXCEPTION_TEXT;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class ParallelBfsSearchTest extends CommonTest {
+
+    private static final int QUERY_COUNT = 200;
+    private static final int LARGE_SIZE = 1001;
+    private static final Coordinate DEFAULT_COORDINATE = new Coordinate(DEFAULT_X, DEFAULT_Y);
+
+    @AfterEach
+    public void restoreLimits() {
+        MazeSizeLimits.install(MazeSizeLimits.DEFAULT);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    public void findPathsInMazeWithCycles_ShouldMatchBitboardPaths(int parallelism) {
+        assertPathsMatchBitboard(new Maze(MAX_MAZE_HEIGHT, MAX_MAZE_WIDTH,
+            getRandomGrid(MAX_MAZE_HEIGHT, MAX_MAZE_WIDTH)), new ParallelBfsSearch(parallelism));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    public void findPathsInPerfectMaze_ShouldMatchBitboardPaths(int parallelism) {
+        assertPathsMatchBitboard(new KruskalMazeGenerator().generate(MAX_MAZE_HEIGHT, MAX_MAZE_WIDTH,
+            SECURE_RANDOM.nextLong()), new ParallelBfsSearch(parallelism));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 4})
+    public void findPathInLargeOpenMaze_ShouldNotDependOnParallelism(int parallelism) {
+        MazeSizeLimits.install(MazeSizeLimits.withMaxSize(LARGE_SIZE, LARGE_SIZE));
+
+        final Maze maze = getOpenRoom(LARGE_SIZE, () -> CellType.PASSAGE);
+        final Coordinate start = new Coordinate(LARGE_SIZE / 2, LARGE_SIZE / 2);
+        final Coordinate finish = new Coordinate(LARGE_SIZE - 2, 1);
+        final List<Coordinate> path = new ParallelBfsSearch(parallelism).findHopPath(maze, start, finish);
+
+        assertEquals(new MazeBitboard(maze).getHopPath(start, finish), path);
+        assertEquals(LARGE_SIZE - 2, path.size());
+    }
+
+    @Test
+    public void queryWall_ShouldBeUnreachable() {
+        final Maze maze = new KruskalMazeGenerator().generate(DEFAULT_HEIGHT, DEFAULT_WIDTH);
+        final ParallelBfsSearch parallelBfsSearch = new ParallelBfsSearch();
+        final Coordinate wall = new Coordinate(0, 0);
+
+        assertEquals(ParallelBfsSearch.UNREACHABLE, parallelBfsSearch.getHopDistance(maze, wall, DEFAULT_COORDINATE));
+        assertEquals(List.of(), parallelBfsSearch.findHopPath(maze, DEFAULT_COORDINATE, wall));
+        assertEquals(List.of(DEFAULT_COORDINATE),
+            parallelBfsSearch.findHopPath(maze, DEFAULT_COORDINATE, DEFAULT_COORDINATE));
+    }
+
+    @Test
+    public void incorrectArguments_ShouldThrowException() {
+        final Maze maze = new KruskalMazeGenerator().generate(DEFAULT_HEIGHT, DEFAULT_WIDTH);
+        final ParallelBfsSearch parallelBfsSearch = new ParallelBfsSearch();
+
+        assertThatThrownBy(() -> {
+            new ParallelBfsSearch(0);
+        }).isInstanceOf(IncorrectParallelismException.class)
+            .hasMessageContaining(INCORRECT_PARALLELISM_EXCEPTION_TEXT);
+
+        assertThatThrownBy(() -> {
+            parallelBfsSearch.findHopPath(null, DEFAULT_COORDINATE, DEFAULT_COORDINATE);
+        }).isInstanceOf(NullPointerException.class)
+            .hasMessageContaining(NULL_MAZE_EXCEPTION_TEXT);
+
+        assertThatThrownBy(() -> {
+            parallelBfsSearch.getHopDistance(maze, DEFAULT_COORDINATE, null);
+        }).isInstanceOf(NullPointerException.class)
+            .hasMessageContaining(NULL_COORDINATE_EXCEPTION_TEXT);
+
+        assertThatThrownBy(() -> {
+            parallelBfsSearch.findHopPath(maze, new Coordinate(-1, DEFAULT_Y), DEFAULT_COORDINATE);
+        }).isInstanceOf(CoordinateOutOfRangeException.class)
+            .hasMessageContaining(COORDINATE_OUT_OF_RANGE_EXCEPTION_TEXT);
+    }
+
+    private static void assertPathsMatchBitboard(Maze maze, ParallelBfsSearch parallelBfsSearch) {
+        final MazeBitboard mazeBitboard = new MazeBitboard(maze);
+
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            final Coordinate start = getRandomCoordinate(maze);
+            final Coordinate finish = getRandomCoordinate(maze);
+
+            assertEquals(mazeBitboard.getHopDistance(start, finish),
+                parallelBfsSearch.getHopDistance(maze, start, finish));
+            assertEquals(mazeBitboard.getHopPath(start, finish), parallelBfsSearch.findHopPath(maze, start, finish));
+        }
+    }
+}
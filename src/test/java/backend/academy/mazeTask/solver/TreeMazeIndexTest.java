@@ -0,0 +1,124 @@
+package backend.academy.mazeTask.solver;
+
+import backend.academy.mazeTask.CommonTest;
+import backend.academy.mazeTask.enums.CellType;
+import backend.academy.mazeTask.enums.GeneratorType;
+import backend.academy.mazeTask.exception.CoordinateOutOfRangeException;
+import backend.academy.mazeTask.maze.Coordinate;
+import backend.academy.mazeTask.maze.Maze;
+import backend.academy.mazeTask.maze.generator.KruskalMazeGenerator;
+import backend.academy.mazeTask.maze.solver.DijkstraMazeSolver;
+import backend.academy.mazeTask.maze.solver.TreeMazeIndex;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import static backend.academy.mazeTask.constants.ConstValues.MAX_MAZE_HEIGHT;
+import static backend.academy.mazeTask.constants.ConstValues.MAX_MAZE_WIDTH;
+import static backend.academy.mazeTask.constants.ExceptionTextValues.COORDINATE_OUT_OF_RANGE_EXCEPTION_TEXT;
+import static backend.academy.mazeTask.constants.ExceptionTextValues.NULL_COORDINATE_EXCEPTION_TEXT;
+import static backend.academy.mazeTask.constants.ExceptionTextValues.NULL_MAZE_EXCEPTION_TEXT;
+import static backend.academy.mazeTask.constants.ExceptionTextValues.NULL_MAZE_SOLVER_EXCEPTION_TEXT;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TreeMazeIndexTest extends CommonTest {
+
+    private static final int QUERY_COUNT = 2000;
+    private static final Coordinate DEFAULT_COORDINATE = new Coordinate(DEFAULT_X, DEFAULT_Y);
+
+    @ParameterizedTest
+    @EnumSource(GeneratorType.class)
+    public void queryPerfectMaze_ShouldMatchDijkstra(GeneratorType generatorType) {
+        final Maze maze = generatorType.create().generate(MAX_MAZE_HEIGHT, MAX_MAZE_WIDTH, SECURE_RANDOM.nextLong());
+        final TreeMazeIndex treeMazeIndex = new TreeMazeIndex(maze);
+
+        assertTrue(treeMazeIndex.isTree());
+        assertQueriesMatchDijkstra(treeMazeIndex);
+    }
+
+    @Test
+    public void queryMazeWithSplitCorridor_ShouldFindNoPathBetweenParts() {
+        final Maze perfectMaze = new KruskalMazeGenerator().generate(MAX_MAZE_HEIGHT, MAX_MAZE_WIDTH,
+            SECURE_RANDOM.nextLong());
+        final byte[] cells = perfectMaze.cells();
+        final int wallIndex = findCorridor(perfectMaze);
+
+        cells[wallIndex] = CellType.WALL.code();
+
+        final Maze maze = new Maze(perfectMaze.height(), perfectMaze.width(), cells);
+        final TreeMazeIndex treeMazeIndex = new TreeMazeIndex(maze);
+        final Coordinate wall = maze.getCoordinate(wallIndex);
+
+        assertTrue(treeMazeIndex.isTree());
+        assertEquals(List.of(), treeMazeIndex.getPath(new Coordinate(wall.x() - 1, wall.y()),
+            new Coordinate(wall.x() + 1, wall.y())));
+        assertQueriesMatchDijkstra(treeMazeIndex);
+    }
+
+    @Test
+    public void queryMazeWithCycles_ShouldUseFallbackSolver() {
+        final Maze maze = new Maze(MAX_MAZE_HEIGHT, MAX_MAZE_WIDTH, getRandomGrid(MAX_MAZE_HEIGHT, MAX_MAZE_WIDTH));
+        final TreeMazeIndex treeMazeIndex = new TreeMazeIndex(maze, new DijkstraMazeSolver());
+
+        assertFalse(treeMazeIndex.isTree());
+        assertQueriesMatchDijkstra(treeMazeIndex);
+    }
+
+    @Test
+    public void incorrectArguments_ShouldThrowException() {
+        final Maze maze = new KruskalMazeGenerator().generate(DEFAULT_HEIGHT, DEFAULT_WIDTH);
+        final TreeMazeIndex treeMazeIndex = new TreeMazeIndex(maze);
+
+        assertThatThrownBy(() -> {
+            new TreeMazeIndex(null);
+        }).isInstanceOf(NullPointerException.class)
+            .hasMessageContaining(NULL_MAZE_EXCEPTION_TEXT);
+
+        assertThatThrownBy(() -> {
+            new TreeMazeIndex(maze, null);
+        }).isInstanceOf(NullPointerException.class)
+            .hasMessageContaining(NULL_MAZE_SOLVER_EXCEPTION_TEXT);
+
+        assertThatThrownBy(() -> {
+            treeMazeIndex.getPath(DEFAULT_COORDINATE, null);
+        }).isInstanceOf(NullPointerException.class)
+            .hasMessageContaining(NULL_COORDINATE_EXCEPTION_TEXT);
+
+        assertThatThrownBy(() -> {
+            treeMazeIndex.getCost(new Coordinate(DEFAULT_HEIGHT, DEFAULT_Y), DEFAULT_COORDINATE);
+        }).isInstanceOf(CoordinateOutOfRangeException.class)
+            .hasMessageContaining(COORDINATE_OUT_OF_RANGE_EXCEPTION_TEXT);
+    }
+
+    private static void assertQueriesMatchDijkstra(TreeMazeIndex treeMazeIndex) {
+        final Maze maze = treeMazeIndex.maze();
+        final DijkstraMazeSolver dijkstraMazeSolver = new DijkstraMazeSolver();
+
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            final Coordinate start = getRandomCoordinate(maze);
+            final Coordinate finish = i % MAX_MAZE_HEIGHT == 0 ? start : getRandomCoordinate(maze);
+            final List<Coordinate> expected = dijkstraMazeSolver.solve(maze, start, finish);
+
+            assertEquals(expected, treeMazeIndex.getPath(start, finish));
+            assertEquals(expected.isEmpty() ? TreeMazeIndex.UNREACHABLE : getPathCost(maze, expected),
+                treeMazeIndex.getCost(start, finish));
+            assertEquals(expected.isEmpty() ? TreeMazeIndex.UNREACHABLE : expected.size() - 1,
+                treeMazeIndex.getDistance(start, finish));
+        }
+    }
+
+    private static int findCorridor(Maze maze) {
+        for (int x = 2; x < maze.height() - 2; x += 2) {
+            for (int y = 1; y < maze.width() - 1; y += 2) {
+                if (maze.isPassage(maze.getIndex(x, y))) {
+                    return maze.getIndex(x, y);
+                }
+            }
+        }
+
+        throw new IllegalStateException();
+    }
+}